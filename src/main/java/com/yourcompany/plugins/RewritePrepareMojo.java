@@ -1,25 +1,44 @@
 package com.yourcompany.plugins;
 
 import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.model.Plugin;
+import org.apache.maven.model.PluginExecution;
 import org.apache.maven.plugin.AbstractMojo;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.project.MavenProject;
+import org.codehaus.plexus.util.xml.Xpp3Dom;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.yourcompany.plugins.rewriteprepare.model.MergeRecipeDefinition;
 import com.yourcompany.plugins.rewriteprepare.model.MergeRules;
-import com.yourcompany.plugins.rewriteprepare.model.RecipeDefinition;
+import com.yourcompany.plugins.rewriteprepare.model.ProjectCoordinate;
+import com.yourcompany.plugins.rewriteprepare.model.RecipeCatalog;
 import com.yourcompany.plugins.rewriteprepare.model.Rule;
-import com.yourcompany.plugins.rewriteprepare.service.PatternMatcher;
+import com.yourcompany.plugins.rewriteprepare.service.BuildStamp;
+import com.yourcompany.plugins.rewriteprepare.service.RecipeDiskCache;
+import com.yourcompany.plugins.rewriteprepare.service.RecipeFlattener;
+import com.yourcompany.plugins.rewriteprepare.service.RecipeGraphAnalyzer;
+import com.yourcompany.plugins.rewriteprepare.service.RecipeListDeduplicator;
 import com.yourcompany.plugins.rewriteprepare.service.RecipeListUpdater;
 import com.yourcompany.plugins.rewriteprepare.service.RecipeMerger;
+import com.yourcompany.plugins.rewriteprepare.service.RecipeParseCache;
+import com.yourcompany.plugins.rewriteprepare.service.RecipeReachabilityPruner;
+import com.yourcompany.plugins.rewriteprepare.service.RecipeUpdatePlan;
+import com.yourcompany.plugins.rewriteprepare.service.RuleMatchPlan;
 import com.yourcompany.plugins.rewriteprepare.service.YamlParser;
 
 /**
@@ -30,17 +49,32 @@ import com.yourcompany.plugins.rewriteprepare.service.YamlParser;
  * 
  * 처리 순서:
  * 1. merge-rules.yml 파일을 읽어서 현재 프로젝트의 groupId, artifactId와 매칭되는 규칙을 찾습니다.
- * 2. 매칭된 규칙들의 mergeFiles를 병합합니다.
- * 3. 매칭된 규칙들의 updateRecipeList를 순서대로 수행합니다.
- * 4. 최종 결과를 outputFile에 저장합니다.
+ * 2. 매칭된 규칙들의 mergeFiles를 병합합니다. 같은 이름의 recipe 정의는 duplicateStrategy에 따라 처리합니다.
+ * 3. merge definition과 매칭된 규칙들의 updateRecipeList를 대상 recipe별로 묶어 순서대로 수행합니다.
+ * 4. flattenRecipes가 설정되면 로컬에 정의된 composite recipe 참조를 leaf recipe 목록으로 펼칩니다.
+ * 5. dedupeRecipeList가 설정되면 각 recipeList에서 이름과 attributes가 같은 중복 항목을 제거합니다.
+ * 6. pruneUnreachable이 설정되면 루트 recipe에서 도달할 수 없는 정의를 제외합니다.
+ * 7. recipeGraphCheck가 설정되면 recipeList의 순환 참조와 정의되지 않은 참조를 검사합니다.
+ * 8. 최종 결과를 outputFile에 저장합니다.
+ *
+ * 입력(머지 규칙 파일, 매칭된 recipe 파일, groupId/artifactId, 플러그인 버전, goal 파라미터)이
+ * 이전 실행의 stamp와 같고 outputFile도 변경되지 않았으면(또는 resolve goal이 치환한 결과 그대로이면)
+ * 위 과정을 모두 건너뜁니다.
  */
 @Mojo(name = "prepare", defaultPhase = org.apache.maven.plugins.annotations.LifecyclePhase.PROCESS_RESOURCES)
 public class RewritePrepareMojo extends AbstractMojo {
     private static final Logger logger = LoggerFactory.getLogger(RewritePrepareMojo.class);
+    private static final String PREPARE_STAMP_FILE = "prepare.stamp";
+    private static final String OUTPUT_HASH_KEY = "outputHash";
+    private static final String REWRITE_PLUGIN_KEY = "org.openrewrite.maven:rewrite-maven-plugin";
+    private static final String ACTIVE_RECIPES_PROPERTY = "rewrite.activeRecipes";
 
     @Parameter(defaultValue = "${project}", readonly = true, required = true)
     private MavenProject project;
 
+    @Parameter(defaultValue = "${session}", readonly = true)
+    private MavenSession session;
+
     /**
      * recipe 파일들이 있는 디렉토리
      * 기본값: ${project.basedir}
@@ -79,14 +113,142 @@ public class RewritePrepareMojo extends AbstractMojo {
     @Parameter(property = "rewrite-prepare.artifactId")
     private String artifactId;
 
-    private final YamlParser yamlParser;
-    private final RecipeMerger recipeMerger;
-    private final RecipeListUpdater recipeListUpdater;
+    /**
+     * recipe 파일 파싱 결과를 저장하는 영구 캐시 디렉토리
+     * 여러 모듈과 빌드 간에 공유할 수 있도록 기본값은 실행 루트 디렉토리 아래에 있습니다.
+     * 캐시 파일은 플러그인 버전별 하위 디렉토리에 저장됩니다.
+     * 기본값: ${session.executionRootDirectory}/target/rewrite-prepare/parse-cache
+     * CLI 변수명: rewrite-prepare.cacheDirectory
+     */
+    @Parameter(property = "rewrite-prepare.cacheDirectory", defaultValue = "${session.executionRootDirectory}/target/rewrite-prepare/parse-cache")
+    private File cacheDirectory;
+
+    /**
+     * 영구 파싱 캐시 사용 여부
+     * 같은 버전의 SNAPSHOT 빌드끼리는 캐시를 구분할 수 없으므로 기본값은 false입니다.
+     * 기본값: false
+     * CLI 변수명: rewrite-prepare.persistentCache
+     */
+    @Parameter(property = "rewrite-prepare.persistentCache", defaultValue = "false")
+    private boolean persistentCache;
+
+    /**
+     * 입력이 변경되지 않았으면 prepare goal을 건너뛸지 여부
+     * 기본값: true
+     * CLI 변수명: rewrite-prepare.skipIfUpToDate
+     */
+    @Parameter(property = "rewrite-prepare.skipIfUpToDate", defaultValue = "true")
+    private boolean skipIfUpToDate;
+
+    /**
+     * up-to-date 검사용 stamp 파일을 저장하는 디렉토리
+     * 기본값: ${project.build.directory}/rewrite-prepare
+     * CLI 변수명: rewrite-prepare.stampDirectory
+     */
+    @Parameter(property = "rewrite-prepare.stampDirectory", defaultValue = "${project.build.directory}/rewrite-prepare")
+    private File stampDirectory;
+
+    /**
+     * mergeFiles를 동시에 파싱할 최대 파일 수
+     * 크기가 큰(512KB 이상) recipe 파일은 문서 경계에서 나누어 이 수만큼의 스레드로 파일 내부도 동시에 파싱합니다.
+     * 0 이하이면 사용 가능한 CPU 수를 사용하고, 1이면 순서대로 파싱합니다.
+     * 파싱 순서와 관계없이 병합 결과는 mergeFiles 순서와 파일 내 문서 순서를 유지합니다.
+     * 대상 recipe가 서로 다른 updateRecipeList도 이 수만큼의 스레드로 동시에 적용하며, 결과와 로그 순서는 순차 적용과 같습니다.
+     * 기본값: 0
+     * CLI 변수명: rewrite-prepare.parallelism
+     */
+    @Parameter(property = "rewrite-prepare.parallelism", defaultValue = "0")
+    private int parallelism;
+
+    /**
+     * 같은 대상 recipe에 대한 여러 updateRecipeList의 적용 방식
+     * - sequential: merge definition 순서대로 하나씩 적용합니다. 적용 시점에 없는 before/after 기준 recipe는 건너뜁니다.
+     * - constraint: 대상의 모든 first/last/before/after를 순서 제약으로 모아 한 번에 최종 순서를 계산합니다.
+     *   나중에 적용되는 파일에서 추가되는 recipe도 기준으로 사용할 수 있고, 순환 제약은 경고로 보고합니다.
+     * 기본값: sequential
+     * CLI 변수명: rewrite-prepare.orderingMode
+     */
+    @Parameter(property = "rewrite-prepare.orderingMode", defaultValue = "sequential")
+    private String orderingMode;
+
+    /**
+     * 여러 mergeFiles에 같은 이름의 recipe 정의가 있을 때의 처리 방식
+     * - keep: 모든 정의를 출력합니다 (recipeList 업데이트는 먼저 정의된 것에만 적용되며 경고를 출력합니다).
+     * - first: 먼저 정의된 것을 사용하고 이후 정의는 무시합니다.
+     * - last: 나중에 정의된 것으로 대체합니다 (출력 위치는 먼저 정의된 위치).
+     * - union: 먼저 정의된 것에 이후 정의의 recipeList 중 없는 recipe를 추가합니다.
+     * 기본값: keep
+     * CLI 변수명: rewrite-prepare.duplicateStrategy
+     */
+    @Parameter(property = "rewrite-prepare.duplicateStrategy", defaultValue = "keep")
+    private String duplicateStrategy;
+
+    /**
+     * 로컬에 정의된 composite recipe 참조를 그 정의의 leaf recipe 목록으로 펼칠지 여부
+     * 각 leaf recipe의 attributes는 유지하고, 이름과 attributes가 같은 항목은 한 번만 남깁니다.
+     * attributes가 있는 참조와 preconditions/exclusions가 있는 정의는 펼치지 않습니다.
+     * 기본값: false
+     * CLI 변수명: rewrite-prepare.flattenRecipes
+     */
+    @Parameter(property = "rewrite-prepare.flattenRecipes", defaultValue = "false")
+    private boolean flattenRecipes;
+
+    /**
+     * 각 recipeList에서 이름과 attributes가 모두 같은 중복 항목을 제거할지 여부
+     * 처음 등장한 항목만 남기며, 이름이 같아도 attributes가 다른 항목은 유지합니다.
+     * 기본값: false
+     * CLI 변수명: rewrite-prepare.dedupeRecipeList
+     */
+    @Parameter(property = "rewrite-prepare.dedupeRecipeList", defaultValue = "false")
+    private boolean dedupeRecipeList;
+
+    /**
+     * 루트 recipe에서 recipeList 참조로 도달할 수 없는 recipe 정의를 출력에서 제외할지 여부
+     * 루트는 recipeRoots, 없으면 rewrite-maven-plugin의 activeRecipes를 사용합니다.
+     * 루트를 찾을 수 없으면 경고를 남기고 모든 정의를 출력합니다.
+     * 기본값: false
+     * CLI 변수명: rewrite-prepare.pruneUnreachable
+     */
+    @Parameter(property = "rewrite-prepare.pruneUnreachable", defaultValue = "false")
+    private boolean pruneUnreachable;
+
+    /**
+     * 도달 가능 여부를 판단할 루트 recipe 이름 목록 (pruneUnreachable=true일 때 사용)
+     * 지정하지 않으면 rewrite-maven-plugin 설정의 activeRecipes(또는 rewrite.activeRecipes 속성)를 사용합니다.
+     * CLI 변수명: rewrite-prepare.recipeRoots (쉼표로 구분)
+     */
+    @Parameter(property = "rewrite-prepare.recipeRoots")
+    private List<String> recipeRoots;
+
+    /**
+     * 출력할 recipe 정의의 recipeList 참조 검사 방식
+     * 순환 참조와 정의되지 않은 recipe 참조(knownExternalRecipes에 맞는 이름 제외)를 찾습니다.
+     * - off: 검사하지 않습니다.
+     * - warn: 문제를 경고로 출력합니다.
+     * - fail: 문제가 있으면 빌드를 실패시킵니다.
+     * 기본값: off
+     * CLI 변수명: rewrite-prepare.recipeGraphCheck
+     */
+    @Parameter(property = "rewrite-prepare.recipeGraphCheck", defaultValue = "off")
+    private String recipeGraphCheck;
+
+    /**
+     * recipeList에서 참조해도 되는 외부(병합 대상 파일에 정의되지 않은) recipe 이름의 glob 패턴 목록
+     * 기본값: org.openrewrite.*
+     * CLI 변수명: rewrite-prepare.knownExternalRecipes (쉼표로 구분)
+     */
+    @Parameter(property = "rewrite-prepare.knownExternalRecipes", defaultValue = "org.openrewrite.*")
+    private List<String> knownExternalRecipes;
+
+    @Parameter(defaultValue = "${plugin.version}", readonly = true)
+    private String pluginVersion;
+
+    private YamlParser yamlParser;
+    private RecipeMerger recipeMerger;
+    private RecipeListUpdater recipeListUpdater;
 
     public RewritePrepareMojo() {
-        this.yamlParser = new YamlParser();
-        this.recipeMerger = new RecipeMerger(yamlParser);
-        this.recipeListUpdater = new RecipeListUpdater();
+        // YamlParser(ObjectMapper)와 RecipeListUpdater는 up-to-date 검사 이후에 필요할 때만 생성합니다.
     }
 
     @Override
@@ -120,14 +282,41 @@ public class RewritePrepareMojo extends AbstractMojo {
             logger.info("  groupId: {}", groupId);
             logger.info("  artifactId: {}", artifactId);
 
+            // 정리 루트는 stamp 파라미터에 포함되므로 up-to-date 검사 전에 결정
+            Set<String> pruneRoots = pruneUnreachable ? resolvePruneRoots() : null;
+
+            // up-to-date 검사 (ObjectMapper를 생성하기 전에 수행)
+            File stampFile = new File(stampDirectory, PREPARE_STAMP_FILE);
+            String parametersHash = BuildStamp.hashParameters(stampParameters(pruneRoots));
+            if (skipIfUpToDate && isUpToDate(stampFile, parametersHash)) {
+                logger.info("입력이 변경되지 않았으므로 prepare goal을 건너뜁니다. (stamp: {})", stampFile.getAbsolutePath());
+                return;
+            }
+            // 실행이 실패했을 때 이전 stamp가 남아 있지 않도록 먼저 삭제
+            stampFile.delete();
+
+            BuildStamp stamp = new BuildStamp();
+            stamp.setParametersHash(parametersHash);
+            stamp.addInputFile(mergeRuleFile);
+
             // merge-rules.yml 파일 읽기
             if (!mergeRuleFile.exists()) {
                 throw new MojoExecutionException("머지 규칙 파일이 존재하지 않습니다: " + mergeRuleFile.getAbsolutePath());
             }
 
+            // reactor 빌드 동안 recipe 파일 파싱 결과를 모듈 간에 공유
+            int parseThreads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+            yamlParser = new YamlParser(parseThreads);
+            RecipeDiskCache diskCache = persistentCache && cacheDirectory != null ? new RecipeDiskCache(cacheDirectory, pluginVersion) : null;
+            recipeMerger = new RecipeMerger(yamlParser, RecipeParseCache.forSession(sessionKey(session), yamlParser, diskCache), parseThreads,
+                    parseDuplicateStrategy());
+            recipeListUpdater = new RecipeListUpdater(parseThreads, parseOrderingMode());
+            RecipeGraphAnalyzer.CheckMode graphCheck = parseRecipeGraphCheck();
+
             MergeRules mergeRules = yamlParser.parseMergeRules(mergeRuleFile);
             if (mergeRules.getRules() == null || mergeRules.getRules().isEmpty()) {
                 logger.warn("머지 규칙이 없습니다. 처리할 내용이 없습니다.");
+                writeStamp(stamp, stampFile, null);
                 return;
             }
 
@@ -135,39 +324,65 @@ public class RewritePrepareMojo extends AbstractMojo {
             validateRules(mergeRules.getRules());
 
             // 현재 프로젝트와 매칭되는 규칙 찾기
-            List<Rule> matchedRules = findMatchingRules(mergeRules.getRules(), groupId, artifactId);
+            List<Rule> matchedRules = findMatchingRules(mergeRules.getRules(), stamp.getInputHashes().get(mergeRuleFile.getAbsolutePath()));
             if (matchedRules.isEmpty()) {
                 logger.warn("매칭되는 머지 규칙이 없습니다. groupId={}, artifactId={}", groupId, artifactId);
+                writeStamp(stamp, stampFile, null);
                 return;
             }
 
             logger.info("매칭된 규칙: {} 개", matchedRules.size());
+            for (Rule rule : matchedRules) {
+                if (rule.getMergeFiles() != null) {
+                    for (String mergeFile : rule.getMergeFiles()) {
+                        stamp.addInputFile(new File(recipeDirectory, mergeFile));
+                    }
+                }
+            }
 
             // 1단계: 모든 규칙의 mergeFiles 병합 (MergeRecipeDefinition 포함)
             RecipeMerger.MergeResult mergeResult = mergeAllFilesWithMerge(matchedRules);
-            List<RecipeDefinition> mergedRecipes = mergeResult.getRecipes();
+            RecipeCatalog mergedRecipes = mergeResult.getRecipes();
             List<MergeRecipeDefinition> mergedMergeDefinitions = mergeResult.getMergeDefinitions();
 
-            // 2단계: MergeRecipeDefinition의 updateRecipeList 수행
+            // 2단계: 업데이트 계획 작성 (MergeRecipeDefinition의 rules, merge-rules.yml의 updateRecipeList 순서)
+            RecipeUpdatePlan updatePlan = new RecipeUpdatePlan();
             for (MergeRecipeDefinition mergeDef : mergedMergeDefinitions) {
-                if (mergeDef.getRules() != null) {
-                    for (com.yourcompany.plugins.rewriteprepare.model.UpdateRecipeList updateRecipeList : mergeDef.getRules()) {
-                        if (updateRecipeList != null) {
-                            mergedRecipes = recipeListUpdater.updateRecipeList(mergedRecipes, updateRecipeList);
-                        }
-                    }
-                }
+                updatePlan.addAll(mergeDef.getRules());
             }
-
-            // 3단계: merge-rules.yml의 updateRecipeList 수행
             for (Rule rule : matchedRules) {
                 if (rule.getUpdateRecipeList() != null) {
-                    mergedRecipes = recipeListUpdater.updateRecipeList(mergedRecipes, rule.getUpdateRecipeList());
+                    updatePlan.add(rule.getUpdateRecipeList());
                 }
             }
 
-            // 4단계: 결과 출력 (MergeRecipeDefinition은 제외)
+            // 3단계: 대상 recipe별로 업데이트 적용
+            List<RecipeListUpdater.UpdateSummary> updateSummaries = recipeListUpdater.applyPlan(mergedRecipes, updatePlan);
+            logUpdateSummaries(updatePlan, updateSummaries);
+
+            // 4단계: composite recipe 펼치기 (flattenRecipes)
+            if (flattenRecipes) {
+                new RecipeFlattener().flatten(mergedRecipes);
+            }
+
+            // 5단계: recipeList 중복 항목 제거 (dedupeRecipeList)
+            if (dedupeRecipeList) {
+                new RecipeListDeduplicator().dedupe(mergedRecipes);
+            }
+
+            // 6단계: 루트에서 도달할 수 없는 recipe 정의 제외 (pruneUnreachable)
+            if (pruneRoots != null && !pruneRoots.isEmpty()) {
+                mergedRecipes = new RecipeReachabilityPruner().prune(mergedRecipes, pruneRoots).getRecipes();
+            }
+
+            // 7단계: recipeList 참조 검사 (recipeGraphCheck)
+            if (graphCheck != RecipeGraphAnalyzer.CheckMode.OFF) {
+                checkRecipeGraph(mergedRecipes, graphCheck);
+            }
+
+            // 8단계: 결과 출력 (MergeRecipeDefinition은 제외)
             yamlParser.writeRecipes(mergedRecipes, outputFile);
+            writeStamp(stamp, stampFile, outputFile);
 
             logger.info("Rewrite Prepare Maven Plugin 실행 완료");
 
@@ -177,6 +392,256 @@ public class RewritePrepareMojo extends AbstractMojo {
         }
     }
 
+    /**
+     * 대상 recipe별 업데이트 결과를 로그로 출력합니다.
+     */
+    private void logUpdateSummaries(RecipeUpdatePlan updatePlan, List<RecipeListUpdater.UpdateSummary> summaries) {
+        if (updatePlan.isEmpty()) {
+            return;
+        }
+        int added = 0;
+        for (RecipeListUpdater.UpdateSummary summary : summaries) {
+            added += summary.getAdded().size();
+            if (summary.isTargetFound()) {
+                logger.debug("  {}: 추가 {}, 스킵(중복) {}, 기준 recipe 없음 {}", summary.getTargetName(),
+                        summary.getAdded(), summary.getSkipped(), summary.getMissingAnchors());
+            } else {
+                logger.debug("  {}: 대상 recipe 없음", summary.getTargetName());
+            }
+        }
+        logger.info("RecipeList 업데이트 완료: {} 개의 업데이트, {} 개의 대상 recipe, {} 개의 recipe 추가",
+                updatePlan.getUpdateCount(), summaries.size(), added);
+    }
+
+    /**
+     * 출력할 recipe 정의의 순환 참조와 정의되지 않은 참조를 검사합니다.
+     *
+     * @throws MojoExecutionException checkMode가 FAIL이고 문제가 있는 경우
+     */
+    private void checkRecipeGraph(RecipeCatalog recipes, RecipeGraphAnalyzer.CheckMode checkMode) throws MojoExecutionException {
+        RecipeGraphAnalyzer.GraphReport report = new RecipeGraphAnalyzer(knownExternalRecipes).analyze(recipes);
+        if (!report.hasProblems()) {
+            logger.info("recipeList 참조 검사 완료: 문제 없음");
+            return;
+        }
+        for (List<String> cycle : report.getCycles()) {
+            logger.warn("recipeList 순환 참조: {}", cycle);
+        }
+        for (Map.Entry<String, Set<String>> entry : report.getDanglingReferences().entrySet()) {
+            logger.warn("정의되지 않은 recipe 참조: {} (참조하는 recipe: {})", entry.getKey(), entry.getValue());
+        }
+        if (checkMode == RecipeGraphAnalyzer.CheckMode.FAIL) {
+            throw new MojoExecutionException(String.format(
+                    "recipeList 참조 검사 실패: 순환 참조 %d 개, 정의되지 않은 recipe %d 개",
+                    report.getCycles().size(), report.getDanglingReferences().size()));
+        }
+    }
+
+    /**
+     * 출력 결과에 영향을 주는 goal 파라미터 목록을 반환합니다.
+     * 이 값들 중 하나라도 바뀌면 up-to-date 검사에서 변경된 것으로 판단합니다.
+     *
+     * @param pruneRoots 도달 가능 여부를 판단할 루트 recipe 이름 (정리하지 않으면 null)
+     */
+    private Map<String, Object> stampParameters(Set<String> pruneRoots) {
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        parameters.put("pluginVersion", pluginVersion);
+        parameters.put("groupId", groupId);
+        parameters.put("artifactId", artifactId);
+        parameters.put("recipeDirectory", recipeDirectory.getAbsolutePath());
+        parameters.put("mergeRuleFile", mergeRuleFile.getAbsolutePath());
+        parameters.put("outputFile", outputFile.getAbsolutePath());
+        parameters.put("orderingMode", orderingMode);
+        parameters.put("duplicateStrategy", duplicateStrategy);
+        parameters.put("flattenRecipes", flattenRecipes);
+        parameters.put("dedupeRecipeList", dedupeRecipeList);
+        if (pruneRoots != null) {
+            parameters.put("pruneRoots", new ArrayList<>(pruneRoots));
+        }
+        // 검사 결과로 빌드가 실패할 수 있으므로 검사 설정도 포함
+        parameters.put("recipeGraphCheck", recipeGraphCheck);
+        parameters.put("knownExternalRecipes", knownExternalRecipes);
+        return parameters;
+    }
+
+    /**
+     * 도달 가능 여부를 판단할 루트 recipe 이름을 결정합니다.
+     * recipeRoots가 지정되면 그대로 사용하고, 없으면 rewrite.activeRecipes 속성,
+     * rewrite-maven-plugin의 configuration과 execution configuration에 있는 activeRecipes 순서로 찾습니다.
+     *
+     * @return 루트 recipe 이름 (없으면 빈 Set)
+     */
+    private Set<String> resolvePruneRoots() {
+        Set<String> roots = new LinkedHashSet<>();
+        if (recipeRoots != null) {
+            addRoots(roots, recipeRoots);
+        }
+        if (roots.isEmpty()) {
+            String property = session != null ? session.getUserProperties().getProperty(ACTIVE_RECIPES_PROPERTY) : null;
+            if (property == null) {
+                property = project.getProperties().getProperty(ACTIVE_RECIPES_PROPERTY);
+            }
+            if (property != null) {
+                addRoots(roots, Arrays.asList(property.split(",")));
+            }
+        }
+        if (roots.isEmpty()) {
+            Plugin rewritePlugin = project.getPlugin(REWRITE_PLUGIN_KEY);
+            if (rewritePlugin != null) {
+                addActiveRecipes(roots, rewritePlugin.getConfiguration());
+                for (PluginExecution execution : rewritePlugin.getExecutions()) {
+                    addActiveRecipes(roots, execution.getConfiguration());
+                }
+            }
+        }
+
+        if (roots.isEmpty()) {
+            logger.warn("pruneUnreachable이 설정되었지만 루트 recipe가 없습니다 (recipeRoots, activeRecipes). 모든 recipe를 출력합니다.");
+        } else {
+            logger.info("  recipe 정리 루트: {}", roots);
+        }
+        return roots;
+    }
+
+    private static void addActiveRecipes(Set<String> roots, Object configuration) {
+        if (!(configuration instanceof Xpp3Dom)) {
+            return;
+        }
+        Xpp3Dom activeRecipes = ((Xpp3Dom) configuration).getChild("activeRecipes");
+        if (activeRecipes == null) {
+            return;
+        }
+        List<String> names = new ArrayList<>();
+        if (activeRecipes.getChildCount() > 0) {
+            for (Xpp3Dom recipe : activeRecipes.getChildren()) {
+                names.add(recipe.getValue());
+            }
+        } else if (activeRecipes.getValue() != null) {
+            names.addAll(Arrays.asList(activeRecipes.getValue().split(",")));
+        }
+        addRoots(roots, names);
+    }
+
+    private static void addRoots(Set<String> roots, List<String> names) {
+        for (String name : names) {
+            // 해석되지 않은 Maven 표현식(${...})은 recipe 이름으로 사용하지 않음
+            if (name != null && !name.trim().isEmpty() && !name.contains("${")) {
+                roots.add(name.trim());
+            }
+        }
+    }
+
+    /**
+     * orderingMode 파라미터를 검증하고 변환합니다.
+     */
+    private RecipeListUpdater.OrderingMode parseOrderingMode() throws MojoExecutionException {
+        if (orderingMode == null || orderingMode.trim().isEmpty()) {
+            return RecipeListUpdater.OrderingMode.SEQUENTIAL;
+        }
+        try {
+            return RecipeListUpdater.OrderingMode.valueOf(orderingMode.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new MojoExecutionException("orderingMode는 sequential 또는 constraint여야 합니다: " + orderingMode);
+        }
+    }
+
+    /**
+     * duplicateStrategy 파라미터를 검증하고 변환합니다.
+     */
+    private RecipeMerger.DuplicateStrategy parseDuplicateStrategy() throws MojoExecutionException {
+        if (duplicateStrategy == null || duplicateStrategy.trim().isEmpty()) {
+            return RecipeMerger.DuplicateStrategy.KEEP;
+        }
+        try {
+            return RecipeMerger.DuplicateStrategy.valueOf(duplicateStrategy.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new MojoExecutionException("duplicateStrategy는 keep, first, last 또는 union이어야 합니다: " + duplicateStrategy);
+        }
+    }
+
+    /**
+     * recipeGraphCheck 파라미터를 검증하고 변환합니다.
+     */
+    private RecipeGraphAnalyzer.CheckMode parseRecipeGraphCheck() throws MojoExecutionException {
+        if (recipeGraphCheck == null || recipeGraphCheck.trim().isEmpty()) {
+            return RecipeGraphAnalyzer.CheckMode.OFF;
+        }
+        try {
+            return RecipeGraphAnalyzer.CheckMode.valueOf(recipeGraphCheck.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new MojoExecutionException("recipeGraphCheck는 off, warn 또는 fail이어야 합니다: " + recipeGraphCheck);
+        }
+    }
+
+    /**
+     * 이전 실행의 stamp와 현재 입력을 비교하여 prepare goal을 건너뛸 수 있는지 확인합니다.
+     * 파라미터, 머지 규칙 파일, 매칭된 recipe 파일, 출력 파일이 모두 이전 실행과 같아야 합니다.
+     *
+     * @param stampFile stamp 파일
+     * @param parametersHash 현재 goal 파라미터 해시
+     * @return 건너뛸 수 있으면 true
+     */
+    private boolean isUpToDate(File stampFile, String parametersHash) throws IOException {
+        BuildStamp stamp = BuildStamp.read(stampFile);
+        if (stamp == null) {
+            logger.debug("stamp 파일이 없습니다: {}", stampFile.getAbsolutePath());
+            return false;
+        }
+        if (!parametersHash.equals(stamp.getParametersHash())) {
+            logger.debug("goal 파라미터가 변경되었습니다.");
+            return false;
+        }
+        if (!stamp.inputsUnchanged()) {
+            return false;
+        }
+
+        String outputHash = stamp.get(OUTPUT_HASH_KEY);
+        if (outputHash == null) {
+            return false;
+        }
+        if (BuildStamp.MISSING.equals(outputHash)) {
+            return true;
+        }
+        String currentHash = BuildStamp.hashFile(outputFile);
+        if (!outputHash.equals(currentHash) && !isResolvedOutput(outputHash, currentHash)) {
+            logger.debug("출력 파일이 변경되었습니다: {}", outputFile.getAbsolutePath());
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 현재 outputFile이 이번 prepare 결과를 resolve goal이 치환한 결과인지 확인합니다.
+     * resolve stamp의 치환 전 해시가 prepare 결과와 같고, 치환 후 해시가 현재 파일과 같으며,
+     * var-map.properties도 변경되지 않았어야 합니다.
+     * (var-map이 변경되었으면 이미 치환된 파일로는 다시 치환할 수 없으므로 prepare부터 다시 실행해야 합니다.)
+     *
+     * @param preparedHash prepare goal이 작성한 outputFile 해시
+     * @param currentHash 현재 outputFile 해시
+     * @return resolve goal이 치환한 결과이면 true
+     */
+    private boolean isResolvedOutput(String preparedHash, String currentHash) throws IOException {
+        BuildStamp resolveStamp = BuildStamp.read(new File(stampDirectory, RewriteResolveMojo.RESOLVE_STAMP_FILE));
+        if (resolveStamp == null) {
+            return false;
+        }
+        return preparedHash.equals(resolveStamp.get(RewriteResolveMojo.INPUT_HASH_KEY))
+                && currentHash.equals(resolveStamp.get(RewriteResolveMojo.OUTPUT_HASH_KEY))
+                && resolveStamp.inputsUnchanged();
+    }
+
+    /**
+     * 실행 결과를 stamp 파일에 기록합니다.
+     *
+     * @param stamp 입력 정보가 기록된 stamp
+     * @param stampFile stamp 파일
+     * @param writtenFile 이번 실행에서 작성한 출력 파일 (출력하지 않았으면 null)
+     */
+    private void writeStamp(BuildStamp stamp, File stampFile, File writtenFile) throws IOException {
+        stamp.put(OUTPUT_HASH_KEY, writtenFile != null ? BuildStamp.hashFile(writtenFile) : BuildStamp.MISSING);
+        stamp.write(stampFile);
+    }
+
     /**
      * 규칙들의 필수 속성을 검증합니다.
      * @JsonProperty(required = true)로 필드 존재 여부는 자동 검증되지만,
@@ -217,17 +682,53 @@ public class RewritePrepareMojo extends AbstractMojo {
         }
     }
 
+    /**
+     * 빌드 세션별로 공유하는 캐시의 키를 반환합니다.
+     * Maven은 모듈마다 MavenSession을 clone()하므로 세션 객체 자체는 모듈 간에 같지 않습니다.
+     * 복제된 세션이 모두 공유하는 MavenExecutionRequest를 키로 사용합니다.
+     *
+     * @param session 빌드 세션 (null 가능)
+     * @return 세션 키, 세션 정보가 없으면 null
+     */
+    public static Object sessionKey(MavenSession session) {
+        if (session == null) {
+            return null;
+        }
+        return session.getRequest() != null ? session.getRequest() : session;
+    }
+
     /**
      * 현재 프로젝트의 groupId, artifactId와 매칭되는 규칙을 찾습니다.
+     * reactor의 모든 프로젝트에 대한 매칭은 빌드 세션과 규칙 파일마다 한 번만 계산되고,
+     * 이후 모듈은 그 결과를 조회합니다. 결과는 규칙 파일에 정의된 순서를 유지합니다.
+     *
+     * @param rules 머지 규칙 목록
+     * @param mergeRuleHash 머지 규칙 파일 내용 해시
+     */
+    private List<Rule> findMatchingRules(List<Rule> rules, String mergeRuleHash) throws IOException {
+        String rulesKey = mergeRuleFile.getCanonicalPath() + "@" + mergeRuleHash;
+        RuleMatchPlan plan = RuleMatchPlan.forSession(sessionKey(session), rulesKey, rules, this::reactorCoordinates);
+
+        List<ProjectCoordinate> sharing = plan.getProjectsSharingRules(groupId, artifactId);
+        if (sharing.size() > 1) {
+            logger.debug("같은 규칙 조합을 사용하는 프로젝트: {}", sharing);
+        }
+        return plan.getMatchedRules(groupId, artifactId);
+    }
+
+    /**
+     * reactor에 포함된 모든 프로젝트의 좌표를 반환합니다.
+     * 세션 정보가 없으면 현재 프로젝트만 반환합니다.
      */
-    private List<Rule> findMatchingRules(List<Rule> rules, String projectGroupId, String projectArtifactId) {
-        return rules.stream()
-                .filter(rule -> {
-                    boolean groupIdMatches = PatternMatcher.matches(rule.getGroupId(), projectGroupId);
-                    boolean artifactIdMatches = PatternMatcher.matches(rule.getArtifactId(), projectArtifactId);
-                    return groupIdMatches && artifactIdMatches;
-                })
-                .collect(Collectors.toList());
+    private List<ProjectCoordinate> reactorCoordinates() {
+        List<ProjectCoordinate> coordinates = new ArrayList<>();
+        coordinates.add(new ProjectCoordinate(groupId, artifactId));
+        if (session != null && session.getProjects() != null) {
+            for (MavenProject reactorProject : session.getProjects()) {
+                coordinates.add(new ProjectCoordinate(reactorProject.getGroupId(), reactorProject.getArtifactId()));
+            }
+        }
+        return coordinates;
     }
 
     /**
@@ -236,7 +737,7 @@ public class RewritePrepareMojo extends AbstractMojo {
      * @deprecated mergeAllFilesWithMerge를 사용하세요.
      */
     @Deprecated
-    private List<RecipeDefinition> mergeAllFiles(List<Rule> matchedRules) throws Exception {
+    private RecipeCatalog mergeAllFiles(List<Rule> matchedRules) throws Exception {
         List<String> allMergeFiles = new ArrayList<>();
         for (Rule rule : matchedRules) {
             if (rule.getMergeFiles() != null) {
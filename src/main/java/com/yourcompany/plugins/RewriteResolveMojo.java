@@ -2,6 +2,8 @@ package com.yourcompany.plugins;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import org.apache.maven.plugin.AbstractMojo;
 import org.apache.maven.plugin.MojoExecutionException;
@@ -11,6 +13,7 @@ import org.apache.maven.project.MavenProject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.yourcompany.plugins.rewriteprepare.service.BuildStamp;
 import com.yourcompany.plugins.rewriteprepare.service.VariableReplacer;
 
 /**
@@ -23,6 +26,9 @@ import com.yourcompany.plugins.rewriteprepare.service.VariableReplacer;
  * 1. var-map.properties 파일을 읽어서 변수 맵을 생성합니다.
  * 2. outputFile에서 ${variable} 또는 $variable 패턴을 찾아서 치환합니다.
  * 3. 치환된 내용을 outputFile에 저장합니다.
+ *
+ * var-map.properties 내용과 outputFile이 이전 실행의 stamp와 같으면(이미 치환된 결과이면)
+ * 위 과정을 모두 건너뜁니다.
  * 
  * 주의: 이 goal은 prepare goal 이후에 실행되어야 합니다.
  * prepare goal에서 머지된 결과 파일(outputFile)의 변수를 치환합니다.
@@ -31,6 +37,19 @@ import com.yourcompany.plugins.rewriteprepare.service.VariableReplacer;
 public class RewriteResolveMojo extends AbstractMojo {
     private static final Logger logger = LoggerFactory.getLogger(RewriteResolveMojo.class);
 
+    /**
+     * resolve goal의 stamp 파일 이름 (prepare goal의 up-to-date 검사에서도 참조)
+     */
+    static final String RESOLVE_STAMP_FILE = "resolve.stamp";
+    /**
+     * 치환 전 outputFile 해시 (prepare goal이 생성한 내용)
+     */
+    static final String INPUT_HASH_KEY = "inputHash";
+    /**
+     * 치환 후 outputFile 해시
+     */
+    static final String OUTPUT_HASH_KEY = "outputHash";
+
     @Parameter(defaultValue = "${project}", readonly = true, required = true)
     private MavenProject project;
 
@@ -50,6 +69,25 @@ public class RewriteResolveMojo extends AbstractMojo {
     @Parameter(property = "rewrite-prepare.varMapFile", defaultValue = "${project.basedir}/migration-ci/rules/var-map.properties")
     private File varMapFile;
 
+    /**
+     * var-map.properties와 outputFile이 변경되지 않았으면 resolve goal을 건너뛸지 여부
+     * 기본값: true
+     * CLI 변수명: rewrite-prepare.skipIfUpToDate
+     */
+    @Parameter(property = "rewrite-prepare.skipIfUpToDate", defaultValue = "true")
+    private boolean skipIfUpToDate;
+
+    /**
+     * up-to-date 검사용 stamp 파일을 저장하는 디렉토리 (prepare goal과 같은 디렉토리를 사용해야 합니다)
+     * 기본값: ${project.build.directory}/rewrite-prepare
+     * CLI 변수명: rewrite-prepare.stampDirectory
+     */
+    @Parameter(property = "rewrite-prepare.stampDirectory", defaultValue = "${project.build.directory}/rewrite-prepare")
+    private File stampDirectory;
+
+    @Parameter(defaultValue = "${plugin.version}", readonly = true)
+    private String pluginVersion;
+
     private final VariableReplacer variableReplacer;
 
     public RewriteResolveMojo() {
@@ -78,6 +116,21 @@ public class RewriteResolveMojo extends AbstractMojo {
                 return;
             }
 
+            // up-to-date 검사 (변수 맵을 로드하기 전에 수행)
+            File stampFile = new File(stampDirectory, RESOLVE_STAMP_FILE);
+            String parametersHash = BuildStamp.hashParameters(stampParameters());
+            if (skipIfUpToDate && isUpToDate(stampFile, parametersHash)) {
+                logger.info("변수 맵과 출력 파일이 변경되지 않았으므로 resolve goal을 건너뜁니다. (stamp: {})", stampFile.getAbsolutePath());
+                return;
+            }
+            // 실행이 실패했을 때 이전 stamp가 남아 있지 않도록 먼저 삭제
+            stampFile.delete();
+
+            BuildStamp stamp = new BuildStamp();
+            stamp.setParametersHash(parametersHash);
+            stamp.addInputFile(varMapFile);
+            stamp.put(INPUT_HASH_KEY, BuildStamp.hashFile(outputFile));
+
             // 변수 맵 로드
             variableReplacer.loadVariableMap(varMapFile);
             logger.info("변수 맵 로드 완료: {} 개의 변수", variableReplacer.getVariableCount());
@@ -85,6 +138,8 @@ public class RewriteResolveMojo extends AbstractMojo {
             // outputFile에서 변수 치환 수행
             try {
                 int replacedCount = variableReplacer.replaceVariablesInFile(outputFile);
+                stamp.put(OUTPUT_HASH_KEY, BuildStamp.hashFile(outputFile));
+                stamp.write(stampFile);
                 if (replacedCount > 0) {
                     logger.info("파일 처리 완료: {} ({} 개의 변수 치환)", outputFile.getName(), replacedCount);
                 } else {
@@ -101,5 +156,45 @@ public class RewriteResolveMojo extends AbstractMojo {
             throw new MojoExecutionException("플러그인 실행 실패", e);
         }
     }
-}
 
+    /**
+     * 출력 결과에 영향을 주는 goal 파라미터 목록을 반환합니다.
+     */
+    private Map<String, Object> stampParameters() {
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        parameters.put("pluginVersion", pluginVersion);
+        parameters.put("outputFile", outputFile.getAbsolutePath());
+        parameters.put("varMapFile", varMapFile.getAbsolutePath());
+        return parameters;
+    }
+
+    /**
+     * 이전 실행의 stamp와 비교하여 resolve goal을 건너뛸 수 있는지 확인합니다.
+     * 파라미터와 var-map.properties 내용이 같고, outputFile이 이전 실행에서 치환한 결과 그대로여야 합니다.
+     * prepare goal이 outputFile을 다시 생성했으면 해시가 달라지므로 다시 치환합니다.
+     *
+     * @param stampFile stamp 파일
+     * @param parametersHash 현재 goal 파라미터 해시
+     * @return 건너뛸 수 있으면 true
+     */
+    private boolean isUpToDate(File stampFile, String parametersHash) throws IOException {
+        BuildStamp stamp = BuildStamp.read(stampFile);
+        if (stamp == null) {
+            logger.debug("stamp 파일이 없습니다: {}", stampFile.getAbsolutePath());
+            return false;
+        }
+        if (!parametersHash.equals(stamp.getParametersHash())) {
+            logger.debug("goal 파라미터가 변경되었습니다.");
+            return false;
+        }
+        if (!stamp.inputsUnchanged()) {
+            return false;
+        }
+        String outputHash = stamp.get(OUTPUT_HASH_KEY);
+        if (outputHash == null || !outputHash.equals(BuildStamp.hashFile(outputFile))) {
+            logger.debug("출력 파일이 변경되었습니다: {}", outputFile.getAbsolutePath());
+            return false;
+        }
+        return true;
+    }
+}
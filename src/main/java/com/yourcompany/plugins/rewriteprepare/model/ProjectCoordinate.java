@@ -0,0 +1,42 @@
+package com.yourcompany.plugins.rewriteprepare.model;
+
+import java.util.Objects;
+
+/**
+ * 규칙 매칭에 사용하는 프로젝트 좌표(groupId, artifactId)를 표현하는 모델 클래스
+ */
+public final class ProjectCoordinate {
+    private final String groupId;
+    private final String artifactId;
+
+    public ProjectCoordinate(String groupId, String artifactId) {
+        this.groupId = groupId;
+        this.artifactId = artifactId;
+    }
+
+    public String getGroupId() {
+        return groupId;
+    }
+
+    public String getArtifactId() {
+        return artifactId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ProjectCoordinate other = (ProjectCoordinate) o;
+        return Objects.equals(groupId, other.groupId) && Objects.equals(artifactId, other.artifactId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(groupId, artifactId);
+    }
+
+    @Override
+    public String toString() {
+        return groupId + ":" + artifactId;
+    }
+}
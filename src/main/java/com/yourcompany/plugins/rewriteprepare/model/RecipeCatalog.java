@@ -0,0 +1,149 @@
+package com.yourcompany.plugins.rewriteprepare.model;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.Set;
+
+/**
+ * 병합된 RecipeDefinition 목록을 표현하는 모델 클래스
+ *
+ * 출력 순서를 위해 추가된 순서를 그대로 유지하면서, 이름으로 정의를 O(1)에 찾을 수 있는 인덱스를 함께 관리합니다.
+ * 같은 이름의 정의가 여러 개 있으면 목록에는 모두 남고, 이름 조회는 먼저 추가된 정의를 반환합니다
+ * (목록을 처음부터 검색한 결과와 같음).
+ *
+ * List 인터페이스를 구현하므로 기존 List&lt;RecipeDefinition&gt;를 받는 코드에 그대로 전달할 수 있습니다.
+ * 끝에 추가하거나 같은 이름의 정의로 교체하는 경우 외의 변경(중간 삽입, 삭제, 다른 이름으로 교체)은
+ * 이름 인덱스를 다시 만듭니다.
+ */
+public class RecipeCatalog extends AbstractList<RecipeDefinition> implements RandomAccess {
+    private final List<RecipeDefinition> recipes;
+    private final Map<String, RecipeDefinition> byName;
+
+    public RecipeCatalog() {
+        this.recipes = new ArrayList<>();
+        this.byName = new LinkedHashMap<>();
+    }
+
+    /**
+     * 주어진 정의들을 순서대로 담은 카탈로그를 생성합니다.
+     *
+     * @param recipes 추가할 RecipeDefinition 목록
+     */
+    public RecipeCatalog(Collection<? extends RecipeDefinition> recipes) {
+        this.recipes = new ArrayList<>(recipes.size());
+        this.byName = new LinkedHashMap<>(Math.max(16, recipes.size() * 4 / 3 + 1));
+        addAll(recipes);
+    }
+
+    /**
+     * 목록이 이미 RecipeCatalog이면 그대로, 아니면 같은 순서의 새 카탈로그로 반환합니다.
+     *
+     * @param recipes RecipeDefinition 목록
+     * @return RecipeCatalog
+     */
+    public static RecipeCatalog of(List<RecipeDefinition> recipes) {
+        if (recipes instanceof RecipeCatalog) {
+            return (RecipeCatalog) recipes;
+        }
+        return new RecipeCatalog(recipes);
+    }
+
+    /**
+     * 이름으로 RecipeDefinition을 찾습니다.
+     *
+     * @param name recipe 이름
+     * @return 해당 이름으로 먼저 추가된 정의, 없으면 null
+     */
+    public RecipeDefinition findByName(String name) {
+        return name != null ? byName.get(name) : null;
+    }
+
+    /**
+     * 해당 이름의 정의가 있는지 확인합니다.
+     *
+     * @param name recipe 이름
+     * @return 정의가 있으면 true
+     */
+    public boolean containsName(String name) {
+        return name != null && byName.containsKey(name);
+    }
+
+    /**
+     * 정의된 recipe 이름 목록을 반환합니다 (중복 없이, 목록에서 처음 등장한 순서).
+     *
+     * @return 읽기 전용 이름 Set
+     */
+    public Set<String> names() {
+        return Collections.unmodifiableSet(byName.keySet());
+    }
+
+    @Override
+    public RecipeDefinition get(int index) {
+        return recipes.get(index);
+    }
+
+    @Override
+    public int size() {
+        return recipes.size();
+    }
+
+    @Override
+    public void add(int index, RecipeDefinition recipe) {
+        recipes.add(index, recipe);
+        modCount++;
+        if (index == recipes.size() - 1) {
+            index(recipe);
+        } else {
+            reindex();
+        }
+    }
+
+    @Override
+    public RecipeDefinition set(int index, RecipeDefinition recipe) {
+        RecipeDefinition previous = recipes.set(index, recipe);
+        String name = previous != null ? previous.getName() : null;
+        if (name != null && recipe != null && name.equals(recipe.getName())) {
+            // 같은 이름의 정의로 교체하면 조회 대상이 교체된 정의인 경우에만 인덱스 갱신
+            if (byName.get(name) == previous) {
+                byName.put(name, recipe);
+            }
+        } else {
+            reindex();
+        }
+        return previous;
+    }
+
+    @Override
+    public RecipeDefinition remove(int index) {
+        RecipeDefinition removed = recipes.remove(index);
+        modCount++;
+        reindex();
+        return removed;
+    }
+
+    @Override
+    public void clear() {
+        recipes.clear();
+        byName.clear();
+        modCount++;
+    }
+
+    private void index(RecipeDefinition recipe) {
+        if (recipe != null && recipe.getName() != null) {
+            byName.putIfAbsent(recipe.getName(), recipe);
+        }
+    }
+
+    private void reindex() {
+        byName.clear();
+        for (RecipeDefinition recipe : recipes) {
+            index(recipe);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.yourcompany.plugins.rewriteprepare.model;
 import java.util.ArrayList;
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.yourcompany.plugins.rewriteprepare.serializer.UnquotedStringSerializer;
@@ -25,6 +26,9 @@ import com.yourcompany.plugins.rewriteprepare.serializer.UnquotedStringSerialize
  * 
  * requirements.md에 따르면 optional 필드는 "값이 없으면 출력하지 않습니다"이므로,
  * null 값과 empty collection은 serialize 시 생략됩니다.
+ *
+ * recipe 파일에서 파싱된 경우 source에 원본 YAML 문서의 바이트를 보관합니다.
+ * modified가 false이면 출력 시 다시 serialize하지 않고 원본을 그대로 복사합니다.
  */
 @JsonInclude(JsonInclude.Include.NON_EMPTY)
 public class RecipeDefinition {
@@ -50,6 +54,12 @@ public class RecipeDefinition {
     private List<Object> exclusions;
     private List<Recipe> recipeList;
 
+    @JsonIgnore
+    private byte[] source;
+
+    @JsonIgnore
+    private boolean modified;
+
     public String getType() {
         return type;
     }
@@ -162,5 +172,66 @@ public class RecipeDefinition {
         
         this.recipeList = normalizedList;
     }
+
+    /**
+     * 원본 YAML 문서의 바이트를 반환합니다 ('---'로 시작하고 줄바꿈으로 끝남).
+     *
+     * @return 원본 문서, 파싱된 것이 아니거나 원본을 그대로 쓸 수 없으면 null
+     */
+    @JsonIgnore
+    public byte[] getSource() {
+        return source;
+    }
+
+    @JsonIgnore
+    public void setSource(byte[] source) {
+        this.source = source;
+    }
+
+    /**
+     * 파싱 이후 내용이 원본 문서와 달라졌는지 반환합니다.
+     *
+     * @return recipeList 업데이트 등으로 변경되었으면 true
+     */
+    @JsonIgnore
+    public boolean isModified() {
+        return modified;
+    }
+
+    @JsonIgnore
+    public void setModified(boolean modified) {
+        this.modified = modified;
+    }
+
+    /**
+     * 이 RecipeDefinition의 복사본을 생성합니다.
+     * recipeList, tags, preconditions, exclusions는 새 리스트로 복사하고,
+     * recipeList의 각 Recipe도 새 객체로 복사하므로 복사본의 recipeList를 수정해도 원본에 영향을 주지 않습니다.
+     * (attributes의 값과 원본 문서 바이트는 공유됩니다)
+     *
+     * @return 복사된 RecipeDefinition
+     */
+    public RecipeDefinition copy() {
+        RecipeDefinition copy = new RecipeDefinition();
+        copy.type = type;
+        copy.name = name;
+        copy.displayName = displayName;
+        copy.description = description;
+        copy.tags = tags != null ? new ArrayList<>(tags) : null;
+        copy.estimatedEffortPerOccurrence = estimatedEffortPerOccurrence;
+        copy.causesAnotherCycle = causesAnotherCycle;
+        copy.preconditions = preconditions != null ? new ArrayList<>(preconditions) : null;
+        copy.exclusions = exclusions != null ? new ArrayList<>(exclusions) : null;
+        copy.source = source;
+        copy.modified = modified;
+        if (recipeList != null) {
+            List<Recipe> copiedList = new ArrayList<>(recipeList.size());
+            for (Recipe recipe : recipeList) {
+                copiedList.add(new Recipe(recipe.getName(), recipe.getAttributes()));
+            }
+            copy.recipeList = copiedList;
+        }
+        return copy;
+    }
 }
 
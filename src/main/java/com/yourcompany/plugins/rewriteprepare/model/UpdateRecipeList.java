@@ -11,7 +11,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
  * 대상 레시피 이름과 업데이트 순서(first, last, before, after)를 포함합니다.
  * 
  * requirements.md에 따라 다음 필드가 필수입니다:
- * - name: 필수, 없거나 비어 있으면 오류 발생
+ * - name: 필수, 없거나 비어 있으면 오류 발생 (glob 패턴("*", "?")이면 일치하는 모든 recipe에 적용)
  */
 public class UpdateRecipeList {
     @JsonProperty(required = true)
@@ -0,0 +1,84 @@
+package com.yourcompany.plugins.rewriteprepare.service;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 출력 파일을 원자적으로, 내용이 바뀐 경우에만 쓰는 유틸리티 클래스
+ *
+ * 같은 디렉토리의 임시 파일에 내용을 모두 쓴 뒤 대상 파일로 rename하므로, 쓰는 도중 빌드가 중단되어도
+ * 대상 파일은 이전 내용 또는 새 내용 중 하나로만 남습니다.
+ * 기존 파일과 내용(크기와 SHA-256 해시)이 같으면 파일을 건드리지 않으므로 수정 시각이 유지되어
+ * rewrite-maven-plugin이나 빌드 캐시의 up-to-date 검사가 무효화되지 않습니다.
+ */
+public final class AtomicFileWriter {
+    private static final Logger logger = LoggerFactory.getLogger(AtomicFileWriter.class);
+
+    private AtomicFileWriter() {
+    }
+
+    /**
+     * 내용이 기존 파일과 다를 때만 파일을 원자적으로 교체합니다.
+     *
+     * @param file 대상 파일 (상위 디렉토리가 없으면 생성)
+     * @param content 쓸 내용 (position부터 limit까지, position은 변경되지 않음)
+     * @return 파일을 썼으면 true, 기존 내용과 같아서 쓰지 않았으면 false
+     * @throws IOException 파일 읽기/쓰기 오류
+     */
+    public static boolean writeIfChanged(File file, ByteBuffer content) throws IOException {
+        if (hasSameContent(file, content)) {
+            return false;
+        }
+
+        Path target = file.toPath().toAbsolutePath();
+        Path directory = target.getParent();
+        Files.createDirectories(directory);
+
+        // Files.createTempFile은 소유자 전용 권한(0600)으로 생성하므로 기본 권한으로 직접 생성
+        Path tempFile = directory.resolve("." + file.getName() + "." + UUID.randomUUID() + ".tmp");
+        try {
+            ByteBuffer remaining = content.duplicate();
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                while (remaining.hasRemaining()) {
+                    channel.write(remaining);
+                }
+                channel.force(false);
+            }
+            move(tempFile, target);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+        return true;
+    }
+
+    /**
+     * 기존 파일의 크기와 SHA-256 해시가 content와 같은지 확인합니다.
+     */
+    private static boolean hasSameContent(File file, ByteBuffer content) throws IOException {
+        if (!file.isFile() || file.length() != content.remaining()) {
+            return false;
+        }
+        return ContentHash.sha256(file).equals(ContentHash.sha256(content));
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            // 원자적 rename을 지원하지 않는 파일 시스템에서는 일반 교체로 대신함
+            logger.debug("원자적 rename을 지원하지 않아 일반 교체로 저장합니다: {}", target);
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
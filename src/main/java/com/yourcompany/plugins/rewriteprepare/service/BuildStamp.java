@@ -0,0 +1,193 @@
+package com.yourcompany.plugins.rewriteprepare.service;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * goal 실행 시점의 입력 fingerprint를 기록하는 stamp 파일 클래스
+ *
+ * stamp에는 다음 정보가 저장됩니다:
+ * - goal 파라미터(플러그인 버전, groupId, artifactId, 경로 등)의 해시
+ * - 입력 파일 경로와 각 파일 내용의 해시 (존재하지 않는 파일은 "-"로 기록)
+ * - 출력 파일 해시 등 goal별 추가 값
+ *
+ * 다음 빌드에서 파라미터 해시와 입력 파일 해시가 모두 같으면 goal이 up-to-date인 것으로 판단할 수 있습니다.
+ * stamp 파일은 Properties 형식으로 저장됩니다.
+ */
+public class BuildStamp {
+    private static final Logger logger = LoggerFactory.getLogger(BuildStamp.class);
+
+    /**
+     * 존재하지 않는 파일의 해시 값
+     */
+    public static final String MISSING = "-";
+
+    private static final String PARAMETERS_KEY = "parameters";
+    private static final String INPUT_PREFIX = "input.";
+    private static final String VALUE_PREFIX = "value.";
+
+    private String parametersHash;
+    private final Map<String, String> inputHashes = new LinkedHashMap<>();
+    private final Map<String, String> values = new LinkedHashMap<>();
+
+    /**
+     * goal 파라미터 목록의 해시를 계산합니다.
+     * 파라미터 이름과 값의 순서가 해시에 반영됩니다.
+     *
+     * @param parameters 파라미터 이름과 값 (값은 toString()으로 변환되며 null 허용)
+     * @return 파라미터 해시
+     */
+    public static String hashParameters(Map<String, ?> parameters) {
+        StringBuilder builder = new StringBuilder();
+        for (Map.Entry<String, ?> entry : parameters.entrySet()) {
+            builder.append(entry.getKey()).append('=').append(entry.getValue()).append('\n');
+        }
+        return ContentHash.sha256(builder.toString());
+    }
+
+    /**
+     * 파일 내용의 해시를 계산합니다. 파일이 없으면 MISSING을 반환합니다.
+     *
+     * @param file 해시를 계산할 파일
+     * @return 파일 내용 해시 또는 MISSING
+     * @throws IOException 파일 읽기 오류
+     */
+    public static String hashFile(File file) throws IOException {
+        if (!file.isFile()) {
+            return MISSING;
+        }
+        return ContentHash.sha256(file);
+    }
+
+    public String getParametersHash() {
+        return parametersHash;
+    }
+
+    public void setParametersHash(String parametersHash) {
+        this.parametersHash = parametersHash;
+    }
+
+    /**
+     * 입력 파일과 현재 내용의 해시를 기록합니다.
+     *
+     * @param file 입력 파일
+     * @throws IOException 파일 읽기 오류
+     */
+    public void addInputFile(File file) throws IOException {
+        String path = file.getAbsolutePath();
+        if (!inputHashes.containsKey(path)) {
+            inputHashes.put(path, hashFile(file));
+        }
+    }
+
+    /**
+     * 기록된 입력 파일 경로와 해시를 반환합니다.
+     *
+     * @return 입력 파일 경로 → 해시
+     */
+    public Map<String, String> getInputHashes() {
+        return Collections.unmodifiableMap(inputHashes);
+    }
+
+    /**
+     * 기록된 모든 입력 파일의 현재 내용이 stamp의 해시와 같은지 확인합니다.
+     *
+     * @return 모든 입력 파일이 변경되지 않았으면 true
+     * @throws IOException 파일 읽기 오류
+     */
+    public boolean inputsUnchanged() throws IOException {
+        for (Map.Entry<String, String> entry : inputHashes.entrySet()) {
+            String currentHash = hashFile(new File(entry.getKey()));
+            if (!currentHash.equals(entry.getValue())) {
+                logger.debug("입력 파일 변경 감지: {}", entry.getKey());
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public String get(String key) {
+        return values.get(key);
+    }
+
+    public void put(String key, String value) {
+        values.put(key, value);
+    }
+
+    /**
+     * stamp 파일을 읽습니다.
+     *
+     * @param stampFile stamp 파일
+     * @return 읽은 BuildStamp, 파일이 없거나 읽을 수 없으면 null
+     */
+    public static BuildStamp read(File stampFile) {
+        if (!stampFile.isFile()) {
+            return null;
+        }
+
+        Properties properties = new Properties();
+        try (InputStream inputStream = new FileInputStream(stampFile)) {
+            properties.load(inputStream);
+        } catch (IOException e) {
+            logger.warn("stamp 파일을 읽을 수 없습니다: {} ({})", stampFile.getAbsolutePath(), e.getMessage());
+            return null;
+        }
+
+        BuildStamp stamp = new BuildStamp();
+        stamp.parametersHash = properties.getProperty(PARAMETERS_KEY);
+        for (int i = 0; ; i++) {
+            String path = properties.getProperty(INPUT_PREFIX + i + ".path");
+            String hash = properties.getProperty(INPUT_PREFIX + i + ".hash");
+            if (path == null || hash == null) {
+                break;
+            }
+            stamp.inputHashes.put(path, hash);
+        }
+        for (String key : properties.stringPropertyNames()) {
+            if (key.startsWith(VALUE_PREFIX)) {
+                stamp.values.put(key.substring(VALUE_PREFIX.length()), properties.getProperty(key));
+            }
+        }
+        return stamp;
+    }
+
+    /**
+     * stamp 파일을 저장합니다.
+     *
+     * @param stampFile stamp 파일
+     * @throws IOException 파일 쓰기 오류
+     */
+    public void write(File stampFile) throws IOException {
+        Properties properties = new Properties();
+        if (parametersHash != null) {
+            properties.setProperty(PARAMETERS_KEY, parametersHash);
+        }
+        int index = 0;
+        for (Map.Entry<String, String> entry : inputHashes.entrySet()) {
+            properties.setProperty(INPUT_PREFIX + index + ".path", entry.getKey());
+            properties.setProperty(INPUT_PREFIX + index + ".hash", entry.getValue());
+            index++;
+        }
+        for (Map.Entry<String, String> entry : values.entrySet()) {
+            properties.setProperty(VALUE_PREFIX + entry.getKey(), entry.getValue());
+        }
+
+        if (stampFile.getParentFile() != null) {
+            stampFile.getParentFile().mkdirs();
+        }
+        try (OutputStream outputStream = new FileOutputStream(stampFile)) {
+            properties.store(outputStream, "rewrite-prepare-maven-plugin build stamp");
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.yourcompany.plugins.rewriteprepare.service;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * 파일 및 데이터의 내용 해시(SHA-256)를 계산하는 유틸리티 클래스
+ * 캐시 키와 up-to-date 검사용 fingerprint에 사용됩니다.
+ */
+public final class ContentHash {
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private ContentHash() {
+    }
+
+    /**
+     * 파일 내용의 SHA-256 해시를 16진수 문자열로 반환합니다.
+     *
+     * @param file 해시를 계산할 파일
+     * @return 16진수 해시 문자열
+     * @throws IOException 파일 읽기 오류
+     */
+    public static String sha256(File file) throws IOException {
+        MessageDigest digest = newDigest();
+        byte[] buffer = new byte[64 * 1024];
+        try (InputStream inputStream = new FileInputStream(file)) {
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return toHex(digest.digest());
+    }
+
+    /**
+     * 바이트 배열의 SHA-256 해시를 16진수 문자열로 반환합니다.
+     *
+     * @param bytes 해시를 계산할 데이터
+     * @return 16진수 해시 문자열
+     */
+    public static String sha256(byte[] bytes) {
+        return toHex(newDigest().digest(bytes));
+    }
+
+    /**
+     * ByteBuffer의 남은 내용(position부터 limit까지)의 SHA-256 해시를 16진수 문자열로 반환합니다.
+     * buffer의 position은 변경되지 않습니다.
+     *
+     * @param buffer 해시를 계산할 데이터
+     * @return 16진수 해시 문자열
+     */
+    public static String sha256(ByteBuffer buffer) {
+        MessageDigest digest = newDigest();
+        digest.update(buffer.duplicate());
+        return toHex(digest.digest());
+    }
+
+    /**
+     * 문자열(UTF-8)의 SHA-256 해시를 16진수 문자열로 반환합니다.
+     *
+     * @param text 해시를 계산할 문자열
+     * @return 16진수 해시 문자열
+     */
+    public static String sha256(String text) {
+        return sha256(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // 모든 Java 플랫폼은 SHA-256을 지원해야 합니다.
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        char[] chars = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            chars[i * 2] = HEX[(bytes[i] >> 4) & 0x0f];
+            chars[i * 2 + 1] = HEX[bytes[i] & 0x0f];
+        }
+        return new String(chars);
+    }
+}
@@ -0,0 +1,164 @@
+package com.yourcompany.plugins.rewriteprepare.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 미리 컴파일된 Glob 패턴 매처 클래스
+ *
+ * 지원하는 문법:
+ * - "*": 0개 이상의 임의 문자
+ * - "?": 정확히 1개의 임의 문자
+ * - ",": 여러 패턴 구분 (하나라도 일치하면 매칭, 각 패턴의 앞뒤 공백은 제거)
+ * 그 외의 문자("." "+" "(" "$" 등)는 모두 문자 그대로 비교합니다.
+ *
+ * 정규표현식을 사용하지 않으며, 컴파일된 매처의 matches() 호출은 객체를 생성하지 않습니다.
+ * 같은 패턴 문자열의 컴파일 결과는 compile()에서 캐시됩니다.
+ */
+public final class GlobMatcher {
+
+    // 캐시 항목 수 상한 (초과하면 캐시를 비우고 다시 채움)
+    private static final int MAX_CACHE_SIZE = 10_000;
+    private static final ConcurrentMap<String, GlobMatcher> CACHE = new ConcurrentHashMap<>();
+
+    /**
+     * null 또는 "*" 패턴: null을 포함한 모든 값과 일치
+     */
+    private static final GlobMatcher ANY = new GlobMatcher("*", true, new String[0], new char[0][]);
+
+    private final String pattern;
+    private final boolean matchesAny;
+    // 와일드카드가 없는 패턴 (String.equals로 비교)
+    private final String[] literals;
+    // 와일드카드가 있는 패턴
+    private final char[][] globs;
+
+    private GlobMatcher(String pattern, boolean matchesAny, String[] literals, char[][] globs) {
+        this.pattern = pattern;
+        this.matchesAny = matchesAny;
+        this.literals = literals;
+        this.globs = globs;
+    }
+
+    /**
+     * Glob 패턴을 컴파일합니다. 같은 패턴 문자열에 대해서는 캐시된 매처를 반환합니다.
+     *
+     * @param pattern Glob 패턴 (null이거나 "*"인 경우 모든 문자열과 일치)
+     *                쉼표로 구분된 여러 패턴을 지정할 수 있습니다 (예: "my-service,other-service,*-api")
+     * @return 컴파일된 매처
+     */
+    public static GlobMatcher compile(String pattern) {
+        if (pattern == null || "*".equals(pattern)) {
+            return ANY;
+        }
+        GlobMatcher matcher = CACHE.get(pattern);
+        if (matcher == null) {
+            if (CACHE.size() >= MAX_CACHE_SIZE) {
+                CACHE.clear();
+            }
+            matcher = CACHE.computeIfAbsent(pattern, GlobMatcher::parse);
+        }
+        return matcher;
+    }
+
+    private static GlobMatcher parse(String pattern) {
+        List<String> literals = new ArrayList<>();
+        List<char[]> globs = new ArrayList<>();
+        for (String singlePattern : pattern.split(",")) {
+            singlePattern = singlePattern.trim();
+            if (singlePattern.isEmpty()) {
+                continue;
+            }
+            if (singlePattern.indexOf('*') < 0 && singlePattern.indexOf('?') < 0) {
+                literals.add(singlePattern);
+            } else {
+                globs.add(singlePattern.toCharArray());
+            }
+        }
+        return new GlobMatcher(pattern, false, literals.toArray(new String[0]), globs.toArray(new char[0][]));
+    }
+
+    /**
+     * 주어진 문자열이 패턴과 일치하는지 확인합니다.
+     *
+     * @param value 매칭할 문자열
+     * @return 일치하면 true, 아니면 false (null은 null/"*" 패턴에만 일치)
+     */
+    public boolean matches(String value) {
+        if (matchesAny) {
+            return true;
+        }
+        if (value == null) {
+            return false;
+        }
+        for (String literal : literals) {
+            if (literal.equals(value)) {
+                return true;
+            }
+        }
+        for (char[] glob : globs) {
+            if (matchesGlob(glob, value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 패턴이 모든 값과 일치하는지 여부 (null 또는 "*" 패턴)
+     *
+     * @return 모든 값과 일치하면 true
+     */
+    public boolean isMatchAll() {
+        return matchesAny;
+    }
+
+    /**
+     * 컴파일 전 패턴 문자열을 반환합니다.
+     *
+     * @return 패턴 문자열
+     */
+    public String getPattern() {
+        return pattern;
+    }
+
+    /**
+     * 하나의 Glob 패턴과 문자열을 비교합니다.
+     * 마지막 "*" 위치만 기억하는 backtracking 방식으로 O(패턴 길이 × 문자열 길이) 안에 끝납니다.
+     */
+    private static boolean matchesGlob(char[] glob, String value) {
+        int patternIndex = 0;
+        int valueIndex = 0;
+        int starIndex = -1;
+        int starValueIndex = 0;
+        int length = value.length();
+
+        while (valueIndex < length) {
+            if (patternIndex < glob.length && glob[patternIndex] == '*') {
+                starIndex = patternIndex++;
+                starValueIndex = valueIndex;
+            } else if (patternIndex < glob.length
+                    && (glob[patternIndex] == '?' || glob[patternIndex] == value.charAt(valueIndex))) {
+                patternIndex++;
+                valueIndex++;
+            } else if (starIndex >= 0) {
+                // 마지막 "*"가 한 글자 더 포함하도록 하고 다시 시도
+                patternIndex = starIndex + 1;
+                valueIndex = ++starValueIndex;
+            } else {
+                return false;
+            }
+        }
+        while (patternIndex < glob.length && glob[patternIndex] == '*') {
+            patternIndex++;
+        }
+        return patternIndex == glob.length;
+    }
+
+    @Override
+    public String toString() {
+        return pattern;
+    }
+}
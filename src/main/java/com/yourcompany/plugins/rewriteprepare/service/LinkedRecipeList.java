@@ -0,0 +1,154 @@
+package com.yourcompany.plugins.rewriteprepare.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.yourcompany.plugins.rewriteprepare.model.Recipe;
+
+/**
+ * recipeList 업데이트용 연결 리스트 클래스
+ *
+ * recipe 이름 → 노드 해시 인덱스를 함께 관리하여, 이름 존재 여부 확인과 before/after 기준 recipe 조회,
+ * 기준 위치 앞뒤 삽입을 모두 O(1)에 수행합니다. recipeList 하나에 대한 업데이트를 모두 적용한 뒤
+ * toList()로 한 번만 List로 변환합니다.
+ *
+ * 같은 이름의 recipe가 여러 개 있으면(예: attributes만 다른 경우) 인덱스는 목록에서 가장 앞의 노드를 가리키므로,
+ * List를 처음부터 검색한 결과와 같습니다.
+ */
+public class LinkedRecipeList {
+
+    private final Node head = new Node(null);
+    private final Node tail = new Node(null);
+    private final Map<String, Node> index = new HashMap<>();
+    private int size;
+
+    /**
+     * 기존 recipeList로 연결 리스트를 생성합니다.
+     *
+     * @param recipes 기존 recipeList (null이면 빈 목록)
+     */
+    public LinkedRecipeList(List<Recipe> recipes) {
+        head.next = tail;
+        tail.previous = head;
+        if (recipes != null) {
+            for (Recipe recipe : recipes) {
+                addLast(recipe);
+            }
+        }
+    }
+
+    /**
+     * 같은 이름의 recipe가 있는지 확인합니다.
+     */
+    public boolean contains(String name) {
+        return index.containsKey(name);
+    }
+
+    /**
+     * 이름이 같은 첫 번째 recipe의 노드를 반환합니다.
+     *
+     * @return 노드, 없으면 null
+     */
+    public Node find(String name) {
+        return index.get(name);
+    }
+
+    /**
+     * 목록의 가장 앞에 recipe를 추가합니다.
+     *
+     * @return 추가된 노드
+     */
+    public Node addFirst(Recipe recipe) {
+        return insertAfter(head, recipe);
+    }
+
+    /**
+     * 목록의 가장 뒤에 recipe를 추가합니다.
+     *
+     * @return 추가된 노드
+     */
+    public Node addLast(Recipe recipe) {
+        return insertBefore(tail, recipe);
+    }
+
+    /**
+     * node 앞에 recipe를 추가합니다.
+     *
+     * @return 추가된 노드
+     */
+    public Node insertBefore(Node node, Recipe recipe) {
+        return insertAfter(node.previous, recipe);
+    }
+
+    /**
+     * node 뒤에 recipe를 추가합니다.
+     *
+     * @return 추가된 노드
+     */
+    public Node insertAfter(Node node, Recipe recipe) {
+        Node inserted = new Node(recipe);
+        inserted.previous = node;
+        inserted.next = node.next;
+        node.next.previous = inserted;
+        node.next = inserted;
+        size++;
+
+        String name = recipe.getName();
+        if (name != null) {
+            Node indexed = index.get(name);
+            // 인덱스는 항상 목록에서 가장 앞의 노드를 가리켜야 함
+            if (indexed == null || isBefore(inserted, indexed)) {
+                index.put(name, inserted);
+            }
+        }
+        return inserted;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 현재 순서대로 recipe 목록을 반환합니다.
+     *
+     * @return 새 ArrayList
+     */
+    public List<Recipe> toList() {
+        List<Recipe> recipes = new ArrayList<>(size);
+        for (Node node = head.next; node != tail; node = node.next) {
+            recipes.add(node.recipe);
+        }
+        return recipes;
+    }
+
+    /**
+     * 같은 이름의 노드가 이미 있을 때만 호출되므로(중복 이름 삽입) 일반적인 업데이트 경로에서는 사용되지 않습니다.
+     */
+    private boolean isBefore(Node node, Node other) {
+        for (Node current = node.next; current != tail; current = current.next) {
+            if (current == other) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 목록의 위치를 나타내는 노드
+     */
+    public static final class Node {
+        private final Recipe recipe;
+        private Node previous;
+        private Node next;
+
+        private Node(Recipe recipe) {
+            this.recipe = recipe;
+        }
+
+        public Recipe getRecipe() {
+            return recipe;
+        }
+    }
+}
@@ -0,0 +1,466 @@
+package com.yourcompany.plugins.rewriteprepare.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.yourcompany.plugins.rewriteprepare.model.MergeRecipeDefinition;
+import com.yourcompany.plugins.rewriteprepare.model.Recipe;
+import com.yourcompany.plugins.rewriteprepare.model.RecipeDefinition;
+import com.yourcompany.plugins.rewriteprepare.model.UpdateEntry;
+import com.yourcompany.plugins.rewriteprepare.model.UpdateRecipeList;
+
+/**
+ * recipe 파일 파싱 결과를 디스크에 보관하는 영구 캐시 클래스
+ *
+ * 각 recipe 파일의 RecipeParseResult(RecipeDefinition과 MergeRecipeDefinition)를
+ * 원본 파일 내용의 SHA-256 해시를 이름으로 하는 바이너리 파일에 저장합니다.
+ * 캐시 파일은 memory-mapping으로 열어서 필요한 파일의 항목만 디코딩하므로,
+ * recipe 카탈로그가 바뀌지 않은 CI 빌드에서는 SnakeYAML + Jackson 파싱 비용을 생략할 수 있습니다.
+ *
+ * 캐시 파일은 임시 파일에 쓴 뒤 rename하므로 여러 빌드가 같은 디렉토리를 공유해도 안전합니다.
+ * 손상되었거나 형식 버전이 다른 캐시 파일은 무시하고 삭제합니다.
+ *
+ * 파싱 동작은 플러그인 버전마다 달라질 수 있으므로, 캐시 파일은 플러그인 버전별 하위 디렉토리
+ * (<cacheDirectory>/<pluginVersion>/<sha>.bin)에 저장합니다. 다른 버전이 만든 캐시는 사용하지 않습니다.
+ */
+public class RecipeDiskCache {
+    private static final Logger logger = LoggerFactory.getLogger(RecipeDiskCache.class);
+
+    private static final int MAGIC = 0x52504331; // "RPC1"
+    private static final int FORMAT_VERSION = 2;
+    private static final String FILE_SUFFIX = ".bin";
+
+    // 값 타입 태그
+    private static final byte TAG_NULL = 0;
+    private static final byte TAG_STRING = 1;
+    private static final byte TAG_INT = 2;
+    private static final byte TAG_LONG = 3;
+    private static final byte TAG_DOUBLE = 4;
+    private static final byte TAG_TRUE = 5;
+    private static final byte TAG_FALSE = 6;
+    private static final byte TAG_LIST = 7;
+    private static final byte TAG_MAP = 8;
+    private static final byte TAG_BIG_INTEGER = 9;
+    private static final byte TAG_BIG_DECIMAL = 10;
+    private static final byte TAG_BINARY = 11;
+
+    private final File directory;
+
+    public RecipeDiskCache(File directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * 플러그인 버전별 하위 디렉토리를 사용하는 캐시를 생성합니다.
+     *
+     * @param cacheDirectory 캐시 루트 디렉토리
+     * @param pluginVersion 플러그인 버전 (없으면 "unknown" 디렉토리 사용)
+     */
+    public RecipeDiskCache(File cacheDirectory, String pluginVersion) {
+        this(new File(cacheDirectory, versionDirectoryName(pluginVersion)));
+    }
+
+    /**
+     * 플러그인 버전을 디렉토리 이름으로 사용할 수 있도록 변환합니다.
+     */
+    static String versionDirectoryName(String pluginVersion) {
+        if (pluginVersion == null || pluginVersion.trim().isEmpty()) {
+            return "unknown";
+        }
+        return pluginVersion.trim().replaceAll("[^A-Za-z0-9._-]", "_");
+    }
+
+    public File getDirectory() {
+        return directory;
+    }
+
+    /**
+     * 내용 해시에 해당하는 파싱 결과를 캐시에서 읽습니다.
+     *
+     * @param contentHash 원본 recipe 파일 내용의 해시
+     * @return 캐시된 파싱 결과, 없거나 읽을 수 없으면 null
+     */
+    public YamlParser.RecipeParseResult load(String contentHash) {
+        File cacheFile = cacheFile(contentHash);
+        if (!cacheFile.isFile()) {
+            return null;
+        }
+
+        try (FileChannel channel = FileChannel.open(cacheFile.toPath(), StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            YamlParser.RecipeParseResult result = decode(buffer);
+            logger.debug("디스크 캐시 사용: {}", cacheFile.getName());
+            return result;
+        } catch (IOException | RuntimeException e) {
+            logger.warn("디스크 캐시 파일을 읽을 수 없어 삭제합니다: {} ({})", cacheFile.getAbsolutePath(), e.getMessage());
+            cacheFile.delete();
+            return null;
+        }
+    }
+
+    /**
+     * 파싱 결과를 캐시에 저장합니다.
+     * 저장에 실패해도 빌드는 계속 진행되도록 경고만 출력합니다.
+     *
+     * @param contentHash 원본 recipe 파일 내용의 해시
+     * @param result 저장할 파싱 결과
+     */
+    public void store(String contentHash, YamlParser.RecipeParseResult result) {
+        File cacheFile = cacheFile(contentHash);
+        try {
+            byte[] encoded = encode(result);
+            Files.createDirectories(directory.toPath());
+            Path tempFile = Files.createTempFile(directory.toPath(), contentHash, ".tmp");
+            try {
+                Files.write(tempFile, encoded);
+                moveAtomically(tempFile, cacheFile.toPath());
+            } finally {
+                Files.deleteIfExists(tempFile);
+            }
+            logger.debug("디스크 캐시 저장: {} ({} bytes)", cacheFile.getName(), encoded.length);
+        } catch (IOException | RuntimeException e) {
+            logger.warn("디스크 캐시 저장 실패: {} ({})", cacheFile.getAbsolutePath(), e.getMessage());
+        }
+    }
+
+    private File cacheFile(String contentHash) {
+        return new File(directory, contentHash + FILE_SUFFIX);
+    }
+
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    // ---------------------------------------------------------------------
+    // 인코딩
+    // ---------------------------------------------------------------------
+
+    static byte[] encode(YamlParser.RecipeParseResult result) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(4096);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+
+        out.writeInt(result.getRecipes().size());
+        for (RecipeDefinition recipe : result.getRecipes()) {
+            writeRecipeDefinition(out, recipe);
+        }
+
+        out.writeInt(result.getMergeDefinitions().size());
+        for (MergeRecipeDefinition mergeDef : result.getMergeDefinitions()) {
+            writeMergeDefinition(out, mergeDef);
+        }
+
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    private static void writeRecipeDefinition(DataOutputStream out, RecipeDefinition recipe) throws IOException {
+        writeString(out, recipe.getType());
+        writeString(out, recipe.getName());
+        writeString(out, recipe.getDisplayName());
+        writeString(out, recipe.getDescription());
+        writeValue(out, recipe.getTags());
+        writeString(out, recipe.getEstimatedEffortPerOccurrence());
+        writeValue(out, recipe.getCausesAnotherCycle());
+        writeValue(out, recipe.getPreconditions());
+        writeValue(out, recipe.getExclusions());
+
+        List<Recipe> recipeList = recipe.getRecipeList();
+        if (recipeList == null) {
+            out.writeInt(-1);
+        } else {
+            out.writeInt(recipeList.size());
+            for (Recipe item : recipeList) {
+                writeString(out, item.getName());
+                writeValue(out, item.getAttributes());
+            }
+        }
+        writeValue(out, recipe.getSource());
+        out.writeBoolean(recipe.isModified());
+    }
+
+    private static void writeMergeDefinition(DataOutputStream out, MergeRecipeDefinition mergeDef) throws IOException {
+        writeString(out, mergeDef.getType());
+        writeString(out, mergeDef.getName());
+
+        List<UpdateRecipeList> rules = mergeDef.getRules();
+        out.writeInt(rules.size());
+        for (UpdateRecipeList updateRecipeList : rules) {
+            writeString(out, updateRecipeList.getName());
+            UpdateRecipeList.UpdateOrder updateOrder = updateRecipeList.getUpdateOrder();
+            out.writeBoolean(updateOrder != null);
+            if (updateOrder != null) {
+                writeUpdateEntries(out, updateOrder.getFirst());
+                writeUpdateEntries(out, updateOrder.getLast());
+                writeUpdateEntries(out, updateOrder.getBefore());
+                writeUpdateEntries(out, updateOrder.getAfter());
+            }
+        }
+    }
+
+    private static void writeUpdateEntries(DataOutputStream out, List<UpdateEntry> entries) throws IOException {
+        if (entries == null) {
+            out.writeInt(-1);
+            return;
+        }
+        out.writeInt(entries.size());
+        for (UpdateEntry entry : entries) {
+            writeString(out, entry.getKey());
+            writeValue(out, entry.getValues());
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static void writeValue(DataOutputStream out, Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(TAG_NULL);
+        } else if (value instanceof String) {
+            out.writeByte(TAG_STRING);
+            writeString(out, (String) value);
+        } else if (value instanceof Integer) {
+            out.writeByte(TAG_INT);
+            out.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            out.writeByte(TAG_LONG);
+            out.writeLong((Long) value);
+        } else if (value instanceof Double) {
+            out.writeByte(TAG_DOUBLE);
+            out.writeDouble((Double) value);
+        } else if (value instanceof Boolean) {
+            out.writeByte((Boolean) value ? TAG_TRUE : TAG_FALSE);
+        } else if (value instanceof BigInteger) {
+            out.writeByte(TAG_BIG_INTEGER);
+            writeString(out, value.toString());
+        } else if (value instanceof BigDecimal) {
+            out.writeByte(TAG_BIG_DECIMAL);
+            writeString(out, value.toString());
+        } else if (value instanceof byte[]) {
+            byte[] binary = (byte[]) value;
+            out.writeByte(TAG_BINARY);
+            out.writeInt(binary.length);
+            out.write(binary);
+        } else if (value instanceof List) {
+            List<?> list = (List<?>) value;
+            out.writeByte(TAG_LIST);
+            out.writeInt(list.size());
+            for (Object item : list) {
+                writeValue(out, item);
+            }
+        } else if (value instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) value;
+            out.writeByte(TAG_MAP);
+            out.writeInt(map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                writeString(out, String.valueOf(entry.getKey()));
+                writeValue(out, entry.getValue());
+            }
+        } else {
+            throw new IllegalArgumentException("캐시할 수 없는 값 타입: " + value.getClass().getName());
+        }
+    }
+
+    // ---------------------------------------------------------------------
+    // 디코딩
+    // ---------------------------------------------------------------------
+
+    static YamlParser.RecipeParseResult decode(ByteBuffer buffer) throws IOException {
+        try {
+            if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION) {
+                throw new IOException("캐시 파일 형식이 다릅니다.");
+            }
+
+            int recipeCount = checkLength(buffer, buffer.getInt());
+            List<RecipeDefinition> recipes = new ArrayList<>(recipeCount);
+            for (int i = 0; i < recipeCount; i++) {
+                recipes.add(readRecipeDefinition(buffer));
+            }
+
+            int mergeCount = checkLength(buffer, buffer.getInt());
+            List<MergeRecipeDefinition> mergeDefinitions = new ArrayList<>(mergeCount);
+            for (int i = 0; i < mergeCount; i++) {
+                mergeDefinitions.add(readMergeDefinition(buffer));
+            }
+
+            if (buffer.hasRemaining()) {
+                throw new IOException("캐시 파일에 알 수 없는 데이터가 남아 있습니다.");
+            }
+            return new YamlParser.RecipeParseResult(recipes, mergeDefinitions);
+        } catch (BufferUnderflowException | ClassCastException e) {
+            throw new IOException("캐시 파일이 손상되었습니다.", e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static RecipeDefinition readRecipeDefinition(ByteBuffer buffer) throws IOException {
+        RecipeDefinition recipe = new RecipeDefinition();
+        recipe.setType(readString(buffer));
+        recipe.setName(readString(buffer));
+        recipe.setDisplayName(readString(buffer));
+        recipe.setDescription(readString(buffer));
+        recipe.setTags((List<String>) readValue(buffer));
+        recipe.setEstimatedEffortPerOccurrence(readString(buffer));
+        recipe.setCausesAnotherCycle((Boolean) readValue(buffer));
+        recipe.setPreconditions((List<Object>) readValue(buffer));
+        recipe.setExclusions((List<Object>) readValue(buffer));
+
+        int recipeCount = buffer.getInt();
+        if (recipeCount >= 0) {
+            List<Recipe> recipeList = new ArrayList<>(checkLength(buffer, recipeCount));
+            for (int i = 0; i < recipeCount; i++) {
+                String name = readString(buffer);
+                Map<String, Object> attributes = (Map<String, Object>) readValue(buffer);
+                recipeList.add(new Recipe(name, attributes));
+            }
+            recipe.setRecipeList(recipeList);
+        }
+        recipe.setSource((byte[]) readValue(buffer));
+        recipe.setModified(buffer.get() != 0);
+        return recipe;
+    }
+
+    private static MergeRecipeDefinition readMergeDefinition(ByteBuffer buffer) throws IOException {
+        MergeRecipeDefinition mergeDef = new MergeRecipeDefinition();
+        mergeDef.setType(readString(buffer));
+        mergeDef.setName(readString(buffer));
+
+        int ruleCount = checkLength(buffer, buffer.getInt());
+        List<UpdateRecipeList> rules = new ArrayList<>(ruleCount);
+        for (int i = 0; i < ruleCount; i++) {
+            UpdateRecipeList updateRecipeList = new UpdateRecipeList();
+            updateRecipeList.setName(readString(buffer));
+            if (buffer.get() != 0) {
+                UpdateRecipeList.UpdateOrder updateOrder = new UpdateRecipeList.UpdateOrder();
+                updateOrder.setFirst(readUpdateEntries(buffer));
+                updateOrder.setLast(readUpdateEntries(buffer));
+                updateOrder.setBefore(readUpdateEntries(buffer));
+                updateOrder.setAfter(readUpdateEntries(buffer));
+                updateRecipeList.setUpdateOrder(updateOrder);
+            }
+            rules.add(updateRecipeList);
+        }
+        mergeDef.setRules(rules);
+        return mergeDef;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<UpdateEntry> readUpdateEntries(ByteBuffer buffer) throws IOException {
+        int count = buffer.getInt();
+        if (count < 0) {
+            return null;
+        }
+        List<UpdateEntry> entries = new ArrayList<>(checkLength(buffer, count));
+        for (int i = 0; i < count; i++) {
+            String key = readString(buffer);
+            List<String> values = (List<String>) readValue(buffer);
+            entries.add(new UpdateEntry(key, values));
+        }
+        return entries;
+    }
+
+    private static String readString(ByteBuffer buffer) throws IOException {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[checkLength(buffer, length)];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static Object readValue(ByteBuffer buffer) throws IOException {
+        byte tag = buffer.get();
+        switch (tag) {
+            case TAG_NULL:
+                return null;
+            case TAG_STRING:
+                return readString(buffer);
+            case TAG_INT:
+                return buffer.getInt();
+            case TAG_LONG:
+                return buffer.getLong();
+            case TAG_DOUBLE:
+                return buffer.getDouble();
+            case TAG_TRUE:
+                return Boolean.TRUE;
+            case TAG_FALSE:
+                return Boolean.FALSE;
+            case TAG_BIG_INTEGER:
+                return new BigInteger(readString(buffer));
+            case TAG_BIG_DECIMAL:
+                return new BigDecimal(readString(buffer));
+            case TAG_BINARY: {
+                byte[] binary = new byte[checkLength(buffer, buffer.getInt())];
+                buffer.get(binary);
+                return binary;
+            }
+            case TAG_LIST: {
+                int size = checkLength(buffer, buffer.getInt());
+                List<Object> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    list.add(readValue(buffer));
+                }
+                return list;
+            }
+            case TAG_MAP: {
+                int size = checkLength(buffer, buffer.getInt());
+                Map<String, Object> map = new LinkedHashMap<>();
+                for (int i = 0; i < size; i++) {
+                    String key = readString(buffer);
+                    map.put(key, readValue(buffer));
+                }
+                return map;
+            }
+            default:
+                throw new IOException("알 수 없는 값 태그: " + tag);
+        }
+    }
+
+    /**
+     * 파일에서 읽은 길이(바이트 수 또는 항목 수)가 남은 데이터 크기를 넘지 않는지 확인합니다.
+     * 항목은 최소 1바이트를 차지하므로, 손상된 파일의 값으로 큰 배열을 할당하기 전에 걸러낼 수 있습니다.
+     *
+     * @return 검사한 길이
+     * @throws IOException 길이가 음수이거나 남은 데이터보다 큰 경우
+     */
+    private static int checkLength(ByteBuffer buffer, int length) throws IOException {
+        if (length < 0 || length > buffer.remaining()) {
+            throw new IOException("캐시 파일이 손상되었습니다. (길이: " + length + ", 남은 크기: " + buffer.remaining() + ")");
+        }
+        return length;
+    }
+}
@@ -0,0 +1,458 @@
+package com.yourcompany.plugins.rewriteprepare.service;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.databind.exc.UnrecognizedPropertyException;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.yourcompany.plugins.rewriteprepare.model.MergeRecipeDefinition;
+import com.yourcompany.plugins.rewriteprepare.model.Recipe;
+import com.yourcompany.plugins.rewriteprepare.model.RecipeDefinition;
+import com.yourcompany.plugins.rewriteprepare.model.UpdateEntry;
+import com.yourcompany.plugins.rewriteprepare.model.UpdateRecipeList;
+
+/**
+ * recipe YAML 문서를 토큰 스트림에서 바로 모델 객체로 변환하는 클래스
+ *
+ * 문서 전체를 Map으로 읽은 뒤 convertValue로 다시 변환하지 않고, type 필드로 문서 종류를 결정한 다음
+ * RecipeDefinition 또는 MergeRecipeDefinition을 한 번에 생성합니다.
+ * 변환 규칙은 기존 Jackson 바인딩(RecipeDefinition.setRecipeListRaw, MergeRecipeDefinition.setRulesRaw 등)과 같습니다:
+ * - recipe 문서: 알 수 없는 필드가 있으면 오류가 발생하며, name이 없으면 결과에 포함하지 않습니다.
+ * - merge 문서: 알 수 없는 필드는 무시합니다.
+ * - type 필드가 첫 번째 필드가 아니면 문서를 TokenBuffer에 복사한 뒤 type을 확인합니다.
+ *
+ * 레시피가 아닌 OpenRewrite 문서(specs.openrewrite.org/v1beta/style, category 등)는
+ * 값을 만들지 않고 skipChildren()으로 건너뜁니다.
+ */
+public class RecipeDocumentBinder {
+    private static final Logger logger = LoggerFactory.getLogger(RecipeDocumentBinder.class);
+
+    private static final String MERGE_TYPE = "org.yourcompany.openrewrite/v1/merge";
+    private static final String OPENREWRITE_SPEC_PREFIX = "specs.openrewrite.org/";
+    private static final String RECIPE_TYPE_SUFFIX = "/recipe";
+
+    private static final Collection<Object> RECIPE_FIELDS = Arrays.asList(
+            "type", "name", "displayName", "description", "tags", "estimatedEffortPerOccurrence",
+            "causesAnotherCycle", "preconditions", "exclusions", "recipeList");
+
+    private final ObjectMapper mapper;
+    private final ObjectReader stringReader;
+    private final ObjectReader booleanReader;
+    private final ObjectReader stringListReader;
+    private final ObjectReader listReader;
+    private final ObjectReader valueReader;
+
+    public RecipeDocumentBinder(ObjectMapper mapper) {
+        this.mapper = mapper;
+        this.stringReader = mapper.readerFor(String.class);
+        this.booleanReader = mapper.readerFor(Boolean.class);
+        this.stringListReader = mapper.readerFor(new TypeReference<List<String>>() { });
+        this.listReader = mapper.readerFor(List.class);
+        this.valueReader = mapper.readerFor(Object.class);
+    }
+
+    /**
+     * 현재 토큰에서 시작하는 YAML 문서 하나를 읽어 결과 리스트에 추가합니다.
+     * 정상적으로 끝나면 parser는 문서의 마지막 토큰에 위치합니다.
+     *
+     * @param parser 문서의 첫 번째 토큰에 위치한 parser
+     * @param recipes RecipeDefinition을 추가할 리스트
+     * @param mergeDefinitions MergeRecipeDefinition을 추가할 리스트
+     * @throws IOException 파싱 또는 변환 오류 (skipToDocumentEnd로 다음 문서로 이동할 수 있음)
+     */
+    public void readDocument(JsonParser parser, List<RecipeDefinition> recipes,
+            List<MergeRecipeDefinition> mergeDefinitions) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            // 빈 문서
+            return;
+        }
+        if (token != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            throw MismatchedInputException.from(parser, Map.class,
+                    "YAML 문서가 객체 형식이 아닙니다: " + token);
+        }
+
+        String type;
+        JsonParser fieldParser;
+        if (parser.nextToken() == JsonToken.FIELD_NAME && "type".equals(parser.getCurrentName())) {
+            parser.nextToken();
+            type = readType(parser);
+            parser.nextToken();
+            fieldParser = parser;
+        } else {
+            // type이 첫 번째 필드가 아닌 경우: 나머지 필드를 버퍼에 복사하면서 type을 찾음
+            TokenBuffer buffer = new TokenBuffer(parser);
+            buffer.writeStartObject();
+            type = null;
+            while (parser.currentToken() == JsonToken.FIELD_NAME) {
+                if ("type".equals(parser.getCurrentName())) {
+                    parser.nextToken();
+                    type = readType(parser);
+                } else {
+                    buffer.copyCurrentStructure(parser);
+                }
+                parser.nextToken();
+            }
+            buffer.writeEndObject();
+            fieldParser = buffer.asParser(mapper);
+            fieldParser.nextToken();
+            fieldParser.nextToken();
+        }
+
+        if (MERGE_TYPE.equals(type)) {
+            MergeRecipeDefinition mergeDef = readMergeDefinition(fieldParser, type);
+            mergeDefinitions.add(mergeDef);
+            logger.debug("MergeRecipeDefinition 파싱 완료: {}", mergeDef.getName());
+        } else if (isUnsupportedType(type)) {
+            skipFields(fieldParser);
+            logger.debug("레시피가 아닌 문서를 건너뜁니다: type={}", type);
+        } else {
+            RecipeDefinition recipe = readRecipeDefinition(fieldParser, type);
+            if (recipe.getName() != null) {
+                recipes.add(recipe);
+                logger.debug("Recipe 파싱 완료: {}", recipe.getName());
+            }
+        }
+    }
+
+    /**
+     * 오류가 발생한 문서의 나머지 토큰을 건너뛰어 parser를 문서의 마지막 토큰으로 이동합니다.
+     *
+     * @param parser YAML parser
+     * @throws IOException YAML 구문 오류
+     */
+    public void skipToDocumentEnd(JsonParser parser) throws IOException {
+        while (!parser.getParsingContext().inRoot()) {
+            if (parser.nextToken() == null) {
+                return;
+            }
+            parser.skipChildren();
+        }
+    }
+
+    /**
+     * 레시피로 처리하지 않는 type인지 확인합니다.
+     * type이 없거나 OpenRewrite 명세가 아닌 type은 기존과 같이 RecipeDefinition으로 처리합니다.
+     */
+    private static boolean isUnsupportedType(String type) {
+        return type != null && type.startsWith(OPENREWRITE_SPEC_PREFIX) && !type.endsWith(RECIPE_TYPE_SUFFIX);
+    }
+
+    private String readType(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_STRING) {
+            return parser.getText();
+        }
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        throw MismatchedInputException.from(parser, String.class, "type은 문자열이어야 합니다: " + token);
+    }
+
+    /**
+     * 남은 필드를 모두 건너뜁니다. parser는 필드 이름 또는 END_OBJECT에 위치해야 합니다.
+     */
+    private void skipFields(JsonParser parser) throws IOException {
+        while (parser.currentToken() == JsonToken.FIELD_NAME) {
+            parser.nextToken();
+            parser.skipChildren();
+            parser.nextToken();
+        }
+    }
+
+    /**
+     * RecipeDefinition 필드를 읽습니다. parser는 첫 번째 필드 이름 또는 END_OBJECT에 위치해야 합니다.
+     */
+    private RecipeDefinition readRecipeDefinition(JsonParser parser, String type) throws IOException {
+        RecipeDefinition recipe = new RecipeDefinition();
+        recipe.setType(type);
+
+        while (parser.currentToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "type":
+                    recipe.setType(stringReader.readValue(parser));
+                    break;
+                case "name":
+                    recipe.setName(stringReader.readValue(parser));
+                    break;
+                case "displayName":
+                    recipe.setDisplayName(stringReader.readValue(parser));
+                    break;
+                case "description":
+                    recipe.setDescription(stringReader.readValue(parser));
+                    break;
+                case "tags":
+                    recipe.setTags(stringListReader.readValue(parser));
+                    break;
+                case "estimatedEffortPerOccurrence":
+                    recipe.setEstimatedEffortPerOccurrence(stringReader.readValue(parser));
+                    break;
+                case "causesAnotherCycle":
+                    recipe.setCausesAnotherCycle(booleanReader.readValue(parser));
+                    break;
+                case "preconditions":
+                    recipe.setPreconditions(listReader.readValue(parser));
+                    break;
+                case "exclusions":
+                    recipe.setExclusions(listReader.readValue(parser));
+                    break;
+                case "recipeList":
+                    recipe.setRecipeList(readRecipeList(parser, recipe));
+                    break;
+                default:
+                    throw UnrecognizedPropertyException.from(parser, RecipeDefinition.class, field, RECIPE_FIELDS);
+            }
+            parser.nextToken();
+        }
+        return recipe;
+    }
+
+    /**
+     * recipeList를 읽습니다 (RecipeDefinition.setRecipeListRaw와 같은 규칙).
+     * 단순 문자열은 attributes가 없는 Recipe로, 키가 하나인 Map은 이름과 attributes를 가진 Recipe로 변환하며,
+     * 그 외의 항목은 무시합니다. 무시한 항목이 있으면 출력이 원본과 달라야 하므로 recipe를 변경된 것으로 표시합니다.
+     */
+    private List<Recipe> readRecipeList(JsonParser parser, RecipeDefinition owner) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token != JsonToken.START_ARRAY) {
+            throw MismatchedInputException.from(parser, List.class, "recipeList는 리스트여야 합니다: " + token);
+        }
+
+        List<Recipe> recipeList = new ArrayList<>();
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token == JsonToken.VALUE_STRING) {
+                recipeList.add(new Recipe(parser.getText()));
+            } else if (token == JsonToken.START_OBJECT) {
+                Recipe recipe = readRecipe(parser);
+                if (recipe != null) {
+                    recipeList.add(recipe);
+                } else {
+                    owner.setModified(true);
+                }
+            } else {
+                parser.skipChildren();
+                owner.setModified(true);
+            }
+        }
+        return recipeList;
+    }
+
+    /**
+     * recipeList의 Map 항목 하나를 읽습니다. 키가 정확히 하나가 아니면 null을 반환합니다.
+     */
+    private Recipe readRecipe(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.FIELD_NAME) {
+            return null;
+        }
+        Recipe recipe = new Recipe(parser.getCurrentName());
+        if (parser.nextToken() == JsonToken.START_OBJECT) {
+            Map<String, Object> attributes = recipe.getAttributes();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String attributeName = parser.getCurrentName();
+                parser.nextToken();
+                attributes.put(attributeName, valueReader.readValue(parser));
+            }
+        } else {
+            parser.skipChildren();
+        }
+
+        if (parser.nextToken() != JsonToken.END_OBJECT) {
+            skipFields(parser);
+            return null;
+        }
+        return recipe;
+    }
+
+    /**
+     * MergeRecipeDefinition 필드를 읽습니다 (알 수 없는 필드는 무시).
+     */
+    private MergeRecipeDefinition readMergeDefinition(JsonParser parser, String type) throws IOException {
+        MergeRecipeDefinition mergeDef = new MergeRecipeDefinition();
+        mergeDef.setType(type);
+
+        while (parser.currentToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "type":
+                    mergeDef.setType(stringReader.readValue(parser));
+                    break;
+                case "name":
+                    mergeDef.setName(stringReader.readValue(parser));
+                    break;
+                case "rules":
+                    mergeDef.setRules(readMergeRules(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+                    break;
+            }
+            parser.nextToken();
+        }
+        return mergeDef;
+    }
+
+    /**
+     * merge 문서의 rules를 읽습니다 (MergeRecipeDefinition.setRulesRaw와 같은 규칙).
+     * updateRecipeList 키가 Map인 항목만 사용합니다.
+     */
+    private List<UpdateRecipeList> readMergeRules(JsonParser parser) throws IOException {
+        List<UpdateRecipeList> rules = new ArrayList<>();
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return rules;
+        }
+        if (token != JsonToken.START_ARRAY) {
+            throw MismatchedInputException.from(parser, List.class, "rules는 리스트여야 합니다: " + token);
+        }
+
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                if (parser.nextToken() == JsonToken.START_OBJECT && "updateRecipeList".equals(field)) {
+                    rules.add(readUpdateRecipeList(parser));
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return rules;
+    }
+
+    private UpdateRecipeList readUpdateRecipeList(JsonParser parser) throws IOException {
+        UpdateRecipeList updateRecipeList = new UpdateRecipeList();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken token = parser.nextToken();
+            if ("name".equals(field)) {
+                if (token == JsonToken.VALUE_STRING) {
+                    updateRecipeList.setName(parser.getText());
+                } else if (token == JsonToken.VALUE_NULL) {
+                    updateRecipeList.setName(null);
+                } else {
+                    throw MismatchedInputException.from(parser, String.class,
+                            "updateRecipeList.name은 문자열이어야 합니다: " + token);
+                }
+            } else if ("updateOrder".equals(field) && token == JsonToken.START_ARRAY) {
+                updateRecipeList.setUpdateOrder(readUpdateOrder(parser));
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return updateRecipeList;
+    }
+
+    /**
+     * updateOrder를 읽습니다 (UpdateOrder.setUpdateOrderRaw와 같은 규칙, 나중에 나온 키가 우선).
+     */
+    private UpdateRecipeList.UpdateOrder readUpdateOrder(JsonParser parser) throws IOException {
+        UpdateRecipeList.UpdateOrder order = new UpdateRecipeList.UpdateOrder();
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                parser.nextToken();
+                switch (field) {
+                    case "first":
+                        order.setFirst(readUpdateEntries(parser));
+                        break;
+                    case "last":
+                        order.setLast(readUpdateEntries(parser));
+                        break;
+                    case "before":
+                        order.setBefore(readUpdateEntries(parser));
+                        break;
+                    case "after":
+                        order.setAfter(readUpdateEntries(parser));
+                        break;
+                    default:
+                        parser.skipChildren();
+                        break;
+                }
+            }
+        }
+        return order;
+    }
+
+    /**
+     * first/last/before/after 항목 목록을 읽습니다 (UpdateEntry.setValue와 같은 규칙).
+     */
+    @SuppressWarnings("unchecked")
+    private List<UpdateEntry> readUpdateEntries(JsonParser parser) throws IOException {
+        List<UpdateEntry> entries = new ArrayList<>();
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return entries;
+        }
+
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            UpdateEntry entry = new UpdateEntry();
+            if (token == JsonToken.VALUE_STRING) {
+                List<String> values = new ArrayList<>();
+                values.add(parser.getText());
+                entry.setValues(values);
+            } else if (token == JsonToken.START_ARRAY) {
+                entry.setValues((List<String>) listReader.readValue(parser));
+            } else if (token == JsonToken.START_OBJECT) {
+                readKeyedEntry(parser, entry);
+            } else {
+                parser.skipChildren();
+            }
+            entries.add(entry);
+        }
+        return entries;
+    }
+
+    /**
+     * before/after의 "대상: [추가할 recipe...]" 항목을 읽습니다. 키가 정확히 하나가 아니면 entry를 비워 둡니다.
+     */
+    @SuppressWarnings("unchecked")
+    private void readKeyedEntry(JsonParser parser, UpdateEntry entry) throws IOException {
+        if (parser.nextToken() != JsonToken.FIELD_NAME) {
+            return;
+        }
+        String key = parser.getCurrentName();
+        List<String> values;
+        if (parser.nextToken() == JsonToken.START_ARRAY) {
+            values = (List<String>) listReader.readValue(parser);
+        } else {
+            parser.skipChildren();
+            values = new ArrayList<>();
+        }
+
+        if (parser.nextToken() != JsonToken.END_OBJECT) {
+            skipFields(parser);
+            return;
+        }
+        entry.setKey(key);
+        entry.setValues(values);
+    }
+}
@@ -0,0 +1,132 @@
+package com.yourcompany.plugins.rewriteprepare.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.yourcompany.plugins.rewriteprepare.model.Recipe;
+import com.yourcompany.plugins.rewriteprepare.model.RecipeCatalog;
+import com.yourcompany.plugins.rewriteprepare.model.RecipeDefinition;
+
+/**
+ * 로컬에 정의된 composite recipe를 recipeList에 펼쳐 넣는 서비스 클래스
+ *
+ * recipeList 항목이 병합된 카탈로그에 정의된 recipe를 참조하면, 그 정의의 recipeList(재귀적으로 펼친 결과)로
+ * 바꿉니다. 각 leaf recipe는 자신의 attributes를 그대로 유지하며, 펼친 결과에서 이름과 attributes가 모두 같은
+ * 항목은 처음 항목만 남깁니다.
+ *
+ * 다음 참조는 의미가 달라질 수 있으므로 펼치지 않고 그대로 둡니다:
+ * - attributes가 있는 참조
+ * - preconditions 또는 exclusions가 있는 정의, recipeList가 비어 있는 정의
+ * - 순환 참조에 포함된 recipe (RecipeGraphAnalyzer 기준): 자신도 펼치지 않고, 다른 정의에 펼쳐 넣지도 않음
+ *
+ * 정의별 펼친 결과는 한 번만 계산하여 재사용합니다. recipeList가 바뀐 정의만 modified로 표시되므로
+ * 나머지 정의는 원본 문서를 그대로 출력합니다.
+ */
+public class RecipeFlattener {
+    private static final Logger logger = LoggerFactory.getLogger(RecipeFlattener.class);
+
+    /**
+     * 카탈로그의 모든 정의의 recipeList를 펼칩니다.
+     *
+     * @param recipes 병합된 RecipeDefinition 카탈로그 (정의의 recipeList가 변경됨)
+     * @return recipeList가 변경된 정의 수
+     */
+    public int flatten(RecipeCatalog recipes) {
+        // 순환 참조에 포함된 recipe는 펼치지 않음 (펼친 결과가 탐색 경로에 따라 달라지므로)
+        Set<String> cyclic = new HashSet<>();
+        for (List<String> cycle : new RecipeGraphAnalyzer().analyze(recipes).getCycles()) {
+            cyclic.addAll(cycle);
+        }
+
+        Map<String, List<Recipe>> flattened = new HashMap<>();
+        int changed = 0;
+        for (RecipeDefinition recipe : recipes) {
+            if (recipe.getRecipeList() == null || recipe.getRecipeList().isEmpty() || cyclic.contains(recipe.getName())) {
+                continue;
+            }
+            List<Recipe> result;
+            if (recipe.getName() != null && recipes.findByName(recipe.getName()) == recipe) {
+                result = flattened(recipes, recipe, flattened, cyclic);
+            } else {
+                // 같은 이름의 두 번째 이후 정의: 자기 자신의 recipeList를 기준으로 펼침
+                result = expand(recipes, recipe.getRecipeList(), flattened, cyclic);
+            }
+            if (!result.equals(recipe.getRecipeList()) || !sameAttributes(result, recipe.getRecipeList())) {
+                List<Recipe> copied = new ArrayList<>(result.size());
+                for (Recipe entry : result) {
+                    copied.add(new Recipe(entry.getName(), entry.getAttributes()));
+                }
+                recipe.setRecipeList(copied);
+                recipe.setModified(true);
+                changed++;
+                logger.debug("recipeList 펼침: {} ({} 개 항목)", recipe.getName(), copied.size());
+            }
+        }
+        if (!cyclic.isEmpty()) {
+            logger.info("순환 참조에 포함되어 펼치지 않은 recipe: {}", cyclic);
+        }
+        logger.info("composite recipe 펼침 완료: {} 개의 정의 변경", changed);
+        return changed;
+    }
+
+    /**
+     * 이름으로 조회되는 정의의 펼친 recipeList를 반환합니다 (계산 결과는 이름별로 재사용).
+     * 순환 참조에 포함된 recipe는 펼치지 않으므로 결과는 어느 정의에서 참조하든 같습니다.
+     */
+    private List<Recipe> flattened(RecipeCatalog recipes, RecipeDefinition definition,
+            Map<String, List<Recipe>> flattened, Set<String> cyclic) {
+        List<Recipe> result = flattened.get(definition.getName());
+        if (result == null) {
+            result = expand(recipes, definition.getRecipeList(), flattened, cyclic);
+            flattened.put(definition.getName(), result);
+        }
+        return result;
+    }
+
+    private List<Recipe> expand(RecipeCatalog recipes, List<Recipe> recipeList,
+            Map<String, List<Recipe>> flattened, Set<String> cyclic) {
+        // 이름과 attributes가 같은 항목은 처음 항목만 유지
+        Set<String> seen = new HashSet<>();
+        List<Recipe> result = new ArrayList<>(recipeList.size());
+        for (Recipe entry : recipeList) {
+            RecipeDefinition definition = recipes.findByName(entry.getName());
+            if (isExpandable(entry, definition) && !cyclic.contains(entry.getName())) {
+                for (Recipe leaf : flattened(recipes, definition, flattened, cyclic)) {
+                    if (seen.add(RecipeListDeduplicator.invocationKey(leaf))) {
+                        result.add(leaf);
+                    }
+                }
+            } else if (seen.add(RecipeListDeduplicator.invocationKey(entry))) {
+                result.add(entry);
+            }
+        }
+        return result;
+    }
+
+    private static boolean isExpandable(Recipe entry, RecipeDefinition definition) {
+        return definition != null
+                && entry.getAttributes().isEmpty()
+                && definition.getRecipeList() != null && !definition.getRecipeList().isEmpty()
+                && (definition.getPreconditions() == null || definition.getPreconditions().isEmpty())
+                && (definition.getExclusions() == null || definition.getExclusions().isEmpty());
+    }
+
+    /**
+     * Recipe.equals는 이름만 비교하므로 attributes까지 같은지 따로 확인합니다.
+     */
+    private static boolean sameAttributes(List<Recipe> recipes, List<Recipe> others) {
+        for (int i = 0; i < recipes.size(); i++) {
+            if (!recipes.get(i).getAttributes().equals(others.get(i).getAttributes())) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,215 @@
+package com.yourcompany.plugins.rewriteprepare.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.yourcompany.plugins.rewriteprepare.model.Recipe;
+import com.yourcompany.plugins.rewriteprepare.model.RecipeCatalog;
+import com.yourcompany.plugins.rewriteprepare.model.RecipeDefinition;
+
+/**
+ * 병합된 recipe 정의의 recipeList 참조 그래프를 검사하는 서비스 클래스
+ *
+ * recipe 이름을 노드, recipeList 항목을 간선으로 보고 다음을 찾습니다:
+ * - 순환 참조: Tarjan 알고리즘으로 강한 연결 요소(SCC)를 구하여, 둘 이상의 recipe로 이루어진 요소와
+ *   자기 자신을 참조하는 recipe를 보고합니다.
+ * - 정의되지 않은 참조: 병합된 정의에도 없고 외부 recipe 패턴(예: org.openrewrite.*)에도 맞지 않는 이름
+ *
+ * 간선 수에 비례하는 시간에 검사하며, 깊게 중첩된 recipe에서도 스택이 넘치지 않도록 반복문으로 구현합니다.
+ * 같은 이름의 정의가 여러 개 있으면 모든 정의의 recipeList를 하나의 노드의 간선으로 봅니다.
+ */
+public class RecipeGraphAnalyzer {
+
+    /**
+     * 검사 결과의 처리 방식
+     */
+    public enum CheckMode {
+        /** 검사하지 않습니다. */
+        OFF,
+        /** 문제를 경고로 출력합니다. */
+        WARN,
+        /** 문제가 있으면 빌드를 실패시킵니다. */
+        FAIL
+    }
+
+    private final GlobMatcher externalRecipes;
+
+    public RecipeGraphAnalyzer() {
+        this(null);
+    }
+
+    /**
+     * 외부 recipe 패턴을 지정하여 RecipeGraphAnalyzer를 생성합니다.
+     *
+     * @param knownExternalRecipes 정의되지 않아도 되는 recipe 이름의 glob 패턴 목록 (null이면 없음)
+     */
+    public RecipeGraphAnalyzer(List<String> knownExternalRecipes) {
+        if (knownExternalRecipes == null || knownExternalRecipes.isEmpty()) {
+            this.externalRecipes = null;
+        } else {
+            this.externalRecipes = GlobMatcher.compile(String.join(",", knownExternalRecipes));
+        }
+    }
+
+    /**
+     * recipe 참조 그래프를 검사합니다.
+     *
+     * @param recipes 병합된 RecipeDefinition 카탈로그
+     * @return 검사 결과
+     */
+    public GraphReport analyze(RecipeCatalog recipes) {
+        GraphReport report = new GraphReport();
+
+        // 이름 → 번호, 번호별 간선 (정의 순서)
+        Map<String, Integer> ids = new HashMap<>();
+        List<String> names = new ArrayList<>();
+        for (RecipeDefinition recipe : recipes) {
+            if (recipe.getName() != null && !ids.containsKey(recipe.getName())) {
+                ids.put(recipe.getName(), names.size());
+                names.add(recipe.getName());
+            }
+        }
+        List<List<Integer>> edges = new ArrayList<>(names.size());
+        for (int i = 0; i < names.size(); i++) {
+            edges.add(new ArrayList<>());
+        }
+        boolean[] selfReference = new boolean[names.size()];
+        for (RecipeDefinition recipe : recipes) {
+            if (recipe.getName() == null || recipe.getRecipeList() == null) {
+                continue;
+            }
+            int from = ids.get(recipe.getName());
+            for (Recipe child : recipe.getRecipeList()) {
+                Integer to = ids.get(child.getName());
+                if (to != null) {
+                    edges.get(from).add(to);
+                    if (to == from) {
+                        selfReference[from] = true;
+                    }
+                } else if (!isExternal(child.getName())) {
+                    report.danglingReferences.computeIfAbsent(child.getName(), key -> new LinkedHashSet<>())
+                            .add(recipe.getName());
+                }
+            }
+        }
+
+        for (List<Integer> component : stronglyConnectedComponents(edges)) {
+            if (component.size() > 1 || selfReference[component.get(0)]) {
+                List<String> cycle = new ArrayList<>(component.size());
+                Collections.sort(component);
+                for (int id : component) {
+                    cycle.add(names.get(id));
+                }
+                report.cycles.add(cycle);
+            }
+        }
+        return report;
+    }
+
+    private boolean isExternal(String name) {
+        return externalRecipes != null && externalRecipes.matches(name);
+    }
+
+    /**
+     * 반복문으로 구현한 Tarjan 알고리즘
+     *
+     * @param edges 노드별 간선 목록
+     * @return 강한 연결 요소 목록
+     */
+    private static List<List<Integer>> stronglyConnectedComponents(List<List<Integer>> edges) {
+        int size = edges.size();
+        int[] index = new int[size];
+        int[] lowLink = new int[size];
+        int[] nextEdge = new int[size];
+        boolean[] onStack = new boolean[size];
+        Arrays.fill(index, -1);
+
+        List<List<Integer>> components = new ArrayList<>();
+        Deque<Integer> stack = new ArrayDeque<>();
+        Deque<Integer> callStack = new ArrayDeque<>();
+        int counter = 0;
+
+        for (int start = 0; start < size; start++) {
+            if (index[start] >= 0) {
+                continue;
+            }
+            index[start] = lowLink[start] = counter++;
+            stack.push(start);
+            onStack[start] = true;
+            callStack.push(start);
+
+            while (!callStack.isEmpty()) {
+                int node = callStack.peek();
+                List<Integer> targets = edges.get(node);
+                if (nextEdge[node] < targets.size()) {
+                    int target = targets.get(nextEdge[node]++);
+                    if (index[target] < 0) {
+                        index[target] = lowLink[target] = counter++;
+                        stack.push(target);
+                        onStack[target] = true;
+                        callStack.push(target);
+                    } else if (onStack[target]) {
+                        lowLink[node] = Math.min(lowLink[node], index[target]);
+                    }
+                    continue;
+                }
+
+                // 모든 간선을 방문한 노드: 요소의 루트이면 요소를 꺼냄
+                callStack.pop();
+                if (!callStack.isEmpty()) {
+                    int parent = callStack.peek();
+                    lowLink[parent] = Math.min(lowLink[parent], lowLink[node]);
+                }
+                if (lowLink[node] == index[node]) {
+                    List<Integer> component = new ArrayList<>();
+                    int member;
+                    do {
+                        member = stack.pop();
+                        onStack[member] = false;
+                        component.add(member);
+                    } while (member != node);
+                    components.add(component);
+                }
+            }
+        }
+        return components;
+    }
+
+    /**
+     * 검사 결과
+     */
+    public static class GraphReport {
+        private final List<List<String>> cycles = new ArrayList<>();
+        private final Map<String, Set<String>> danglingReferences = new LinkedHashMap<>();
+
+        /**
+         * 순환 참조를 이루는 recipe 이름 목록 (요소별로 정의 순서)
+         */
+        public List<List<String>> getCycles() {
+            return cycles;
+        }
+
+        /**
+         * 정의되지 않은 recipe 이름 → 해당 이름을 참조하는 recipe 이름 목록
+         */
+        public Map<String, Set<String>> getDanglingReferences() {
+            return danglingReferences;
+        }
+
+        /**
+         * 순환 참조나 정의되지 않은 참조가 있는지 반환합니다.
+         */
+        public boolean hasProblems() {
+            return !cycles.isEmpty() || !danglingReferences.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.yourcompany.plugins.rewriteprepare.service;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.yourcompany.plugins.rewriteprepare.model.Recipe;
+import com.yourcompany.plugins.rewriteprepare.model.RecipeCatalog;
+import com.yourcompany.plugins.rewriteprepare.model.RecipeDefinition;
+
+/**
+ * recipeList에서 같은 recipe 호출(이름과 attributes가 모두 같은 항목)을 제거하는 서비스 클래스
+ *
+ * Recipe.equals는 이름만 비교하므로, 이름과 attributes를 정규화한 키(invocationKey)로 비교합니다.
+ * 키는 map의 키 순서와 정수 타입(Integer/Long 등)에 관계없이 같은 값이면 같습니다.
+ * 이름이 같아도 attributes가 다른 항목은 서로 다른 호출이므로 유지합니다.
+ *
+ * 각 recipeList에서 처음 등장한 항목만 남기며, 항목이 제거된 정의만 modified로 표시합니다.
+ */
+public class RecipeListDeduplicator {
+    private static final Logger logger = LoggerFactory.getLogger(RecipeListDeduplicator.class);
+
+    /**
+     * 카탈로그의 모든 정의에서 recipeList의 중복 호출을 제거합니다.
+     *
+     * @param recipes 병합된 RecipeDefinition 카탈로그 (정의의 recipeList가 변경됨)
+     * @return 제거된 항목 수
+     */
+    public int dedupe(RecipeCatalog recipes) {
+        int removed = 0;
+        int changedDefinitions = 0;
+        for (RecipeDefinition recipe : recipes) {
+            List<Recipe> recipeList = recipe.getRecipeList();
+            if (recipeList == null || recipeList.size() < 2) {
+                continue;
+            }
+            Set<String> seen = new HashSet<>();
+            List<Recipe> deduped = new ArrayList<>(recipeList.size());
+            for (Recipe entry : recipeList) {
+                if (seen.add(invocationKey(entry))) {
+                    deduped.add(entry);
+                }
+            }
+            if (deduped.size() < recipeList.size()) {
+                logger.debug("recipeList 중복 제거: {} ({} 개 항목 제거)", recipe.getName(), recipeList.size() - deduped.size());
+                removed += recipeList.size() - deduped.size();
+                changedDefinitions++;
+                recipe.setRecipeList(deduped);
+                recipe.setModified(true);
+            }
+        }
+        logger.info("recipeList 중복 제거 완료: {} 개의 정의에서 {} 개 항목 제거", changedDefinitions, removed);
+        return removed;
+    }
+
+    /**
+     * recipe 호출을 비교하기 위한 정규화된 키를 반환합니다.
+     * attributes의 map은 키 순서로 정렬하고, 정수 값은 타입과 관계없이 같은 표현으로 변환합니다.
+     *
+     * @param recipe recipeList 항목
+     * @return 이름과 attributes가 같으면 같은 문자열
+     */
+    static String invocationKey(Recipe recipe) {
+        StringBuilder key = new StringBuilder(String.valueOf(recipe.getName()));
+        if (!recipe.getAttributes().isEmpty()) {
+            key.append('\0');
+            appendCanonical(key, recipe.getAttributes());
+        }
+        return key.toString();
+    }
+
+    private static void appendCanonical(StringBuilder key, Object value) {
+        if (value == null) {
+            key.append('~');
+        } else if (value instanceof Map) {
+            Map<String, Object> sorted = new TreeMap<>();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                sorted.put(String.valueOf(entry.getKey()), entry.getValue());
+            }
+            key.append('{');
+            for (Map.Entry<String, Object> entry : sorted.entrySet()) {
+                appendString(key, entry.getKey());
+                key.append(':');
+                appendCanonical(key, entry.getValue());
+                key.append(',');
+            }
+            key.append('}');
+        } else if (value instanceof Collection) {
+            key.append('[');
+            for (Object item : (Collection<?>) value) {
+                appendCanonical(key, item);
+                key.append(',');
+            }
+            key.append(']');
+        } else if (value instanceof String) {
+            appendString(key, (String) value);
+        } else if (value instanceof Integer || value instanceof Long || value instanceof Short
+                || value instanceof Byte || value instanceof BigInteger) {
+            key.append('#').append(value);
+        } else {
+            key.append('(').append(value.getClass().getSimpleName()).append(')').append(value);
+        }
+    }
+
+    private static void appendString(StringBuilder key, String value) {
+        key.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                key.append('\\');
+            }
+            key.append(c);
+        }
+        key.append('"');
+    }
+}
@@ -2,11 +2,16 @@ package com.yourcompany.plugins.rewriteprepare.service;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.yourcompany.plugins.rewriteprepare.model.Recipe;
+import com.yourcompany.plugins.rewriteprepare.model.RecipeCatalog;
 import com.yourcompany.plugins.rewriteprepare.model.RecipeDefinition;
 import com.yourcompany.plugins.rewriteprepare.model.UpdateEntry;
 import com.yourcompany.plugins.rewriteprepare.model.UpdateRecipeList;
@@ -14,54 +19,223 @@ import com.yourcompany.plugins.rewriteprepare.model.UpdateRecipeList;
 /**
  * RecipeDefinition의 recipeList를 업데이트하는 서비스 클래스
  * first, last, before, after 순서에 따라 recipe를 추가합니다.
+ * 여러 업데이트는 RecipeUpdatePlan으로 대상 recipe별로 묶어 적용하고, 대상별 결과(UpdateSummary)를 반환합니다.
+ *
+ * parallelism이 2 이상이면 서로 다른 대상의 업데이트를 공유 스레드 풀(SharedWorkerPool)에서 동시에 적용합니다.
+ * 대상별 로그는 모아 두었다가 계획의 대상 순서대로 출력하므로 로그와 결과는 순차 적용과 같습니다.
+ *
+ * orderingMode가 CONSTRAINT이면 대상의 모든 지시를 RecipeOrderSolver로 한 번에 풀어,
+ * 나중에 적용되는 업데이트에서 추가되는 recipe도 before/after 기준으로 사용할 수 있습니다.
  */
 public class RecipeListUpdater {
     private static final Logger logger = LoggerFactory.getLogger(RecipeListUpdater.class);
 
+    /**
+     * 같은 대상에 대한 여러 업데이트의 적용 방식
+     */
+    public enum OrderingMode {
+        /** 업데이트를 정의된 순서대로 하나씩 적용합니다. 적용 시점에 없는 before/after 기준은 건너뜁니다. */
+        SEQUENTIAL,
+        /** 모든 first/last/before/after 지시를 순서 제약으로 모아 최종 순서를 한 번에 계산합니다. */
+        CONSTRAINT
+    }
+
+    private final int parallelism;
+    private final OrderingMode orderingMode;
+
+    public RecipeListUpdater() {
+        this(1);
+    }
+
+    /**
+     * 병렬 업데이트를 사용하는 RecipeListUpdater를 생성합니다.
+     *
+     * @param parallelism 동시에 업데이트할 최대 대상 recipe 수 (1 이하이면 순차 적용)
+     */
+    public RecipeListUpdater(int parallelism) {
+        this(parallelism, OrderingMode.SEQUENTIAL);
+    }
+
+    /**
+     * 병렬 업데이트와 순서 계산 방식을 지정하여 RecipeListUpdater를 생성합니다.
+     *
+     * @param parallelism 동시에 업데이트할 최대 대상 recipe 수 (1 이하이면 순차 적용)
+     * @param orderingMode 같은 대상에 대한 여러 업데이트의 적용 방식
+     */
+    public RecipeListUpdater(int parallelism, OrderingMode orderingMode) {
+        this.parallelism = Math.max(1, parallelism);
+        this.orderingMode = orderingMode != null ? orderingMode : OrderingMode.SEQUENTIAL;
+    }
+
+    /**
+     * 업데이트 계획을 대상 recipe별로 적용합니다.
+     * 대상 정의는 카탈로그의 이름 인덱스로 한 번만 찾고, 대상의 모든 업데이트를 적용한 뒤 recipeList를 한 번만 다시 만듭니다.
+     * glob 패턴 대상은 적용 전에 일치하는 모든 recipe로 펼칩니다.
+     *
+     * @param recipes 업데이트할 RecipeDefinition 카탈로그
+     * @param plan 대상별로 묶인 업데이트 계획
+     * @return 대상별 업데이트 결과 (계획의 대상 순서)
+     */
+    public List<UpdateSummary> applyPlan(RecipeCatalog recipes, RecipeUpdatePlan plan) {
+        Map<String, List<UpdateRecipeList.UpdateOrder>> updatesByTarget = plan.resolveTargets(recipes);
+        List<UpdateSummary> summaries;
+        int threads = Math.min(parallelism, updatesByTarget.size());
+        if (threads > 1) {
+            summaries = applyInParallel(recipes, updatesByTarget, threads);
+        } else {
+            summaries = new ArrayList<>();
+            for (Map.Entry<String, List<UpdateRecipeList.UpdateOrder>> entry : updatesByTarget.entrySet()) {
+                summaries.add(applyTarget(recipes, entry.getKey(), entry.getValue()));
+            }
+        }
+
+        // 로그는 실행 순서와 관계없이 계획의 대상 순서대로 출력
+        for (UpdateSummary summary : summaries) {
+            summary.flushLog();
+        }
+        return summaries;
+    }
+
+    /**
+     * 대상 recipe별 업데이트를 공유 스레드 풀에서 최대 threads개씩 동시에 적용합니다.
+     * 이름이 다른 대상은 서로 다른 RecipeDefinition이므로 각 작업은 자신의 대상만 변경하며,
+     * 카탈로그는 조회만 합니다.
+     */
+    private List<UpdateSummary> applyInParallel(RecipeCatalog recipes,
+            Map<String, List<UpdateRecipeList.UpdateOrder>> updatesByTarget, int threads) {
+        logger.debug("recipeList 병렬 업데이트: {} 개의 대상, 최대 {} 개의 스레드", updatesByTarget.size(), threads);
+        List<Callable<UpdateSummary>> tasks = new ArrayList<>();
+        for (Map.Entry<String, List<UpdateRecipeList.UpdateOrder>> entry : updatesByTarget.entrySet()) {
+            tasks.add(() -> applyTarget(recipes, entry.getKey(), entry.getValue()));
+        }
+
+        // invokeAll은 작업 순서대로 Future를 반환
+        List<UpdateSummary> summaries = new ArrayList<>();
+        for (Future<UpdateSummary> future : SharedWorkerPool.invokeAll(tasks, threads)) {
+            summaries.add(await(future));
+        }
+        return summaries;
+    }
+
+    /**
+     * 병렬 업데이트 결과를 기다립니다. 작업 중 발생한 예외는 원래 예외로 다시 던집니다.
+     */
+    private static UpdateSummary await(Future<UpdateSummary> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("recipeList 업데이트가 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
     /**
      * 지정된 이름의 RecipeDefinition을 찾아 recipeList를 업데이트합니다.
+     * 대상 정의는 카탈로그의 이름 인덱스로 찾습니다.
      *
-     * @param recipes 업데이트할 RecipeDefinition 리스트
+     * @param recipes 업데이트할 RecipeDefinition 카탈로그
      * @param updateRecipeList 업데이트 정보
-     * @return 업데이트된 RecipeDefinition 리스트
+     * @return 업데이트된 RecipeDefinition 카탈로그 (전달한 카탈로그와 같은 객체)
      */
-    public List<RecipeDefinition> updateRecipeList(
-            List<RecipeDefinition> recipes, 
+    public RecipeCatalog updateRecipeList(
+            RecipeCatalog recipes, 
             UpdateRecipeList updateRecipeList) {
         
         // updateRecipeList와 name은 RewritePrepareMojo에서 이미 검증되었으므로,
         // 여기서는 null 체크만 수행합니다.
-        if (updateRecipeList == null || updateRecipeList.getName() == null) {
-            logger.warn("updateRecipeList 또는 name이 null입니다. 업데이트를 건너뜁니다.");
-            return recipes;
-        }
+        RecipeUpdatePlan plan = new RecipeUpdatePlan();
+        plan.add(updateRecipeList);
+        applyPlan(recipes, plan);
+        return recipes;
+    }
 
-        String targetRecipeName = updateRecipeList.getName();
-        RecipeDefinition targetRecipe = findRecipeByName(recipes, targetRecipeName);
+    /**
+     * 한 대상 recipe에 업데이트 목록을 순서대로 적용합니다.
+     */
+    private UpdateSummary applyTarget(RecipeCatalog recipes, String targetRecipeName,
+            List<UpdateRecipeList.UpdateOrder> updateOrders) {
+        UpdateSummary summary = new UpdateSummary(targetRecipeName);
+        RecipeDefinition targetRecipe = recipes.findByName(targetRecipeName);
 
         if (targetRecipe == null) {
-            logger.warn("대상 recipe를 찾을 수 없습니다: {}", targetRecipeName);
-            return recipes;
+            summary.warn("대상 recipe를 찾을 수 없습니다: {}", targetRecipeName);
+            return summary;
         }
+        summary.targetFound = true;
 
-        logger.info("RecipeList 업데이트 시작: {}", targetRecipeName);
+        summary.info("RecipeList 업데이트 시작: {} ({} 개의 업데이트)", targetRecipeName, updateOrders.size());
 
         // recipeList가 없으면 생성
         if (targetRecipe.getRecipeList() == null) {
             targetRecipe.setRecipeList(new ArrayList<>());
         }
 
-        UpdateRecipeList.UpdateOrder updateOrder = updateRecipeList.getUpdateOrder();
-        if (updateOrder == null) {
-            logger.warn("updateOrder가 null입니다. 업데이트를 건너뜁니다.");
-            return recipes;
+        List<Recipe> updatedList;
+        if (orderingMode == OrderingMode.CONSTRAINT) {
+            updatedList = solveConstraints(targetRecipe.getRecipeList(), updateOrders, summary);
+        } else {
+            // 모든 추가를 연결 리스트에 적용한 뒤 recipeList를 한 번만 다시 만듦
+            LinkedRecipeList recipeList = new LinkedRecipeList(targetRecipe.getRecipeList());
+            for (UpdateRecipeList.UpdateOrder updateOrder : updateOrders) {
+                applyUpdateOrder(recipeList, updateOrder, summary);
+            }
+            updatedList = recipeList.toList();
         }
 
+        if (!summary.added.isEmpty()) {
+            targetRecipe.setRecipeList(updatedList);
+            targetRecipe.setModified(true);
+        }
+
+        summary.info("RecipeList 업데이트 완료: {} (추가 {} 개, 스킵 {} 개)",
+                targetRecipeName, summary.added.size(), summary.skipped.size() + summary.missingAnchors.size());
+        return summary;
+    }
+
+    /**
+     * 대상의 모든 지시를 순서 제약으로 모아 최종 순서를 한 번에 계산합니다 (orderingMode=constraint).
+     */
+    private List<Recipe> solveConstraints(List<Recipe> recipeList, List<UpdateRecipeList.UpdateOrder> updateOrders,
+            UpdateSummary summary) {
+        RecipeOrderSolver.Result result = RecipeOrderSolver.solve(recipeList, updateOrders);
+        for (String recipeName : result.getSkipped()) {
+            summary.warn("Recipe가 이미 recipeList에 존재합니다. 스킵: {}", recipeName);
+        }
+        for (String anchorName : result.getMissingAnchors()) {
+            summary.warn("대상 recipe를 recipeList에서 찾을 수 없습니다. 스킵: {}", anchorName);
+        }
+        for (List<String> cycle : result.getCycles()) {
+            summary.warn("순서 제약에 순환이 있어 추가하지 않습니다: {}", cycle);
+        }
+        for (String[] added : result.getAddedWithLabels()) {
+            summary.info("Recipe 추가 ({}): {}", added[0], added[1]);
+        }
+        summary.added.addAll(result.getAdded());
+        summary.skipped.addAll(result.getSkipped());
+        summary.missingAnchors.addAll(result.getMissingAnchors());
+        summary.cycles.addAll(result.getCycles());
+        return result.getRecipeList();
+    }
+
+    /**
+     * 업데이트 하나를 first → last → before → after 순서로 적용합니다.
+     */
+    private void applyUpdateOrder(LinkedRecipeList recipeList, UpdateRecipeList.UpdateOrder updateOrder,
+            UpdateSummary summary) {
         // first: 가장 앞에 추가
         if (updateOrder.getFirst() != null) {
             for (UpdateEntry entry : updateOrder.getFirst()) {
                 if (entry.getValues() != null) {
-                    addRecipesToFirst(targetRecipe, entry.getValues());
+                    addRecipesToFirst(recipeList, entry.getValues(), summary);
                 }
             }
         }
@@ -70,7 +244,7 @@ public class RecipeListUpdater {
         if (updateOrder.getLast() != null) {
             for (UpdateEntry entry : updateOrder.getLast()) {
                 if (entry.getValues() != null) {
-                    addRecipesToLast(targetRecipe, entry.getValues());
+                    addRecipesToLast(recipeList, entry.getValues(), summary);
                 }
             }
         }
@@ -79,7 +253,7 @@ public class RecipeListUpdater {
         if (updateOrder.getBefore() != null) {
             for (UpdateEntry entry : updateOrder.getBefore()) {
                 if (entry.getKey() != null && entry.getValues() != null) {
-                    addRecipesBefore(targetRecipe, entry.getKey(), entry.getValues());
+                    addRecipesBefore(recipeList, entry.getKey(), entry.getValues(), summary);
                 }
             }
         }
@@ -88,133 +262,213 @@ public class RecipeListUpdater {
         if (updateOrder.getAfter() != null) {
             for (UpdateEntry entry : updateOrder.getAfter()) {
                 if (entry.getKey() != null && entry.getValues() != null) {
-                    addRecipesAfter(targetRecipe, entry.getKey(), entry.getValues());
+                    addRecipesAfter(recipeList, entry.getKey(), entry.getValues(), summary);
                 }
             }
         }
-
-        logger.info("RecipeList 업데이트 완료: {}", targetRecipeName);
-        return recipes;
     }
 
     /**
-     * 이름으로 RecipeDefinition을 찾습니다.
+     * 지정된 이름의 RecipeDefinition을 찾아 recipeList를 업데이트합니다.
+     * 카탈로그가 아닌 목록은 이름 인덱스를 만든 뒤 업데이트합니다 (목록의 정의 객체가 직접 변경됨).
+     *
+     * @param recipes 업데이트할 RecipeDefinition 리스트
+     * @param updateRecipeList 업데이트 정보
+     * @return 업데이트된 RecipeDefinition 리스트 (전달한 리스트와 같은 객체)
      */
-    private RecipeDefinition findRecipeByName(List<RecipeDefinition> recipes, String name) {
-        return recipes.stream()
-                .filter(r -> name.equals(r.getName()))
-                .findFirst()
-                .orElse(null);
+    public List<RecipeDefinition> updateRecipeList(
+            List<RecipeDefinition> recipes, 
+            UpdateRecipeList updateRecipeList) {
+        updateRecipeList(RecipeCatalog.of(recipes), updateRecipeList);
+        return recipes;
     }
 
     /**
      * recipeList의 가장 앞에 recipe들을 추가합니다.
+     * 이미 있는지는 이 항목을 추가하기 전의 recipeList 기준으로 확인하고, values 순서대로 앞에 붙입니다.
      */
-    private void addRecipesToFirst(RecipeDefinition targetRecipe, List<String> recipeNames) {
-        List<Recipe> recipeList = targetRecipe.getRecipeList();
+    private void addRecipesToFirst(LinkedRecipeList recipeList, List<String> recipeNames, UpdateSummary summary) {
         List<Recipe> newRecipes = new ArrayList<>();
 
         for (String recipeName : recipeNames) {
-            if (isRecipeAlreadyInList(recipeList, recipeName)) {
-                logger.warn("Recipe가 이미 recipeList에 존재합니다. 스킵: {}", recipeName);
+            if (recipeList.contains(recipeName)) {
+                summary.warn("Recipe가 이미 recipeList에 존재합니다. 스킵: {}", recipeName);
+                summary.skipped.add(recipeName);
                 continue;
             }
             Recipe recipe = new Recipe(recipeName);
             newRecipes.add(recipe);
-            logger.info("Recipe 추가 (first): {}", recipeName);
+            summary.info("Recipe 추가 (first): {}", recipeName);
+            summary.added.add(recipeName);
         }
 
         // 기존 리스트 앞에 새 recipe들 추가
-        newRecipes.addAll(recipeList);
-        targetRecipe.setRecipeList(newRecipes);
+        for (int i = newRecipes.size() - 1; i >= 0; i--) {
+            recipeList.addFirst(newRecipes.get(i));
+        }
     }
 
     /**
      * recipeList의 가장 마지막에 recipe들을 추가합니다.
      */
-    private void addRecipesToLast(RecipeDefinition targetRecipe, List<String> recipeNames) {
-        List<Recipe> recipeList = targetRecipe.getRecipeList();
-
+    private void addRecipesToLast(LinkedRecipeList recipeList, List<String> recipeNames, UpdateSummary summary) {
         for (String recipeName : recipeNames) {
-            if (isRecipeAlreadyInList(recipeList, recipeName)) {
-                logger.warn("Recipe가 이미 recipeList에 존재합니다. 스킵: {}", recipeName);
+            if (recipeList.contains(recipeName)) {
+                summary.warn("Recipe가 이미 recipeList에 존재합니다. 스킵: {}", recipeName);
+                summary.skipped.add(recipeName);
                 continue;
             }
             Recipe recipe = new Recipe(recipeName);
-            recipeList.add(recipe);
-            logger.info("Recipe 추가 (last): {}", recipeName);
+            recipeList.addLast(recipe);
+            summary.info("Recipe 추가 (last): {}", recipeName);
+            summary.added.add(recipeName);
         }
     }
 
     /**
      * 지정된 recipe 이름 앞에 recipe들을 추가합니다.
      */
-    private void addRecipesBefore(RecipeDefinition targetRecipe, String targetName, List<String> recipeNames) {
-        List<Recipe> recipeList = targetRecipe.getRecipeList();
-        int targetIndex = findRecipeIndex(recipeList, targetName);
+    private void addRecipesBefore(LinkedRecipeList recipeList, String targetName, List<String> recipeNames, UpdateSummary summary) {
+        LinkedRecipeList.Node target = recipeList.find(targetName);
 
-        if (targetIndex == -1) {
-            logger.warn("대상 recipe를 recipeList에서 찾을 수 없습니다. 스킵: {}", targetName);
+        if (target == null) {
+            summary.warn("대상 recipe를 recipeList에서 찾을 수 없습니다. 스킵: {}", targetName);
+            summary.missingAnchors.add(targetName);
             return;
         }
 
-        // 역순으로 추가하여 순서 유지
+        // 역순으로 추가하여 순서 유지 (직전에 추가한 recipe 앞에 추가)
+        LinkedRecipeList.Node insertBefore = target;
         for (int i = recipeNames.size() - 1; i >= 0; i--) {
             String recipeName = recipeNames.get(i);
-            if (isRecipeAlreadyInList(recipeList, recipeName)) {
-                logger.warn("Recipe가 이미 recipeList에 존재합니다. 스킵: {}", recipeName);
+            if (recipeList.contains(recipeName)) {
+                summary.warn("Recipe가 이미 recipeList에 존재합니다. 스킵: {}", recipeName);
+                summary.skipped.add(recipeName);
                 continue;
             }
             Recipe recipe = new Recipe(recipeName);
-            recipeList.add(targetIndex, recipe);
-            logger.info("Recipe 추가 (before {}): {}", targetName, recipeName);
+            insertBefore = recipeList.insertBefore(insertBefore, recipe);
+            summary.info("Recipe 추가 (before {}): {}", targetName, recipeName);
+            summary.added.add(recipeName);
         }
     }
 
     /**
      * 지정된 recipe 이름 뒤에 recipe들을 추가합니다.
      */
-    private void addRecipesAfter(RecipeDefinition targetRecipe, String targetName, List<String> recipeNames) {
-        List<Recipe> recipeList = targetRecipe.getRecipeList();
-        int targetIndex = findRecipeIndex(recipeList, targetName);
+    private void addRecipesAfter(LinkedRecipeList recipeList, String targetName, List<String> recipeNames, UpdateSummary summary) {
+        LinkedRecipeList.Node target = recipeList.find(targetName);
 
-        if (targetIndex == -1) {
-            logger.warn("대상 recipe를 recipeList에서 찾을 수 없습니다. 스킵: {}", targetName);
+        if (target == null) {
+            summary.warn("대상 recipe를 recipeList에서 찾을 수 없습니다. 스킵: {}", targetName);
+            summary.missingAnchors.add(targetName);
             return;
         }
 
-        // targetIndex 다음 위치에 추가
-        int insertIndex = targetIndex + 1;
+        // 직전에 추가한 recipe 다음 위치에 추가
+        LinkedRecipeList.Node insertAfter = target;
         for (String recipeName : recipeNames) {
-            if (isRecipeAlreadyInList(recipeList, recipeName)) {
-                logger.warn("Recipe가 이미 recipeList에 존재합니다. 스킵: {}", recipeName);
+            if (recipeList.contains(recipeName)) {
+                summary.warn("Recipe가 이미 recipeList에 존재합니다. 스킵: {}", recipeName);
+                summary.skipped.add(recipeName);
                 continue;
             }
             Recipe recipe = new Recipe(recipeName);
-            recipeList.add(insertIndex, recipe);
-            logger.info("Recipe 추가 (after {}): {}", targetName, recipeName);
-            insertIndex++;
+            insertAfter = recipeList.insertAfter(insertAfter, recipe);
+            summary.info("Recipe 추가 (after {}): {}", targetName, recipeName);
+            summary.added.add(recipeName);
         }
     }
 
     /**
-     * recipeList에서 recipe 이름의 인덱스를 찾습니다.
+     * 대상 recipe 하나에 대한 업데이트 결과를 담는 클래스
      */
-    private int findRecipeIndex(List<Recipe> recipeList, String recipeName) {
-        for (int i = 0; i < recipeList.size(); i++) {
-            Recipe recipe = recipeList.get(i);
-            if (recipeName.equals(recipe.getName())) {
-                return i;
+    public static class UpdateSummary {
+        private final String targetName;
+        private boolean targetFound;
+        private final List<String> added = new ArrayList<>();
+        private final List<String> skipped = new ArrayList<>();
+        private final List<String> missingAnchors = new ArrayList<>();
+        private final List<List<String>> cycles = new ArrayList<>();
+
+        // 병렬로 적용해도 대상 순서대로 출력하기 위해 모아 둔 로그
+        private final List<LogEntry> log = new ArrayList<>();
+
+        UpdateSummary(String targetName) {
+            this.targetName = targetName;
+        }
+
+        private void info(String format, Object... arguments) {
+            log.add(new LogEntry(false, format, arguments));
+        }
+
+        private void warn(String format, Object... arguments) {
+            log.add(new LogEntry(true, format, arguments));
+        }
+
+        private void flushLog() {
+            for (LogEntry entry : log) {
+                if (entry.warn) {
+                    logger.warn(entry.format, entry.arguments);
+                } else {
+                    logger.info(entry.format, entry.arguments);
+                }
             }
+            log.clear();
+        }
+
+        public String getTargetName() {
+            return targetName;
+        }
+
+        /**
+         * 대상 recipe가 카탈로그에 있었는지 반환합니다.
+         */
+        public boolean isTargetFound() {
+            return targetFound;
+        }
+
+        /**
+         * 추가된 recipe 이름 목록 (추가된 순서)
+         */
+        public List<String> getAdded() {
+            return added;
+        }
+
+        /**
+         * 이미 recipeList에 있어서 추가하지 않은 recipe 이름 목록
+         */
+        public List<String> getSkipped() {
+            return skipped;
+        }
+
+        /**
+         * recipeList에서 찾을 수 없어서 건너뛴 before/after 기준 recipe 이름 목록
+         */
+        public List<String> getMissingAnchors() {
+            return missingAnchors;
+        }
+
+        /**
+         * 순서 제약의 순환 때문에 추가하지 않은 recipe 이름 목록 (orderingMode=constraint에서만 사용)
+         */
+        public List<List<String>> getCycles() {
+            return cycles;
         }
-        return -1;
     }
 
     /**
-     * recipeList에 이미 recipe가 있는지 확인합니다.
+     * 나중에 출력할 로그 한 줄
      */
-    private boolean isRecipeAlreadyInList(List<Recipe> recipeList, String recipeName) {
-        return findRecipeIndex(recipeList, recipeName) != -1;
+    private static final class LogEntry {
+        private final boolean warn;
+        private final String format;
+        private final Object[] arguments;
+
+        LogEntry(boolean warn, String format, Object[] arguments) {
+            this.warn = warn;
+            this.format = format;
+            this.arguments = arguments;
+        }
     }
 }
-
@@ -1,27 +1,99 @@
 package com.yourcompany.plugins.rewriteprepare.service;
 
 import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.yourcompany.plugins.rewriteprepare.model.MergeRecipeDefinition;
+import com.yourcompany.plugins.rewriteprepare.model.Recipe;
+import com.yourcompany.plugins.rewriteprepare.model.RecipeCatalog;
 import com.yourcompany.plugins.rewriteprepare.model.RecipeDefinition;
 
 /**
  * Recipe 파일들을 병합하는 서비스 클래스
  * 여러 recipe YAML 파일을 하나로 병합합니다.
+ *
+ * parallelism이 2 이상이면 mergeFilesWithMerge는 파일들을 공유 스레드 풀(SharedWorkerPool)에서 최대 parallelism개씩
+ * 동시에 파싱하고,
+ * 결과와 로그는 항상 mergeFiles에 지정된 순서대로 합칩니다.
+ *
+ * 여러 파일에 같은 이름의 recipe 정의가 있으면 duplicateStrategy에 따라 파일을 추가할 때마다 처리합니다.
+ * 이름 → 출력 위치 인덱스를 사용하므로 정의마다 O(1)에 처리하며, 남은 정의는 먼저 정의된 위치에 출력됩니다.
  */
 public class RecipeMerger {
     private static final Logger logger = LoggerFactory.getLogger(RecipeMerger.class);
+
+    /**
+     * 같은 이름의 recipe 정의 처리 방식
+     */
+    public enum DuplicateStrategy {
+        /** 모든 정의를 출력합니다. recipeList 업데이트는 먼저 정의된 것에만 적용됩니다. */
+        KEEP,
+        /** 먼저 정의된 것을 사용하고 이후 정의는 무시합니다. */
+        FIRST,
+        /** 나중에 정의된 것으로 먼저 정의된 것을 대체합니다 (출력 위치는 먼저 정의된 위치). */
+        LAST,
+        /** 먼저 정의된 것에 이후 정의의 recipeList 중 없는 recipe를 순서대로 추가합니다. */
+        UNION
+    }
+
     private final YamlParser yamlParser;
+    private final RecipeParseCache parseCache;
+    private final int parallelism;
+    private final DuplicateStrategy duplicateStrategy;
 
     public RecipeMerger(YamlParser yamlParser) {
+        this(yamlParser, null);
+    }
+
+    /**
+     * 파싱 캐시를 사용하는 RecipeMerger를 생성합니다.
+     *
+     * @param yamlParser YAML 파서
+     * @param parseCache recipe 파일 파싱 캐시 (null이면 캐시를 사용하지 않음)
+     */
+    public RecipeMerger(YamlParser yamlParser, RecipeParseCache parseCache) {
+        this(yamlParser, parseCache, 1);
+    }
+
+    /**
+     * 파싱 캐시와 병렬 파싱을 사용하는 RecipeMerger를 생성합니다.
+     *
+     * @param yamlParser YAML 파서
+     * @param parseCache recipe 파일 파싱 캐시 (null이면 캐시를 사용하지 않음)
+     * @param parallelism 동시에 파싱할 최대 파일 수 (1 이하이면 순차 파싱)
+     */
+    public RecipeMerger(YamlParser yamlParser, RecipeParseCache parseCache, int parallelism) {
+        this(yamlParser, parseCache, parallelism, DuplicateStrategy.KEEP);
+    }
+
+    /**
+     * 파싱 캐시, 병렬 파싱, 중복 정의 처리 방식을 지정하여 RecipeMerger를 생성합니다.
+     *
+     * @param yamlParser YAML 파서
+     * @param parseCache recipe 파일 파싱 캐시 (null이면 캐시를 사용하지 않음)
+     * @param parallelism 동시에 파싱할 최대 파일 수 (1 이하이면 순차 파싱)
+     * @param duplicateStrategy 같은 이름의 recipe 정의 처리 방식 (null이면 KEEP)
+     */
+    public RecipeMerger(YamlParser yamlParser, RecipeParseCache parseCache, int parallelism,
+            DuplicateStrategy duplicateStrategy) {
         this.yamlParser = yamlParser;
+        this.parseCache = parseCache;
+        this.parallelism = Math.max(1, parallelism);
+        this.duplicateStrategy = duplicateStrategy != null ? duplicateStrategy : DuplicateStrategy.KEEP;
     }
 
     /**
@@ -30,13 +102,13 @@ public class RecipeMerger {
      *
      * @param recipeDirectory recipe 파일들이 있는 디렉토리
      * @param mergeFiles 병합할 파일 목록 (상대 경로)
-     * @return 병합된 RecipeDefinition 리스트
+     * @return 병합된 RecipeDefinition 카탈로그 (파일 순서 유지)
      * @throws Exception 파일 읽기 오류
      */
-    public List<RecipeDefinition> mergeFiles(File recipeDirectory, List<String> mergeFiles) throws Exception {
+    public RecipeCatalog mergeFiles(File recipeDirectory, List<String> mergeFiles) throws Exception {
         logger.info("Recipe 파일 병합 시작: {} 개의 파일", mergeFiles.size());
         
-        List<RecipeDefinition> mergedRecipes = new ArrayList<>();
+        DefinitionMerger mergedRecipes = new DefinitionMerger(duplicateStrategy);
         Map<String, Boolean> processedFiles = new LinkedHashMap<>();
 
         for (String mergeFile : mergeFiles) {
@@ -54,7 +126,7 @@ public class RecipeMerger {
 
             try {
                 List<RecipeDefinition> recipes = yamlParser.parseRecipeFile(file);
-                mergedRecipes.addAll(recipes);
+                mergedRecipes.add(recipes, mergeFile);
                 processedFiles.put(file.getAbsolutePath(), true);
                 logger.info("파일 병합 완료: {} ({} 개의 recipe)", mergeFile, recipes.size());
             } catch (Exception e) {
@@ -63,8 +135,9 @@ public class RecipeMerger {
             }
         }
 
-        logger.info("Recipe 파일 병합 완료: 총 {} 개의 recipe", mergedRecipes.size());
-        return mergedRecipes;
+        mergedRecipes.logReport();
+        logger.info("Recipe 파일 병합 완료: 총 {} 개의 recipe", mergedRecipes.getRecipes().size());
+        return mergedRecipes.getRecipes();
     }
     
     /**
@@ -79,13 +152,39 @@ public class RecipeMerger {
     public MergeResult mergeFilesWithMerge(File recipeDirectory, List<String> mergeFiles) throws Exception {
         logger.info("Recipe 파일 병합 시작 (Merge 포함): {} 개의 파일", mergeFiles.size());
         
-        List<RecipeDefinition> mergedRecipes = new ArrayList<>();
+        DefinitionMerger mergedRecipes = new DefinitionMerger(duplicateStrategy);
         List<MergeRecipeDefinition> mergedMergeDefinitions = new ArrayList<>();
-        Map<String, Boolean> processedFiles = new LinkedHashMap<>();
 
+        // 중복되지 않고 존재하는 파일만 파싱 대상으로 선택 (순서 유지)
+        Map<String, File> filesToParse = new LinkedHashMap<>();
         for (String mergeFile : mergeFiles) {
             File file = new File(recipeDirectory, mergeFile);
-            
+            if (!filesToParse.containsKey(file.getAbsolutePath()) && file.exists()) {
+                filesToParse.put(file.getAbsolutePath(), file);
+            }
+        }
+
+        // 병렬 파싱 (공유 스레드 풀 사용, 병렬로 파싱하지 않으면 아래에서 순서대로 파싱)
+        Map<String, Future<YamlParser.RecipeParseResult>> parsing = new LinkedHashMap<>();
+        int threads = Math.min(parallelism, filesToParse.size());
+        if (threads > 1) {
+            logger.debug("recipe 파일 병렬 파싱: {} 개의 파일, 최대 {} 개의 스레드", filesToParse.size(), threads);
+            List<Callable<YamlParser.RecipeParseResult>> tasks = new ArrayList<>();
+            for (File file : filesToParse.values()) {
+                tasks.add(() -> parseRecipeFile(file));
+            }
+            List<Future<YamlParser.RecipeParseResult>> futures = SharedWorkerPool.invokeAll(tasks, threads);
+            int index = 0;
+            for (String path : filesToParse.keySet()) {
+                parsing.put(path, futures.get(index++));
+            }
+        }
+
+        // 결과와 로그는 mergeFiles 순서대로 처리
+        Map<String, Boolean> processedFiles = new LinkedHashMap<>();
+        for (String mergeFile : mergeFiles) {
+            File file = new File(recipeDirectory, mergeFile);
+
             if (processedFiles.containsKey(file.getAbsolutePath())) {
                 logger.info("파일 스킵 (중복): {}", mergeFile);
                 continue;
@@ -97,8 +196,9 @@ public class RecipeMerger {
             }
 
             try {
-                YamlParser.RecipeParseResult result = yamlParser.parseRecipeFileWithMerge(file);
-                mergedRecipes.addAll(result.getRecipes());
+                Future<YamlParser.RecipeParseResult> future = parsing.get(file.getAbsolutePath());
+                YamlParser.RecipeParseResult result = future != null ? await(future) : parseRecipeFile(file);
+                mergedRecipes.add(result.getRecipes(), mergeFile);
                 mergedMergeDefinitions.addAll(result.getMergeDefinitions());
                 processedFiles.put(file.getAbsolutePath(), true);
                 logger.info("파일 병합 완료: {} ({} 개의 recipe, {} 개의 merge definition)", 
@@ -109,24 +209,153 @@ public class RecipeMerger {
             }
         }
 
+        mergedRecipes.logReport();
         logger.info("Recipe 파일 병합 완료: 총 {} 개의 recipe, {} 개의 merge definition", 
-                   mergedRecipes.size(), mergedMergeDefinitions.size());
-        return new MergeResult(mergedRecipes, mergedMergeDefinitions);
+                   mergedRecipes.getRecipes().size(), mergedMergeDefinitions.size());
+        return new MergeResult(mergedRecipes.getRecipes(), mergedMergeDefinitions);
+    }
+
+    /**
+     * 병렬 파싱 결과를 기다립니다. 파싱 중 발생한 예외는 원래 예외로 다시 던집니다.
+     */
+    private static YamlParser.RecipeParseResult await(Future<YamlParser.RecipeParseResult> future) throws Exception {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            }
+            throw e;
+        }
     }
     
+    /**
+     * recipe 파일을 파싱합니다. 파싱 캐시가 있으면 캐시를 통해 파싱합니다.
+     */
+    private YamlParser.RecipeParseResult parseRecipeFile(File file) throws IOException {
+        if (parseCache != null) {
+            return parseCache.parse(file);
+        }
+        return yamlParser.parseRecipeFileWithMerge(file);
+    }
+
+    /**
+     * 파일별 recipe 정의를 추가하면서 같은 이름의 정의를 중복 처리 방식에 따라 합치는 클래스
+     */
+    private static final class DefinitionMerger {
+        private final DuplicateStrategy strategy;
+        private final RecipeCatalog recipes = new RecipeCatalog();
+        // 이름 → 카탈로그에서 사용 중인 정의의 위치와 그 정의를 제공한 파일
+        private final Map<String, Integer> positions = new HashMap<>();
+        private final Map<String, String> origins = new HashMap<>();
+        private final List<String> report = new ArrayList<>();
+
+        DefinitionMerger(DuplicateStrategy strategy) {
+            this.strategy = strategy;
+        }
+
+        void add(List<RecipeDefinition> definitions, String file) {
+            for (RecipeDefinition definition : definitions) {
+                String name = definition.getName();
+                Integer position = name != null ? positions.get(name) : null;
+                if (position == null) {
+                    if (name != null) {
+                        positions.put(name, recipes.size());
+                        origins.put(name, file);
+                    }
+                    recipes.add(definition);
+                    continue;
+                }
+
+                String original = origins.get(name);
+                switch (strategy) {
+                    case FIRST:
+                        report.add(String.format("%s: %s 사용, %s 무시", name, original, file));
+                        break;
+                    case LAST:
+                        recipes.set(position, definition);
+                        origins.put(name, file);
+                        report.add(String.format("%s: %s 사용, %s 대체", name, file, original));
+                        break;
+                    case UNION:
+                        int added = union(recipes.get(position), definition);
+                        report.add(String.format("%s: %s에 %s의 recipeList 합침 (%d 개 추가)", name, original, file, added));
+                        break;
+                    default:
+                        recipes.add(definition);
+                        report.add(String.format("%s: %s, %s 모두 출력 (recipeList 업데이트는 %s에만 적용)",
+                                name, original, file, original));
+                        break;
+                }
+            }
+        }
+
+        /**
+         * target의 recipeList에 없는 source의 recipe를 순서대로 추가합니다.
+         *
+         * @return 추가한 recipe 수
+         */
+        private static int union(RecipeDefinition target, RecipeDefinition source) {
+            if (source.getRecipeList() == null || source.getRecipeList().isEmpty()) {
+                return 0;
+            }
+            List<Recipe> recipeList = target.getRecipeList() != null
+                    ? new ArrayList<>(target.getRecipeList()) : new ArrayList<>();
+            Set<String> names = new HashSet<>();
+            for (Recipe recipe : recipeList) {
+                names.add(recipe.getName());
+            }
+            int added = 0;
+            for (Recipe recipe : source.getRecipeList()) {
+                if (names.add(recipe.getName())) {
+                    recipeList.add(recipe);
+                    added++;
+                }
+            }
+            if (added > 0) {
+                target.setRecipeList(recipeList);
+                target.setModified(true);
+            }
+            return added;
+        }
+
+        void logReport() {
+            if (report.isEmpty()) {
+                return;
+            }
+            String strategyName = strategy.name().toLowerCase(Locale.ROOT);
+            if (strategy == DuplicateStrategy.KEEP) {
+                logger.warn("같은 이름의 recipe 정의가 {} 건 있습니다 (duplicateStrategy={}):", report.size(), strategyName);
+                for (String line : report) {
+                    logger.warn("  {}", line);
+                }
+            } else {
+                logger.info("같은 이름의 recipe 정의 {} 건 처리 (duplicateStrategy={}):", report.size(), strategyName);
+                for (String line : report) {
+                    logger.info("  {}", line);
+                }
+            }
+        }
+
+        RecipeCatalog getRecipes() {
+            return recipes;
+        }
+    }
+
     /**
      * 병합 결과를 담는 클래스
      */
     public static class MergeResult {
-        private final List<RecipeDefinition> recipes;
+        private final RecipeCatalog recipes;
         private final List<MergeRecipeDefinition> mergeDefinitions;
         
         public MergeResult(List<RecipeDefinition> recipes, List<MergeRecipeDefinition> mergeDefinitions) {
-            this.recipes = recipes != null ? new ArrayList<>(recipes) : new ArrayList<>();
+            this.recipes = recipes != null ? new RecipeCatalog(recipes) : new RecipeCatalog();
             this.mergeDefinitions = mergeDefinitions != null ? new ArrayList<>(mergeDefinitions) : new ArrayList<>();
         }
         
-        public List<RecipeDefinition> getRecipes() {
+        public RecipeCatalog getRecipes() {
             return recipes;
         }
         
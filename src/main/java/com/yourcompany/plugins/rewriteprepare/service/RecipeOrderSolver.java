@@ -0,0 +1,349 @@
+package com.yourcompany.plugins.rewriteprepare.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.yourcompany.plugins.rewriteprepare.model.Recipe;
+import com.yourcompany.plugins.rewriteprepare.model.UpdateEntry;
+import com.yourcompany.plugins.rewriteprepare.model.UpdateRecipeList;
+
+/**
+ * 대상 recipe 하나의 모든 first/last/before/after 지시를 순서 제약으로 모아 한 번에 recipeList 순서를 계산하는 클래스
+ * (orderingMode=constraint)
+ *
+ * 순차 적용과 달리 before/after의 기준 recipe가 나중에 적용되는 다른 업데이트에서 추가되어도 찾을 수 있으므로,
+ * 결과가 merge definition 파일 순서에 따라 달라지지 않습니다.
+ *
+ * 새로 추가되는 recipe는 처음 등장한 지시의 기준(기존 recipe, 다른 새 recipe, 또는 목록의 처음/끝)에 연결되어
+ * 기준 → 추가 recipe 형태의 forest를 이루며, 기존 recipeList 순서에서 시작하는 깊이 우선 순회 한 번(선형 시간)으로
+ * 최종 순서를 만듭니다. 기준마다 연결된 recipe의 순서는 순차 적용과 같은 규칙을 따르므로,
+ * 모든 기준이 적용 시점에 이미 있는 경우 결과는 순차 적용과 같습니다:
+ * - before K: K 바로 앞에, 먼저 적용된 before K 항목 뒤에 추가
+ * - after K: K 바로 뒤에, 먼저 적용된 after K 항목 앞에 추가
+ * - first: 목록 가장 앞에, 먼저 적용된 first 항목 앞에 추가
+ * - last: 목록 가장 뒤에 추가
+ *
+ * 서로를 기준으로 하는 recipe(예: A before B, B after A로만 추가되는 경우)는 순환으로 보고,
+ * 기준 recipe가 어디에도 없으면 기준 없음으로 보고하며 두 경우 모두 추가하지 않습니다.
+ */
+final class RecipeOrderSolver {
+
+    private RecipeOrderSolver() {
+    }
+
+    /**
+     * 기존 recipeList에 업데이트 목록의 모든 지시를 제약으로 적용한 순서를 계산합니다.
+     *
+     * @param recipeList 기존 recipeList
+     * @param updateOrders 대상의 업데이트 목록 (우선순위 순서)
+     * @return 계산 결과
+     */
+    static Result solve(List<Recipe> recipeList, List<UpdateRecipeList.UpdateOrder> updateOrders) {
+        Result result = new Result();
+
+        // 기존 recipe (같은 이름이 여러 개이면 첫 번째가 기준)
+        List<Node> existing = new ArrayList<>(recipeList.size());
+        Map<String, Node> nodes = new HashMap<>();
+        for (Recipe recipe : recipeList) {
+            Node node = new Node(recipe.getName(), recipe);
+            existing.add(node);
+            if (recipe.getName() != null) {
+                nodes.putIfAbsent(recipe.getName(), node);
+            }
+        }
+
+        List<Directive> directives = collectDirectives(updateOrders);
+
+        // 기준으로 사용할 수 있는 이름: 기존 recipe와 모든 지시에서 추가하려는 recipe
+        Set<String> knownNames = new HashSet<>(nodes.keySet());
+        for (Directive directive : directives) {
+            knownNames.addAll(directive.values);
+        }
+
+        // 새 recipe를 처음 등장한 지시의 기준에 연결
+        Node head = new Node(null, null);
+        Node tail = new Node(null, null);
+        List<Node> attached = new ArrayList<>();
+        for (Directive directive : directives) {
+            Node anchor;
+            if (directive.kind == Kind.FIRST) {
+                anchor = head;
+            } else if (directive.kind == Kind.LAST) {
+                anchor = tail;
+            } else if (knownNames.contains(directive.anchor)) {
+                anchor = nodes.computeIfAbsent(directive.anchor, name -> new Node(name, null));
+            } else {
+                result.missingAnchors.add(directive.anchor);
+                continue;
+            }
+
+            List<Node> group = new ArrayList<>();
+            for (String value : directive.values) {
+                Node node = nodes.get(value);
+                if (node != null && (node.recipe != null || node.parent != null)) {
+                    // 기존 recipe이거나 이미 다른 지시로 추가된 recipe
+                    result.skipped.add(value);
+                    continue;
+                }
+                if (node == null) {
+                    node = new Node(value, null);
+                    nodes.put(value, node);
+                }
+                node.parent = anchor;
+                node.label = directive.label();
+                group.add(node);
+                attached.add(node);
+            }
+            if (!group.isEmpty()) {
+                if (directive.kind == Kind.BEFORE || directive.kind == Kind.LAST) {
+                    anchor.before.add(group);
+                } else {
+                    anchor.after.add(group);
+                }
+            }
+        }
+
+        // 기존 순서에서 시작하는 깊이 우선 순회로 최종 순서 계산
+        List<Node> roots = new ArrayList<>(existing.size() + 2);
+        roots.add(head);
+        roots.addAll(existing);
+        roots.add(tail);
+        emit(roots, result.recipeList);
+
+        for (Node node : attached) {
+            if (node.placed) {
+                result.added.add(node);
+            }
+        }
+        reportUnplaced(attached, result);
+        return result;
+    }
+
+    private static List<Directive> collectDirectives(List<UpdateRecipeList.UpdateOrder> updateOrders) {
+        List<Directive> directives = new ArrayList<>();
+        for (UpdateRecipeList.UpdateOrder updateOrder : updateOrders) {
+            addDirectives(directives, Kind.FIRST, updateOrder.getFirst());
+            addDirectives(directives, Kind.LAST, updateOrder.getLast());
+            addDirectives(directives, Kind.BEFORE, updateOrder.getBefore());
+            addDirectives(directives, Kind.AFTER, updateOrder.getAfter());
+        }
+        return directives;
+    }
+
+    private static void addDirectives(List<Directive> directives, Kind kind, List<UpdateEntry> entries) {
+        if (entries == null) {
+            return;
+        }
+        for (UpdateEntry entry : entries) {
+            boolean anchored = kind == Kind.BEFORE || kind == Kind.AFTER;
+            if (entry.getValues() != null && (!anchored || entry.getKey() != null)) {
+                directives.add(new Directive(kind, anchored ? entry.getKey() : null, entry.getValues()));
+            }
+        }
+    }
+
+    /**
+     * 각 노드를 (before 그룹들, 노드, after 그룹들) 순서로 출력합니다.
+     * before 그룹은 적용된 순서대로, after 그룹과 first 그룹(head의 after)은 나중에 적용된 그룹이 앞에 옵니다.
+     */
+    private static void emit(List<Node> roots, List<Recipe> output) {
+        Deque<Object> stack = new ArrayDeque<>();
+        for (int i = roots.size() - 1; i >= 0; i--) {
+            stack.push(new Expand(roots.get(i)));
+        }
+        while (!stack.isEmpty()) {
+            Object item = stack.pop();
+            if (item instanceof Node) {
+                Node node = (Node) item;
+                if (node.name != null) {
+                    output.add(node.recipe != null ? node.recipe : new Recipe(node.name));
+                }
+                continue;
+            }
+            Node node = ((Expand) item).node;
+            node.placed = true;
+            // after 그룹: 나중에 적용된 그룹이 먼저 출력되도록 적용 순서대로 push
+            for (List<Node> group : node.after) {
+                pushGroup(stack, group);
+            }
+            stack.push(node);
+            for (int i = node.before.size() - 1; i >= 0; i--) {
+                pushGroup(stack, node.before.get(i));
+            }
+        }
+    }
+
+    private static void pushGroup(Deque<Object> stack, List<Node> group) {
+        for (int i = group.size() - 1; i >= 0; i--) {
+            stack.push(new Expand(group.get(i)));
+        }
+    }
+
+    /**
+     * 출력되지 않은 recipe의 원인을 찾습니다.
+     * 기준을 따라 올라가다 경로상의 노드로 돌아오면 순환, 어디에도 추가되지 않은 기준에서 멈추면 기준 없음입니다.
+     */
+    private static void reportUnplaced(List<Node> attached, Result result) {
+        Set<Node> visited = new HashSet<>();
+        for (Node start : attached) {
+            if (start.placed || visited.contains(start)) {
+                continue;
+            }
+            List<Node> path = new ArrayList<>();
+            Set<Node> onPath = new HashSet<>();
+            Node node = start;
+            while (node != null && !node.placed && !visited.contains(node) && !onPath.contains(node)) {
+                path.add(node);
+                onPath.add(node);
+                node = node.parent;
+            }
+            if (node != null && onPath.contains(node)) {
+                // 순환: node부터 경로 끝까지가 순환에 포함된 recipe
+                List<String> cycle = new ArrayList<>();
+                for (int i = path.indexOf(node); i < path.size(); i++) {
+                    cycle.add(path.get(i).name);
+                }
+                result.cycles.add(cycle);
+            } else if (!path.isEmpty() && path.get(path.size() - 1).parent == null) {
+                // 기준으로만 사용되고 추가되지 않은 recipe
+                result.missingAnchors.add(path.get(path.size() - 1).name);
+            }
+            visited.addAll(path);
+            for (Node unplaced : path) {
+                if (unplaced.parent != null) {
+                    result.unplaced.add(unplaced.name);
+                }
+            }
+        }
+    }
+
+    /**
+     * 계산 결과
+     */
+    static final class Result {
+        private final List<Recipe> recipeList = new ArrayList<>();
+        private final List<Node> added = new ArrayList<>();
+        private final List<String> skipped = new ArrayList<>();
+        private final Set<String> missingAnchors = new LinkedHashSet<>();
+        private final List<List<String>> cycles = new ArrayList<>();
+        private final List<String> unplaced = new ArrayList<>();
+
+        /**
+         * 최종 recipeList (기존 Recipe 객체는 그대로 사용)
+         */
+        List<Recipe> getRecipeList() {
+            return recipeList;
+        }
+
+        /**
+         * 추가된 recipe 이름 목록 (지시가 적용된 순서)
+         */
+        List<String> getAdded() {
+            List<String> names = new ArrayList<>(added.size());
+            for (Node node : added) {
+                names.add(node.name);
+            }
+            return names;
+        }
+
+        /**
+         * 추가된 recipe 이름과 추가한 지시("first", "before K" 등)
+         */
+        List<String[]> getAddedWithLabels() {
+            List<String[]> labels = new ArrayList<>(added.size());
+            for (Node node : added) {
+                labels.add(new String[] {node.label, node.name});
+            }
+            return labels;
+        }
+
+        /**
+         * 이미 recipeList에 있거나 다른 지시로 추가되어 건너뛴 recipe 이름 목록
+         */
+        List<String> getSkipped() {
+            return skipped;
+        }
+
+        /**
+         * 어디에도 없는 before/after 기준 recipe 이름 목록
+         */
+        List<String> getMissingAnchors() {
+            return new ArrayList<>(missingAnchors);
+        }
+
+        /**
+         * 순환 제약에 포함된 recipe 이름 목록
+         */
+        List<List<String>> getCycles() {
+            return cycles;
+        }
+
+        /**
+         * 순환이나 기준 없음 때문에 추가하지 못한 recipe 이름 목록
+         */
+        List<String> getUnplaced() {
+            return unplaced;
+        }
+    }
+
+    private enum Kind {
+        FIRST, LAST, BEFORE, AFTER
+    }
+
+    private static final class Directive {
+        private final Kind kind;
+        private final String anchor;
+        private final List<String> values;
+
+        Directive(Kind kind, String anchor, List<String> values) {
+            this.kind = kind;
+            this.anchor = anchor;
+            this.values = values;
+        }
+
+        String label() {
+            switch (kind) {
+                case FIRST:
+                    return "first";
+                case LAST:
+                    return "last";
+                case BEFORE:
+                    return "before " + anchor;
+                default:
+                    return "after " + anchor;
+            }
+        }
+    }
+
+    private static final class Node {
+        private final String name;
+        // 기존 recipe이면 원본 Recipe, 새로 추가되는 recipe이면 null
+        private final Recipe recipe;
+        // 새 recipe가 연결된 기준 노드 (head/tail 포함)
+        private Node parent;
+        private String label;
+        private final List<List<Node>> before = new ArrayList<>(0);
+        private final List<List<Node>> after = new ArrayList<>(0);
+        private boolean placed;
+
+        Node(String name, Recipe recipe) {
+            this.name = name;
+            this.recipe = recipe;
+        }
+    }
+
+    private static final class Expand {
+        private final Node node;
+
+        Expand(Node node) {
+            this.node = node;
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package com.yourcompany.plugins.rewriteprepare.service;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * recipe 파일 파싱 결과를 빌드 세션 동안 공유하는 캐시 클래스
+ *
+ * 여러 모듈로 구성된 reactor 빌드에서는 각 모듈의 prepare goal이 같은 base.yml, common.yml을
+ * 반복해서 파싱합니다. 이 캐시는 파일의 canonical path, 크기, 수정 시각을 키로 파싱 결과를 보관하여
+ * 같은 파일을 한 번만 파싱하도록 합니다.
+ *
+ * 키마다 CompletableFuture를 사용하므로 병렬 빌드(mvn -T)에서 여러 모듈이 동시에 같은 파일을 요청해도
+ * 실제 파싱은 한 번만 수행되고, 나머지 스레드는 그 결과를 기다립니다.
+ *
+ * RecipeListUpdater가 RecipeDefinition.recipeList를 직접 수정하므로,
+ * 캐시는 항상 파싱 결과의 복사본을 반환합니다.
+ *
+ * RecipeDiskCache가 지정되면 메모리 캐시에 없는 파일은 먼저 디스크 캐시(내용 해시 기준)에서 찾고,
+ * 디스크 캐시에도 없을 때만 파싱한 뒤 그 결과를 디스크 캐시에 저장합니다.
+ */
+public class RecipeParseCache {
+    private static final Logger logger = LoggerFactory.getLogger(RecipeParseCache.class);
+
+    // 빌드 세션 키별 캐시 (세션이 끝나면 GC 대상이 되도록 WeakHashMap 사용)
+    private static final Map<Object, RecipeParseCache> SESSION_CACHES = new WeakHashMap<>();
+
+    private final YamlParser yamlParser;
+    private final RecipeDiskCache diskCache;
+    private final ConcurrentMap<CacheKey, CompletableFuture<YamlParser.RecipeParseResult>> entries = new ConcurrentHashMap<>();
+
+    public RecipeParseCache(YamlParser yamlParser) {
+        this(yamlParser, null);
+    }
+
+    /**
+     * 디스크 캐시를 함께 사용하는 RecipeParseCache를 생성합니다.
+     *
+     * @param yamlParser YAML 파서
+     * @param diskCache 영구 디스크 캐시 (null이면 메모리 캐시만 사용)
+     */
+    public RecipeParseCache(YamlParser yamlParser, RecipeDiskCache diskCache) {
+        this.yamlParser = yamlParser;
+        this.diskCache = diskCache;
+    }
+
+    /**
+     * 빌드 세션에 연결된 캐시를 반환합니다.
+     * 같은 세션 키에 대해서는 항상 같은 캐시를 반환합니다.
+     * 세션 키가 null이면 공유되지 않는 새 캐시를 반환합니다.
+     *
+     * @param session 빌드 세션 키 (모듈마다 복제되는 MavenSession이 아니라, 복제된 세션이 공유하는
+     *                MavenExecutionRequest 등 reactor 빌드 동안 같은 객체)
+     * @param yamlParser 캐시가 처음 생성될 때 사용할 YamlParser
+     * @return 세션에 연결된 RecipeParseCache
+     */
+    public static RecipeParseCache forSession(Object session, YamlParser yamlParser) {
+        return forSession(session, yamlParser, null);
+    }
+
+    /**
+     * 빌드 세션에 연결된 캐시를 반환합니다.
+     * 디스크 캐시는 세션의 캐시가 처음 생성될 때의 값이 사용됩니다.
+     *
+     * @param session 빌드 세션 키 (reactor 빌드 동안 같은 객체, 예: MavenExecutionRequest)
+     * @param yamlParser 캐시가 처음 생성될 때 사용할 YamlParser
+     * @param diskCache 캐시가 처음 생성될 때 사용할 디스크 캐시 (null 가능)
+     * @return 세션에 연결된 RecipeParseCache
+     */
+    public static RecipeParseCache forSession(Object session, YamlParser yamlParser, RecipeDiskCache diskCache) {
+        if (session == null) {
+            return new RecipeParseCache(yamlParser, diskCache);
+        }
+        synchronized (SESSION_CACHES) {
+            return SESSION_CACHES.computeIfAbsent(session, key -> new RecipeParseCache(yamlParser, diskCache));
+        }
+    }
+
+    /**
+     * recipe 파일을 파싱합니다.
+     * 같은 파일(경로, 크기, 수정 시각이 동일)이 이미 파싱되었으면 캐시된 결과의 복사본을 반환합니다.
+     *
+     * @param recipeFile recipe YAML 파일
+     * @return 파싱 결과의 복사본
+     * @throws IOException 파일 읽기 오류
+     */
+    public YamlParser.RecipeParseResult parse(File recipeFile) throws IOException {
+        CacheKey key = CacheKey.of(recipeFile);
+        CompletableFuture<YamlParser.RecipeParseResult> created = new CompletableFuture<>();
+        CompletableFuture<YamlParser.RecipeParseResult> existing = entries.putIfAbsent(key, created);
+
+        if (existing != null) {
+            logger.debug("파싱 캐시 사용: {}", recipeFile.getAbsolutePath());
+            return await(existing).copy();
+        }
+
+        // 같은 경로의 이전 버전(크기나 수정 시각이 다른) 항목은 제거
+        entries.keySet().removeIf(other -> other.path.equals(key.path) && !other.equals(key));
+
+        try {
+            YamlParser.RecipeParseResult result = loadOrParse(recipeFile);
+            created.complete(result);
+            logger.debug("파싱 캐시 저장: {}", recipeFile.getAbsolutePath());
+            return result.copy();
+        } catch (IOException | RuntimeException e) {
+            // 실패한 결과는 캐시하지 않음 (대기 중인 스레드에는 같은 예외 전달)
+            entries.remove(key, created);
+            created.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * 캐시된 항목의 개수를 반환합니다.
+     *
+     * @return 캐시 항목 개수
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * 디스크 캐시에서 파싱 결과를 찾고, 없으면 파일을 파싱하여 디스크 캐시에 저장합니다.
+     */
+    private YamlParser.RecipeParseResult loadOrParse(File recipeFile) throws IOException {
+        if (diskCache == null) {
+            return yamlParser.parseRecipeFileWithMerge(recipeFile);
+        }
+
+        String contentHash = ContentHash.sha256(recipeFile);
+        YamlParser.RecipeParseResult cached = diskCache.load(contentHash);
+        if (cached != null) {
+            return cached;
+        }
+
+        YamlParser.RecipeParseResult result = yamlParser.parseRecipeFileWithMerge(recipeFile);
+        diskCache.store(contentHash, result);
+        return result;
+    }
+
+    /**
+     * 다른 스레드가 수행 중인 파싱이 끝날 때까지 기다립니다.
+     */
+    private YamlParser.RecipeParseResult await(CompletableFuture<YamlParser.RecipeParseResult> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("파싱 결과 대기 중 인터럽트 발생");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException("파싱 실패", cause);
+        }
+    }
+
+    /**
+     * 캐시 키 (canonical path + 파일 크기 + 수정 시각)
+     */
+    private static final class CacheKey {
+        private final String path;
+        private final long size;
+        private final long lastModified;
+
+        private CacheKey(String path, long size, long lastModified) {
+            this.path = path;
+            this.size = size;
+            this.lastModified = lastModified;
+        }
+
+        static CacheKey of(File file) throws IOException {
+            return new CacheKey(file.getCanonicalPath(), file.length(), file.lastModified());
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            CacheKey other = (CacheKey) o;
+            return size == other.size && lastModified == other.lastModified && path.equals(other.path);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = path.hashCode();
+            result = 31 * result + Long.hashCode(size);
+            result = 31 * result + Long.hashCode(lastModified);
+            return result;
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.yourcompany.plugins.rewriteprepare.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.yourcompany.plugins.rewriteprepare.model.Recipe;
+import com.yourcompany.plugins.rewriteprepare.model.RecipeCatalog;
+import com.yourcompany.plugins.rewriteprepare.model.RecipeDefinition;
+
+/**
+ * 루트 recipe에서 참조를 따라 도달할 수 없는 RecipeDefinition을 출력에서 제외하는 서비스 클래스
+ *
+ * 루트(예: rewrite-maven-plugin의 activeRecipes)에서 시작하여 각 정의의 recipeList와
+ * preconditions, exclusions에 있는 recipe 이름을 따라가며, 카탈로그에 정의된 recipe만 방문합니다.
+ * 카탈로그에 없는 이름(OpenRewrite 내장 recipe 등)은 더 따라가지 않습니다.
+ *
+ * 같은 이름의 정의가 여러 개 있으면 이름 단위로 판단하므로 모두 남기고, 모든 정의의 참조를 따라갑니다.
+ * 결과는 원래 출력 순서를 유지하며, 남는 정의는 변경하지 않으므로 원본 문서를 그대로 출력할 수 있습니다.
+ */
+public class RecipeReachabilityPruner {
+    private static final Logger logger = LoggerFactory.getLogger(RecipeReachabilityPruner.class);
+
+    /**
+     * 루트에서 도달할 수 있는 정의만 남긴 카탈로그를 계산합니다.
+     *
+     * @param recipes 병합된 RecipeDefinition 카탈로그
+     * @param roots 루트 recipe 이름 목록
+     * @return 정리 결과
+     */
+    public PruneResult prune(RecipeCatalog recipes, Collection<String> roots) {
+        // 이름 → 같은 이름의 모든 정의
+        Map<String, List<RecipeDefinition>> definitionsByName = new HashMap<>();
+        for (RecipeDefinition recipe : recipes) {
+            if (recipe.getName() != null) {
+                definitionsByName.computeIfAbsent(recipe.getName(), key -> new ArrayList<>(1)).add(recipe);
+            }
+        }
+
+        PruneResult result = new PruneResult();
+        Set<String> reachable = new HashSet<>();
+        Deque<String> queue = new ArrayDeque<>();
+        for (String root : roots) {
+            if (!recipes.containsName(root)) {
+                result.missingRoots.add(root);
+            } else if (reachable.add(root)) {
+                queue.add(root);
+            }
+        }
+
+        while (!queue.isEmpty()) {
+            for (RecipeDefinition definition : definitionsByName.get(queue.poll())) {
+                for (String reference : references(definition)) {
+                    if (recipes.containsName(reference) && reachable.add(reference)) {
+                        queue.add(reference);
+                    }
+                }
+            }
+        }
+
+        for (RecipeDefinition recipe : recipes) {
+            if (recipe.getName() != null && reachable.contains(recipe.getName())) {
+                result.recipes.add(recipe);
+            } else {
+                result.removed.add(recipe.getName());
+            }
+        }
+
+        if (!result.missingRoots.isEmpty()) {
+            logger.warn("정의되지 않은 루트 recipe: {}", result.missingRoots);
+        }
+        logger.info("도달할 수 없는 recipe 정리: {} 개 중 {} 개 유지, {} 개 제외",
+                recipes.size(), result.recipes.size(), result.removed.size());
+        if (!result.removed.isEmpty()) {
+            logger.debug("제외된 recipe: {}", result.removed);
+        }
+        return result;
+    }
+
+    /**
+     * 정의가 참조하는 recipe 이름 목록 (recipeList, preconditions, exclusions)
+     */
+    private static List<String> references(RecipeDefinition definition) {
+        List<String> names = new ArrayList<>();
+        if (definition.getRecipeList() != null) {
+            for (Recipe recipe : definition.getRecipeList()) {
+                names.add(recipe.getName());
+            }
+        }
+        addReferences(names, definition.getPreconditions());
+        addReferences(names, definition.getExclusions());
+        return names;
+    }
+
+    private static void addReferences(List<String> names, List<Object> items) {
+        if (items == null) {
+            return;
+        }
+        for (Object item : items) {
+            String name = Recipe.fromValue(item).getName();
+            if (name != null) {
+                names.add(name);
+            }
+        }
+    }
+
+    /**
+     * 정리 결과
+     */
+    public static class PruneResult {
+        private final RecipeCatalog recipes = new RecipeCatalog();
+        private final List<String> removed = new ArrayList<>();
+        private final Set<String> missingRoots = new LinkedHashSet<>();
+
+        /**
+         * 도달할 수 있는 정의만 남긴 카탈로그 (원래 순서 유지)
+         */
+        public RecipeCatalog getRecipes() {
+            return recipes;
+        }
+
+        /**
+         * 제외된 정의의 이름 목록 (원래 순서)
+         */
+        public List<String> getRemoved() {
+            return removed;
+        }
+
+        /**
+         * 카탈로그에 정의가 없는 루트 이름 목록
+         */
+        public List<String> getMissingRoots() {
+            return new ArrayList<>(missingRoots);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.yourcompany.plugins.rewriteprepare.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.yourcompany.plugins.rewriteprepare.model.RecipeCatalog;
+import com.yourcompany.plugins.rewriteprepare.model.UpdateRecipeList;
+
+/**
+ * 적용할 모든 updateRecipeList를 대상 recipe 이름별로 묶은 업데이트 계획 클래스
+ *
+ * updateRecipeList는 대상 recipe의 recipeList만 변경하므로 대상이 다른 업데이트끼리는 서로 영향을 주지 않습니다.
+ * 따라서 대상별로 묶어도 결과는 추가된 순서대로 하나씩 적용한 것과 같으며,
+ * RecipeListUpdater는 대상 recipe를 한 번만 찾고 recipeList를 한 번만 다시 만듭니다.
+ *
+ * 대상은 처음 등장한 순서를 유지하고, 같은 대상의 업데이트는 추가된 순서(우선순위)를 유지합니다.
+ * 각 업데이트 안에서는 기존과 같이 first → last → before → after 순서로 적용됩니다.
+ *
+ * 대상 이름에 glob 패턴("*", "?")을 사용하면(예: com.example.*.Main) resolveTargets()에서
+ * 카탈로그의 이름 목록과 한 번 비교하여 일치하는 모든 recipe의 업데이트로 펼칩니다.
+ */
+public class RecipeUpdatePlan {
+    private static final Logger logger = LoggerFactory.getLogger(RecipeUpdatePlan.class);
+
+    private final Map<String, List<UpdateRecipeList.UpdateOrder>> updatesByTarget = new LinkedHashMap<>();
+    // 대상 이름(또는 패턴)과 업데이트를 추가된 순서대로 보관 (패턴을 펼칠 때 대상별 우선순위 유지)
+    private final List<String> targets = new ArrayList<>();
+    private final List<UpdateRecipeList.UpdateOrder> updateOrders = new ArrayList<>();
+    private boolean hasPatterns;
+
+    /**
+     * 업데이트를 계획에 추가합니다.
+     * 대상 이름이나 updateOrder가 없는 업데이트는 경고를 남기고 건너뜁니다.
+     *
+     * @param updateRecipeList 업데이트 정보
+     */
+    public void add(UpdateRecipeList updateRecipeList) {
+        if (updateRecipeList == null || updateRecipeList.getName() == null) {
+            logger.warn("updateRecipeList 또는 name이 null입니다. 업데이트를 건너뜁니다.");
+            return;
+        }
+        if (updateRecipeList.getUpdateOrder() == null) {
+            logger.warn("updateOrder가 null입니다. 업데이트를 건너뜁니다: {}", updateRecipeList.getName());
+            return;
+        }
+        updatesByTarget.computeIfAbsent(updateRecipeList.getName(), key -> new ArrayList<>())
+                .add(updateRecipeList.getUpdateOrder());
+        targets.add(updateRecipeList.getName());
+        updateOrders.add(updateRecipeList.getUpdateOrder());
+        hasPatterns |= isPattern(updateRecipeList.getName());
+    }
+
+    /**
+     * 여러 업데이트를 순서대로 계획에 추가합니다.
+     *
+     * @param updateRecipeLists 업데이트 정보 목록 (null이면 무시)
+     */
+    public void addAll(List<UpdateRecipeList> updateRecipeLists) {
+        if (updateRecipeLists != null) {
+            for (UpdateRecipeList updateRecipeList : updateRecipeLists) {
+                add(updateRecipeList);
+            }
+        }
+    }
+
+    /**
+     * 대상 recipe 이름(또는 패턴)별 업데이트 목록을 반환합니다.
+     *
+     * @return 대상 이름 → updateOrder 목록 (대상은 처음 등장한 순서, 업데이트는 추가된 순서)
+     */
+    public Map<String, List<UpdateRecipeList.UpdateOrder>> getUpdatesByTarget() {
+        return Collections.unmodifiableMap(updatesByTarget);
+    }
+
+    /**
+     * glob 패턴 대상을 카탈로그의 recipe 이름으로 펼친 대상별 업데이트 목록을 반환합니다.
+     * 패턴마다 카탈로그의 이름 목록을 한 번만 비교하며, 한 recipe가 여러 패턴이나 이름과 일치하면
+     * 업데이트는 계획에 추가된 순서대로 적용됩니다. 일치하는 recipe가 없는 패턴은 그대로 대상으로 남아
+     * 대상 recipe 없음으로 보고됩니다.
+     *
+     * @param recipes 업데이트할 RecipeDefinition 카탈로그
+     * @return 대상 recipe 이름 → updateOrder 목록
+     */
+    public Map<String, List<UpdateRecipeList.UpdateOrder>> resolveTargets(RecipeCatalog recipes) {
+        if (!hasPatterns) {
+            return getUpdatesByTarget();
+        }
+        Map<String, List<String>> matchesByPattern = new HashMap<>();
+        Map<String, List<UpdateRecipeList.UpdateOrder>> resolved = new LinkedHashMap<>();
+        for (int i = 0; i < targets.size(); i++) {
+            String target = targets.get(i);
+            List<String> names = isPattern(target)
+                    ? matchesByPattern.computeIfAbsent(target, pattern -> match(recipes, pattern))
+                    : Collections.singletonList(target);
+            for (String name : names) {
+                resolved.computeIfAbsent(name, key -> new ArrayList<>()).add(updateOrders.get(i));
+            }
+        }
+        return resolved;
+    }
+
+    private static List<String> match(RecipeCatalog recipes, String pattern) {
+        GlobMatcher matcher = GlobMatcher.compile(pattern);
+        List<String> names = new ArrayList<>();
+        for (String name : recipes.names()) {
+            if (matcher.matches(name)) {
+                names.add(name);
+            }
+        }
+        logger.debug("updateRecipeList 대상 패턴 {}: {} 개의 recipe 일치 {}", pattern, names.size(), names);
+        // 일치하는 recipe가 없으면 패턴을 그대로 대상으로 두어 대상 없음으로 보고
+        return names.isEmpty() ? Collections.singletonList(pattern) : names;
+    }
+
+    /**
+     * 대상 이름이 glob 패턴인지 확인합니다.
+     */
+    static boolean isPattern(String target) {
+        return target.indexOf('*') >= 0 || target.indexOf('?') >= 0;
+    }
+
+    /**
+     * 계획에 포함된 업데이트 개수를 반환합니다.
+     */
+    public int getUpdateCount() {
+        return updateOrders.size();
+    }
+
+    public boolean isEmpty() {
+        return updatesByTarget.isEmpty();
+    }
+}
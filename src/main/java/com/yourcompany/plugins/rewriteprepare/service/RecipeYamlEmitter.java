@@ -0,0 +1,643 @@
+package com.yourcompany.plugins.rewriteprepare.service;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.yourcompany.plugins.rewriteprepare.model.Recipe;
+import com.yourcompany.plugins.rewriteprepare.model.RecipeDefinition;
+
+/**
+ * RecipeDefinition을 YAML 문서로 직접 작성하는 emitter 클래스
+ *
+ * 출력 형식은 YamlParser의 Jackson 설정(YAMLGenerator + MINIMIZE_QUOTES, SnakeYAML block style)과 바이트 단위로 같습니다.
+ * Jackson의 따옴표 판단(StringQuotingChecker)과 SnakeYAML Emitter의 스칼라 분석, 줄 나눔(80열), 들여쓰기 규칙을
+ * RecipeDefinition/Recipe의 고정된 구조에 맞게 옮겨 왔으며, 리플렉션이나 중간 Map 없이 하나의 UTF-8 버퍼에 씁니다.
+ *
+ * 다음 값이 있는 recipe는 작성하지 않고 false를 반환하므로 호출자가 Jackson으로 작성해야 합니다:
+ * - preconditions, exclusions
+ * - 문자열, 정수, boolean이 아닌 attribute 값 (중첩된 Map/List 등)
+ * - 여러 줄 문자열, 단순 키로 쓸 수 없는 키
+ */
+public class RecipeYamlEmitter {
+
+    private static final int BEST_WIDTH = 80;
+    private static final int BEST_INDENT = 2;
+    private static final int MAX_SIMPLE_KEY_LENGTH = 128;
+
+    private static final Set<String> RESERVED_KEYWORDS = new HashSet<>(Arrays.asList(
+            "false", "False", "FALSE", "n", "N", "no", "No", "NO", "null", "Null", "NULL",
+            "on", "On", "ON", "off", "Off", "OFF", "true", "True", "TRUE", "y", "Y", "yes", "Yes", "YES"));
+
+    // 작성할 수 없는 값을 만났을 때 사용 (stack trace 없음)
+    private static final Unsupported UNSUPPORTED = new Unsupported();
+
+    private byte[] buffer;
+    private int size;
+
+    // SnakeYAML Emitter와 같은 출력 상태
+    private int column;
+    private boolean whitespace;
+    private boolean indention;
+
+    /**
+     * @param initialCapacity 버퍼의 초기 크기 (bytes)
+     */
+    public RecipeYamlEmitter(int initialCapacity) {
+        this.buffer = new byte[Math.max(initialCapacity, 256)];
+    }
+
+    /**
+     * 이미 작성된 문서(원본 문서 또는 Jackson 출력)를 그대로 덧붙입니다.
+     *
+     * @param document '---'로 시작하고 줄바꿈으로 끝나는 문서
+     */
+    public void append(byte[] document) {
+        append(document, document.length);
+    }
+
+    /**
+     * 이미 작성된 문서의 앞부분을 그대로 덧붙입니다.
+     *
+     * @param document '---'로 시작하는 문서
+     * @param length 덧붙일 길이 (줄바꿈으로 끝나는 위치)
+     */
+    public void append(byte[] document, int length) {
+        ensureCapacity(length);
+        System.arraycopy(document, 0, buffer, size, length);
+        size += length;
+    }
+
+    /**
+     * recipe를 YAML 문서 하나로 작성합니다.
+     *
+     * @param recipe 작성할 recipe
+     * @return 작성했으면 true, 지원하지 않는 값이 있어 작성하지 않았으면 false (버퍼는 변경되지 않음)
+     */
+    public boolean emit(RecipeDefinition recipe) {
+        int mark = size;
+        try {
+            writeDocument(recipe);
+            return true;
+        } catch (Unsupported e) {
+            size = mark;
+            return false;
+        }
+    }
+
+    /**
+     * 작성된 내용을 ByteBuffer로 반환합니다 (복사하지 않음).
+     */
+    public ByteBuffer toByteBuffer() {
+        return ByteBuffer.wrap(buffer, 0, size);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // ---------------------------------------------------------------------
+    // 문서 구조 (Jackson의 RecipeDefinition 속성 순서와 @JsonInclude(NON_EMPTY) 규칙)
+    // ---------------------------------------------------------------------
+
+    private void writeDocument(RecipeDefinition recipe) {
+        if (!isEmpty(recipe.getPreconditions()) || !isEmpty(recipe.getExclusions())) {
+            throw UNSUPPORTED;
+        }
+        column = 0;
+        whitespace = true;
+        indention = true;
+        writeIndicator("---", true, false, false);
+
+        writeStringField("type", recipe.getType());
+        writeStringField("name", recipe.getName());
+        writeStringField("displayName", recipe.getDisplayName());
+        writeStringField("description", recipe.getDescription());
+        if (!isEmpty(recipe.getTags())) {
+            writeKey("tags", 0);
+            for (String tag : recipe.getTags()) {
+                writeSequenceIndicator();
+                writeStringValue(tag, BEST_INDENT);
+            }
+        }
+        writeStringField("estimatedEffortPerOccurrence", recipe.getEstimatedEffortPerOccurrence());
+        if (recipe.getCausesAnotherCycle() != null) {
+            writeKey("causesAnotherCycle", 0);
+            writePlain(recipe.getCausesAnotherCycle() ? "true" : "false", true, BEST_INDENT);
+        }
+        if (!isEmpty(recipe.getRecipeList())) {
+            writeKey("recipeList", 0);
+            for (Recipe item : recipe.getRecipeList()) {
+                writeSequenceIndicator();
+                writeRecipe(item);
+            }
+        }
+
+        // 문서 끝
+        writeIndent(0);
+    }
+
+    /**
+     * UnquotedStringSerializer를 사용하는 문자열 속성을 작성합니다.
+     * 사용자 정의 serializer는 빈 문자열을 "비어 있음"으로 보지 않으므로 NON_EMPTY여도 null만 생략됩니다.
+     */
+    private void writeStringField(String name, String value) {
+        if (value != null) {
+            writeKey(name, 0);
+            writeStringValue(value, BEST_INDENT);
+        }
+    }
+
+    /**
+     * recipeList 항목을 작성합니다 (Recipe.toValue()와 같은 형식).
+     * attributes가 없으면 이름만, 있으면 "이름: {attributes}" 형식의 mapping으로 작성합니다.
+     */
+    private void writeRecipe(Recipe recipe) {
+        Map<String, Object> attributes = recipe.getAttributes();
+        if (attributes == null || attributes.isEmpty()) {
+            writeStringValue(recipe.getName(), BEST_INDENT);
+            return;
+        }
+        if (recipe.getName() == null) {
+            throw UNSUPPORTED;
+        }
+        // 시퀀스 항목 안의 mapping (들여쓰기 2), attributes mapping (들여쓰기 4)
+        writeKey(recipe.getName(), BEST_INDENT);
+        for (Map.Entry<String, Object> attribute : attributes.entrySet()) {
+            writeKey(attribute.getKey(), BEST_INDENT * 2);
+            writeAttributeValue(attribute.getValue(), BEST_INDENT * 3);
+        }
+    }
+
+    private void writeAttributeValue(Object value, int indent) {
+        if (value instanceof String) {
+            writeStringValue((String) value, indent);
+        } else if (value instanceof Integer || value instanceof Long) {
+            writePlain(value.toString(), true, indent);
+        } else if (value instanceof Boolean) {
+            writePlain((Boolean) value ? "true" : "false", true, indent);
+        } else {
+            throw UNSUPPORTED;
+        }
+    }
+
+    private static boolean isEmpty(List<?> list) {
+        return list == null || list.isEmpty();
+    }
+
+    // ---------------------------------------------------------------------
+    // 키와 값 (Jackson YAMLGenerator.writeFieldName / writeString)
+    // ---------------------------------------------------------------------
+
+    /**
+     * 들여쓰기 indent인 block mapping의 단순 키와 ':'를 작성합니다.
+     */
+    private void writeKey(String name, int indent) {
+        if (name == null || name.isEmpty() || name.length() >= MAX_SIMPLE_KEY_LENGTH) {
+            throw UNSUPPORTED;
+        }
+        ScalarAnalysis analysis = analyzeScalar(name);
+        if (analysis.lineBreaks) {
+            // 여러 줄 키는 '?' 형식으로 작성됨
+            throw UNSUPPORTED;
+        }
+        writeIndent(indent);
+        if (needToQuoteName(name)) {
+            writeDoubleQuoted(name, false, indent + BEST_INDENT);
+        } else {
+            if (analysis.allowBlockPlain) {
+                writePlain(name, false, indent + BEST_INDENT);
+            } else if (analysis.specialCharacters) {
+                writeDoubleQuoted(name, false, indent + BEST_INDENT);
+            } else {
+                writeSingleQuoted(name, false, indent + BEST_INDENT);
+            }
+        }
+        writeIndicator(":", false, false, false);
+    }
+
+    /**
+     * 문자열 스칼라 값을 작성합니다.
+     */
+    private void writeStringValue(String text, int indent) {
+        if (text == null || text.indexOf('\n') >= 0) {
+            // 여러 줄 문자열은 Jackson이 literal block 형식으로 작성
+            throw UNSUPPORTED;
+        }
+        if (text.isEmpty() || needToQuoteValue(text)) {
+            writeDoubleQuoted(text, true, indent);
+            return;
+        }
+        ScalarAnalysis analysis = analyzeScalar(text);
+        if (analysis.lineBreaks) {
+            throw UNSUPPORTED;
+        }
+        if (analysis.allowBlockPlain) {
+            writePlain(text, true, indent);
+        } else if (analysis.specialCharacters) {
+            writeDoubleQuoted(text, true, indent);
+        } else {
+            writeSingleQuoted(text, true, indent);
+        }
+    }
+
+    private static boolean needToQuoteName(String name) {
+        if (isReservedKeyword(name)) {
+            return true;
+        }
+        char first = name.charAt(0);
+        if ((first >= '0' && first <= '9') || first == '-' || first == '+' || first == '.') {
+            return true;
+        }
+        for (int i = 0; i < name.length(); i++) {
+            if (name.charAt(i) < 0x20) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean needToQuoteValue(String value) {
+        if (isReservedKeyword(value)) {
+            return true;
+        }
+        int end = value.length();
+        for (int i = 0; i < end; i++) {
+            switch (value.charAt(i)) {
+                case '[':
+                case ']':
+                case '{':
+                case '}':
+                case ',':
+                    return true;
+                case '#':
+                    if (i > 0 && (value.charAt(i - 1) == ' ' || value.charAt(i - 1) == '\t')) {
+                        return true;
+                    }
+                    break;
+                case ':':
+                    if (i < end - 1 && (value.charAt(i + 1) == ' ' || value.charAt(i + 1) == '\t')) {
+                        return true;
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isReservedKeyword(String value) {
+        return value.isEmpty() || value.charAt(0) == '~' || RESERVED_KEYWORDS.contains(value);
+    }
+
+    // ---------------------------------------------------------------------
+    // 스칼라 분석 (SnakeYAML Emitter.analyzeScalar)
+    // ---------------------------------------------------------------------
+
+    private static ScalarAnalysis analyzeScalar(String scalar) {
+        boolean blockIndicators = false;
+        boolean lineBreaks = false;
+        boolean specialCharacters = false;
+        boolean leadingSpace = false;
+        boolean trailingSpace = false;
+
+        if (scalar.startsWith("---") || scalar.startsWith("...")) {
+            blockIndicators = true;
+        }
+        boolean precededByWhitespace = true;
+        boolean followedByWhitespace = scalar.length() == 1 || isBlankOrBreak(scalar.codePointAt(1));
+
+        int index = 0;
+        while (index < scalar.length()) {
+            int c = scalar.codePointAt(index);
+            if (index == 0) {
+                if ("#,[]{}&*!|>'\"%@`".indexOf(c) != -1) {
+                    blockIndicators = true;
+                }
+                if ((c == '?' || c == ':' || c == '-') && followedByWhitespace) {
+                    blockIndicators = true;
+                }
+            } else {
+                if (c == ':' && followedByWhitespace) {
+                    blockIndicators = true;
+                }
+                if (c == '#' && precededByWhitespace) {
+                    blockIndicators = true;
+                }
+            }
+            boolean isLineBreak = isLineBreak(c);
+            if (isLineBreak) {
+                lineBreaks = true;
+            }
+            if (!(c == '\n' || (0x20 <= c && c <= 0x7E))) {
+                if (!(c == 0x85 || (c >= 0xA0 && c <= 0xD7FF) || (c >= 0xE000 && c <= 0xFFFD)
+                        || (c >= 0x10000 && c <= 0x10FFFF))) {
+                    specialCharacters = true;
+                }
+            }
+            if (c == ' ') {
+                if (index == 0) {
+                    leadingSpace = true;
+                }
+                if (index == scalar.length() - 1) {
+                    trailingSpace = true;
+                }
+            }
+
+            index += Character.charCount(c);
+            precededByWhitespace = c == 0 || c == ' ' || c == '\t' || isLineBreak;
+            followedByWhitespace = true;
+            if (index + 1 < scalar.length()) {
+                int nextIndex = index + Character.charCount(scalar.codePointAt(index));
+                if (nextIndex < scalar.length()) {
+                    int next = scalar.codePointAt(nextIndex);
+                    followedByWhitespace = next == 0 || next == ' ' || next == '\t' || isLineBreak;
+                }
+            }
+        }
+
+        ScalarAnalysis analysis = new ScalarAnalysis();
+        analysis.lineBreaks = lineBreaks;
+        analysis.specialCharacters = specialCharacters;
+        analysis.allowBlockPlain = !(leadingSpace || trailingSpace || specialCharacters || blockIndicators
+                || lineBreaks);
+        return analysis;
+    }
+
+    private static boolean isLineBreak(int c) {
+        return c == '\n' || c == '\r' || c == 0x85 || c == 0x2028 || c == 0x2029;
+    }
+
+    private static boolean isBlankOrBreak(int c) {
+        return c == 0 || c == ' ' || c == '\t' || isLineBreak(c);
+    }
+
+    private static boolean isPrintable(int c) {
+        return (c >= 0x20 && c <= 0x7E) || c == 0x9 || c == 0xA || c == 0xD || c == 0x85
+                || (c >= 0xA0 && c <= 0xD7FF) || (c >= 0xE000 && c <= 0xFFFD)
+                || (c >= 0x10000 && c <= 0x10FFFF);
+    }
+
+    // ---------------------------------------------------------------------
+    // 출력 (SnakeYAML Emitter의 writeIndicator, writeIndent, writePlain, writeSingleQuoted, writeDoubleQuoted)
+    // ---------------------------------------------------------------------
+
+    /**
+     * 시퀀스 항목 표시("- ")를 작성합니다 (mapping 값인 시퀀스는 들여쓰기 없이 작성).
+     */
+    private void writeSequenceIndicator() {
+        writeIndent(0);
+        writeIndicator("-", true, false, true);
+    }
+
+    private void writeIndicator(String indicator, boolean needWhitespace, boolean whitespace, boolean indentation) {
+        if (!this.whitespace && needWhitespace) {
+            column++;
+            writeByte(' ');
+        }
+        this.whitespace = whitespace;
+        this.indention = this.indention && indentation;
+        column += indicator.length();
+        writeText(indicator, 0, indicator.length());
+    }
+
+    private void writeIndent(int indent) {
+        if (!indention || column > indent || (column == indent && !whitespace)) {
+            whitespace = true;
+            indention = true;
+            column = 0;
+            writeByte('\n');
+        }
+        if (indent - column > 0) {
+            whitespace = true;
+            while (column < indent) {
+                writeByte(' ');
+                column++;
+            }
+        }
+    }
+
+    private void writePlain(String text, boolean split, int indent) {
+        if (!whitespace) {
+            column++;
+            writeByte(' ');
+        }
+        whitespace = false;
+        indention = false;
+        boolean spaces = false;
+        int start = 0;
+        int end = 0;
+        while (end <= text.length()) {
+            char ch = end < text.length() ? text.charAt(end) : 0;
+            if (spaces) {
+                if (ch != ' ') {
+                    if (start + 1 == end && column > BEST_WIDTH && split) {
+                        writeIndent(indent);
+                        whitespace = false;
+                        indention = false;
+                    } else {
+                        column += end - start;
+                        writeText(text, start, end);
+                    }
+                    start = end;
+                }
+            } else if (ch == 0 || ch == ' ') {
+                column += end - start;
+                writeText(text, start, end);
+                start = end;
+            }
+            if (ch != 0) {
+                spaces = ch == ' ';
+            }
+            end++;
+        }
+    }
+
+    /**
+     * 작은따옴표 형식으로 작성합니다. 값 안의 '는 ''로 작성하고, 80열을 넘으면 단어 사이의 공백 하나에서 줄을 나눕니다.
+     * 줄바꿈이 있는 값은 호출 전에 제외되므로 줄바꿈 처리는 생략합니다.
+     */
+    private void writeSingleQuoted(String text, boolean split, int indent) {
+        writeIndicator("'", true, false, false);
+        boolean spaces = false;
+        int start = 0;
+        int end = 0;
+        while (end <= text.length()) {
+            char ch = end < text.length() ? text.charAt(end) : 0;
+            if (spaces) {
+                if (ch != ' ') {
+                    if (start + 1 == end && column > BEST_WIDTH && split && start != 0 && end != text.length()) {
+                        writeIndent(indent);
+                    } else {
+                        column += end - start;
+                        writeText(text, start, end);
+                    }
+                    start = end;
+                }
+            } else if (ch == 0 || ch == ' ' || ch == '\'') {
+                if (start < end) {
+                    column += end - start;
+                    writeText(text, start, end);
+                    start = end;
+                }
+            }
+            if (ch == '\'') {
+                column += 2;
+                writeText("''", 0, 2);
+                start = end + 1;
+            }
+            if (ch != 0) {
+                spaces = ch == ' ';
+            }
+            end++;
+        }
+        writeIndicator("'", false, false, false);
+    }
+
+    private void writeDoubleQuoted(String text, boolean split, int indent) {
+        writeIndicator("\"", true, false, false);
+        int start = 0;
+        int end = 0;
+        int length = text.length();
+        while (end <= length) {
+            int ch = end < length ? text.charAt(end) : -1;
+            if (ch == -1 || "\"\\\u0085\u2028\u2029\uFEFF".indexOf(ch) != -1 || !(0x20 <= ch && ch <= 0x7E)) {
+                if (start < end) {
+                    column += end - start;
+                    writeText(text, start, end);
+                    start = end;
+                }
+                if (ch != -1) {
+                    String data = escape(text, end, ch);
+                    if (data.length() == 0) {
+                        // 출력 가능한 문자는 그대로 작성
+                        column++;
+                        writeText(text, end, end + 1);
+                    } else {
+                        if (data.startsWith("\\U")) {
+                            end++;
+                        }
+                        column += data.length();
+                        writeText(data, 0, data.length());
+                    }
+                    start = end + 1;
+                }
+            }
+            if ((0 < end && end < length - 1) && (ch == ' ' || start >= end)
+                    && (column + (end - start)) > BEST_WIDTH && split) {
+                String data = start >= end ? "\\" : text.substring(start, end) + "\\";
+                if (start < end) {
+                    start = end;
+                }
+                column += data.length();
+                writeText(data, 0, data.length());
+                writeIndent(indent);
+                whitespace = false;
+                indention = false;
+                if (text.charAt(start) == ' ') {
+                    column++;
+                    writeByte('\\');
+                }
+            }
+            end++;
+        }
+        writeIndicator("\"", false, false, false);
+    }
+
+    /**
+     * 큰따옴표 문자열에서 문자 하나의 escape 표현을 반환합니다. 그대로 쓸 수 있으면 빈 문자열을 반환합니다.
+     */
+    private static String escape(String text, int index, int ch) {
+        switch (ch) {
+            case '\0': return "\\0";
+            case '\u0007': return "\\a";
+            case '\u0008': return "\\b";
+            case '\u0009': return "\\t";
+            case '\n': return "\\n";
+            case '\u000B': return "\\v";
+            case '\u000C': return "\\f";
+            case '\r': return "\\r";
+            case '\u001B': return "\\e";
+            case '"': return "\\\"";
+            case '\\': return "\\\\";
+            case '\u0085': return "\\N";
+            case '\u00A0': return "\\_";
+            case '\u2028': return "\\L";
+            case '\u2029': return "\\P";
+            default:
+                break;
+        }
+        if (isPrintable(ch)) {
+            return "";
+        }
+        if (ch <= 0xFF) {
+            String s = "0" + Integer.toString(ch, 16);
+            return "\\x" + s.substring(s.length() - 2);
+        }
+        if (ch >= 0xD800 && ch <= 0xDBFF && index + 1 < text.length()) {
+            String s = "000" + Long.toHexString(Character.toCodePoint((char) ch, text.charAt(index + 1)));
+            return "\\U" + s.substring(s.length() - 8);
+        }
+        String s = "000" + Integer.toString(ch, 16);
+        return "\\u" + s.substring(s.length() - 4);
+    }
+
+    // ---------------------------------------------------------------------
+    // UTF-8 버퍼
+    // ---------------------------------------------------------------------
+
+    private void writeByte(char b) {
+        ensureCapacity(1);
+        buffer[size++] = (byte) b;
+    }
+
+    private void writeText(String text, int start, int end) {
+        ensureCapacity((end - start) * 3);
+        byte[] out = buffer;
+        int position = size;
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                out[position++] = (byte) c;
+            } else if (c < 0x800) {
+                out[position++] = (byte) (0xC0 | (c >> 6));
+                out[position++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < end && Character.isLowSurrogate(text.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, text.charAt(++i));
+                out[position++] = (byte) (0xF0 | (codePoint >> 18));
+                out[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                out[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                out[position++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else {
+                out[position++] = (byte) (0xE0 | (c >> 12));
+                out[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                out[position++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        size = position;
+    }
+
+    private void ensureCapacity(int additional) {
+        if (size + additional > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + additional));
+        }
+    }
+
+    private static final class ScalarAnalysis {
+        private boolean lineBreaks;
+        private boolean specialCharacters;
+        private boolean allowBlockPlain;
+    }
+
+    private static final class Unsupported extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        Unsupported() {
+            super(null, null, false, false);
+        }
+    }
+}
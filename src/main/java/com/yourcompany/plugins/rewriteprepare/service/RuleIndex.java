@@ -0,0 +1,222 @@
+package com.yourcompany.plugins.rewriteprepare.service;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.yourcompany.plugins.rewriteprepare.model.ProjectCoordinate;
+import com.yourcompany.plugins.rewriteprepare.model.Rule;
+
+/**
+ * 머지 규칙을 groupId/artifactId로 빠르게 찾기 위한 인덱스 클래스
+ *
+ * 규칙 파일을 읽은 뒤 한 번만 생성하며, 각 규칙은 artifactId 패턴(artifactId가 null 또는 "*"이면 groupId 패턴)으로
+ * 다음 중 하나 이상에 등록됩니다:
+ * - 와일드카드가 없는 패턴: 해시 버킷 (예: "my-service")
+ * - "prefix*" 패턴: prefix trie (예: "com.example.*")
+ * - "*suffix" 패턴: suffix trie (예: "*-service")
+ * - 그 외의 일반 Glob 패턴: fallback 목록 (항상 후보)
+ * groupId와 artifactId가 모두 null 또는 "*"인 규칙은 모든 프로젝트와 매칭되므로 항상 후보가 됩니다.
+ *
+ * 조회 시 인덱스에서 후보 규칙만 모은 뒤 PatternMatcher와 같은 규칙으로 groupId와 artifactId를 다시 검사하며,
+ * 결과는 규칙 파일에 정의된 순서를 유지합니다.
+ */
+public class RuleIndex {
+    private static final Logger logger = LoggerFactory.getLogger(RuleIndex.class);
+
+    private final List<Rule> rules;
+    private final GlobMatcher[] groupIdMatchers;
+    private final GlobMatcher[] artifactIdMatchers;
+
+    private final FieldIndex artifactIdIndex = new FieldIndex();
+    private final FieldIndex groupIdIndex = new FieldIndex();
+    private final BitSet alwaysCandidates = new BitSet();
+
+    /**
+     * 규칙 목록으로 인덱스를 생성합니다.
+     *
+     * @param rules 머지 규칙 목록 (규칙 파일에 정의된 순서)
+     */
+    public RuleIndex(List<Rule> rules) {
+        this.rules = new ArrayList<>(rules);
+        this.groupIdMatchers = new GlobMatcher[this.rules.size()];
+        this.artifactIdMatchers = new GlobMatcher[this.rules.size()];
+
+        for (int i = 0; i < this.rules.size(); i++) {
+            Rule rule = this.rules.get(i);
+            groupIdMatchers[i] = GlobMatcher.compile(rule.getGroupId());
+            artifactIdMatchers[i] = GlobMatcher.compile(rule.getArtifactId());
+
+            if (!artifactIdMatchers[i].isMatchAll()) {
+                artifactIdIndex.add(rule.getArtifactId(), i);
+            } else if (!groupIdMatchers[i].isMatchAll()) {
+                groupIdIndex.add(rule.getGroupId(), i);
+            } else {
+                alwaysCandidates.set(i);
+            }
+        }
+        logger.debug("규칙 인덱스 생성: {} 개의 규칙 (fallback {} 개, 전체 매칭 {} 개)", this.rules.size(),
+                artifactIdIndex.fallback.cardinality() + groupIdIndex.fallback.cardinality(), alwaysCandidates.cardinality());
+    }
+
+    /**
+     * 인덱스에 포함된 규칙의 개수를 반환합니다.
+     *
+     * @return 규칙 개수
+     */
+    public int size() {
+        return rules.size();
+    }
+
+    /**
+     * groupId, artifactId와 매칭되는 규칙을 찾습니다.
+     * PatternMatcher.matches로 모든 규칙을 검사한 결과와 같은 규칙을 같은 순서로 반환합니다.
+     *
+     * @param groupId 프로젝트 groupId
+     * @param artifactId 프로젝트 artifactId
+     * @return 매칭된 규칙 목록 (규칙 파일에 정의된 순서)
+     */
+    public List<Rule> match(String groupId, String artifactId) {
+        BitSet candidates = (BitSet) alwaysCandidates.clone();
+        artifactIdIndex.collect(artifactId, candidates);
+        groupIdIndex.collect(groupId, candidates);
+
+        List<Rule> matched = new ArrayList<>();
+        for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+            if (groupIdMatchers[i].matches(groupId) && artifactIdMatchers[i].matches(artifactId)) {
+                matched.add(rules.get(i));
+            }
+        }
+        logger.debug("규칙 인덱스 조회: groupId={}, artifactId={}, 후보 {} 개, 매칭 {} 개",
+                groupId, artifactId, candidates.cardinality(), matched.size());
+        return matched;
+    }
+
+    /**
+     * 여러 프로젝트의 매칭 규칙을 한 번에 찾습니다.
+     * reactor의 모든 프로젝트 좌표를 전달하면 프로젝트마다 규칙 파일 전체를 다시 평가하지 않고
+     * 인덱스 조회만으로 각 프로젝트의 규칙 목록을 계산합니다. 같은 좌표는 한 번만 조회합니다.
+     *
+     * @param projects 프로젝트 좌표 목록
+     * @return 프로젝트 좌표 → 매칭된 규칙 목록 (입력 순서 유지)
+     */
+    public Map<ProjectCoordinate, List<Rule>> matchAll(Collection<ProjectCoordinate> projects) {
+        Map<ProjectCoordinate, List<Rule>> result = new LinkedHashMap<>();
+        for (ProjectCoordinate project : projects) {
+            if (!result.containsKey(project)) {
+                result.put(project, match(project.getGroupId(), project.getArtifactId()));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 같은 규칙 목록과 매칭된 프로젝트끼리 묶습니다.
+     * 같은 그룹의 프로젝트는 병합 결과도 같으므로 병합 작업을 공유할 수 있습니다.
+     *
+     * @param matches matchAll()의 결과
+     * @return 규칙 목록 → 해당 규칙 목록과 매칭된 프로젝트 목록 (처음 등장한 순서 유지)
+     */
+    public static Map<List<Rule>, List<ProjectCoordinate>> groupByRuleSet(Map<ProjectCoordinate, List<Rule>> matches) {
+        Map<List<Rule>, List<ProjectCoordinate>> groups = new LinkedHashMap<>();
+        for (Map.Entry<ProjectCoordinate, List<Rule>> entry : matches.entrySet()) {
+            groups.computeIfAbsent(entry.getValue(), key -> new ArrayList<>()).add(entry.getKey());
+        }
+        return groups;
+    }
+
+    /**
+     * 하나의 필드(groupId 또는 artifactId) 패턴에 대한 인덱스
+     */
+    private static final class FieldIndex {
+        private final Map<String, BitSet> literals = new HashMap<>();
+        private final TrieNode prefixes = new TrieNode();
+        private final TrieNode suffixes = new TrieNode();
+        private final BitSet fallback = new BitSet();
+
+        void add(String pattern, int ruleIndex) {
+            for (String singlePattern : pattern.split(",")) {
+                singlePattern = singlePattern.trim();
+                if (singlePattern.isEmpty()) {
+                    continue;
+                }
+
+                int firstWildcard = indexOfWildcard(singlePattern, 0);
+                if (firstWildcard < 0) {
+                    literals.computeIfAbsent(singlePattern, key -> new BitSet()).set(ruleIndex);
+                } else if (firstWildcard == singlePattern.length() - 1 && singlePattern.charAt(firstWildcard) == '*') {
+                    prefixes.add(singlePattern, 0, firstWildcard, false, ruleIndex);
+                } else if (firstWildcard == 0 && singlePattern.charAt(0) == '*'
+                        && indexOfWildcard(singlePattern, 1) < 0) {
+                    suffixes.add(singlePattern, 1, singlePattern.length(), true, ruleIndex);
+                } else {
+                    fallback.set(ruleIndex);
+                }
+            }
+        }
+
+        void collect(String value, BitSet candidates) {
+            candidates.or(fallback);
+            if (value == null) {
+                return;
+            }
+            BitSet literal = literals.get(value);
+            if (literal != null) {
+                candidates.or(literal);
+            }
+            prefixes.collect(value, false, candidates);
+            suffixes.collect(value, true, candidates);
+        }
+
+        private static int indexOfWildcard(String pattern, int fromIndex) {
+            for (int i = fromIndex; i < pattern.length(); i++) {
+                char c = pattern.charAt(i);
+                if (c == '*' || c == '?') {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * prefix/suffix trie 노드
+     * 노드까지의 문자열을 prefix(또는 suffix)로 갖는 패턴의 규칙 번호를 보관합니다.
+     */
+    private static final class TrieNode {
+        private final Map<Character, TrieNode> children = new HashMap<>();
+        private final BitSet rules = new BitSet();
+
+        void add(String text, int begin, int end, boolean reverse, int ruleIndex) {
+            TrieNode node = this;
+            int length = end - begin;
+            for (int i = 0; i < length; i++) {
+                char c = reverse ? text.charAt(end - 1 - i) : text.charAt(begin + i);
+                node = node.children.computeIfAbsent(c, key -> new TrieNode());
+            }
+            node.rules.set(ruleIndex);
+        }
+
+        void collect(String value, boolean reverse, BitSet candidates) {
+            TrieNode node = this;
+            int length = value.length();
+            for (int i = 0; ; i++) {
+                candidates.or(node.rules);
+                if (i == length) {
+                    return;
+                }
+                node = node.children.get(reverse ? value.charAt(length - 1 - i) : value.charAt(i));
+                if (node == null) {
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.yourcompany.plugins.rewriteprepare.service;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.yourcompany.plugins.rewriteprepare.model.ProjectCoordinate;
+import com.yourcompany.plugins.rewriteprepare.model.Rule;
+
+/**
+ * reactor 전체 프로젝트의 규칙 매칭 결과를 한 번에 계산해 두는 클래스
+ *
+ * 빌드 세션과 규칙 파일(경로와 내용 해시)마다 하나만 생성되며, 첫 번째 모듈의 prepare goal이
+ * reactor의 모든 프로젝트 좌표로 RuleIndex.matchAll()을 수행합니다.
+ * 이후 모듈은 계산된 결과를 조회만 하므로 모듈마다 규칙 파일 전체를 다시 평가하지 않습니다.
+ *
+ * 같은 규칙 목록과 매칭된 프로젝트 그룹도 함께 계산하여, 병합 결과를 공유할 수 있는 모듈을 알 수 있습니다.
+ */
+public class RuleMatchPlan {
+    private static final Logger logger = LoggerFactory.getLogger(RuleMatchPlan.class);
+
+    // 빌드 세션 키별, 규칙 파일별 계획 (세션이 끝나면 GC 대상이 되도록 WeakHashMap 사용)
+    private static final Map<Object, Map<String, RuleMatchPlan>> SESSION_PLANS = new WeakHashMap<>();
+
+    private final RuleIndex ruleIndex;
+    private final Map<ProjectCoordinate, List<Rule>> matches;
+    private final Map<List<Rule>, List<ProjectCoordinate>> ruleSetGroups;
+
+    /**
+     * 규칙 목록과 프로젝트 좌표 목록으로 매칭 계획을 생성합니다.
+     *
+     * @param rules 머지 규칙 목록 (규칙 파일에 정의된 순서)
+     * @param projects reactor 프로젝트 좌표 목록
+     */
+    public RuleMatchPlan(List<Rule> rules, Collection<ProjectCoordinate> projects) {
+        this.ruleIndex = new RuleIndex(rules);
+        this.matches = Collections.unmodifiableMap(ruleIndex.matchAll(projects));
+        this.ruleSetGroups = Collections.unmodifiableMap(RuleIndex.groupByRuleSet(matches));
+    }
+
+    /**
+     * 빌드 세션과 규칙 파일에 연결된 매칭 계획을 반환합니다.
+     * 같은 세션 키와 rulesKey에 대해서는 처음 생성된 계획을 반환하며, 세션 키가 null이면 공유되지 않는 새 계획을 반환합니다.
+     * 프로젝트 좌표 목록은 계획을 새로 생성할 때만 구합니다.
+     *
+     * @param session 빌드 세션 키 (모듈마다 복제되는 MavenSession이 아니라, 복제된 세션이 공유하는
+     *                MavenExecutionRequest 등 reactor 빌드 동안 같은 객체)
+     * @param rulesKey 규칙 파일 식별자 (경로와 내용 해시, 내용이 바뀌면 다른 계획이 생성됨)
+     * @param rules 계획이 처음 생성될 때 사용할 머지 규칙 목록
+     * @param projects 계획이 처음 생성될 때 호출하여 reactor 프로젝트 좌표 목록을 구하는 함수
+     * @return 세션에 연결된 RuleMatchPlan
+     */
+    public static RuleMatchPlan forSession(Object session, String rulesKey, List<Rule> rules,
+            Supplier<? extends Collection<ProjectCoordinate>> projects) {
+        if (session == null) {
+            return new RuleMatchPlan(rules, projects.get());
+        }
+        synchronized (SESSION_PLANS) {
+            Map<String, RuleMatchPlan> plans = SESSION_PLANS.computeIfAbsent(session, key -> new HashMap<>());
+            RuleMatchPlan plan = plans.get(rulesKey);
+            if (plan == null) {
+                plan = new RuleMatchPlan(rules, projects.get());
+                plans.put(rulesKey, plan);
+                logger.info("reactor 규칙 매칭 완료: {} 개의 프로젝트, {} 개의 규칙 조합",
+                        plan.matches.size(), plan.ruleSetGroups.size());
+            }
+            return plan;
+        }
+    }
+
+    /**
+     * 프로젝트와 매칭되는 규칙을 반환합니다.
+     * 계획에 없는 좌표(예: CLI로 groupId/artifactId를 지정한 경우)는 인덱스에서 바로 찾습니다.
+     *
+     * @param groupId 프로젝트 groupId
+     * @param artifactId 프로젝트 artifactId
+     * @return 매칭된 규칙 목록 (규칙 파일에 정의된 순서)
+     */
+    public List<Rule> getMatchedRules(String groupId, String artifactId) {
+        List<Rule> matched = matches.get(new ProjectCoordinate(groupId, artifactId));
+        if (matched == null) {
+            matched = ruleIndex.match(groupId, artifactId);
+        }
+        return matched;
+    }
+
+    /**
+     * 프로젝트와 같은 규칙 목록으로 매칭된 프로젝트 목록을 반환합니다 (자기 자신 포함).
+     *
+     * @param groupId 프로젝트 groupId
+     * @param artifactId 프로젝트 artifactId
+     * @return 같은 규칙 조합을 사용하는 프로젝트 목록 (계획에 없는 좌표면 빈 목록)
+     */
+    public List<ProjectCoordinate> getProjectsSharingRules(String groupId, String artifactId) {
+        List<Rule> matched = matches.get(new ProjectCoordinate(groupId, artifactId));
+        if (matched == null) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableList(ruleSetGroups.get(matched));
+    }
+
+    /**
+     * 프로젝트 좌표별 매칭 결과를 반환합니다.
+     *
+     * @return 프로젝트 좌표 → 매칭된 규칙 목록
+     */
+    public Map<ProjectCoordinate, List<Rule>> getMatches() {
+        return matches;
+    }
+
+    /**
+     * 같은 규칙 목록과 매칭된 프로젝트 그룹을 반환합니다.
+     *
+     * @return 규칙 목록 → 프로젝트 좌표 목록
+     */
+    public Map<List<Rule>, List<ProjectCoordinate>> getRuleSetGroups() {
+        return ruleSetGroups;
+    }
+}
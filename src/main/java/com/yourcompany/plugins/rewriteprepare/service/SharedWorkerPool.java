@@ -0,0 +1,97 @@
+package com.yourcompany.plugins.rewriteprepare.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 플러그인의 모든 병렬 작업이 공유하는 크기가 제한된 작업 스레드 풀
+ *
+ * 병렬 빌드(mvn -T)에서는 여러 모듈의 goal이 동시에 실행되므로, 호출마다 CPU 수만큼의 스레드 풀을 만들면
+ * 모듈 수 × CPU 수만큼 스레드가 생깁니다. 이 클래스는 프로세스 전체에서 CPU 수만큼의 스레드만 사용하고,
+ * 호출별 동시 실행 수는 parallelism으로 제한합니다.
+ *
+ * 호출한 스레드도 작업을 직접 가져가 실행하므로, 풀의 스레드가 모두 다른 모듈의 작업을 실행 중이어도
+ * 호출은 항상 진행됩니다. 풀의 스레드 안에서 다시 호출하면(예: 병렬로 파싱 중인 파일의 내부 병렬 파싱)
+ * 풀의 스레드가 서로를 기다리지 않도록 순서대로 실행합니다.
+ */
+public final class SharedWorkerPool {
+
+    private static final int POOL_SIZE = Runtime.getRuntime().availableProcessors();
+
+    private SharedWorkerPool() {
+    }
+
+    /**
+     * 풀은 처음 사용할 때 생성합니다.
+     */
+    private static final class Holder {
+        private static final AtomicInteger THREAD_NUMBER = new AtomicInteger();
+        private static final ExecutorService POOL = Executors.newFixedThreadPool(POOL_SIZE,
+                runnable -> new WorkerThread(runnable, "rewrite-prepare-worker-" + THREAD_NUMBER.incrementAndGet()));
+    }
+
+    private static final class WorkerThread extends Thread {
+        WorkerThread(Runnable runnable, String name) {
+            super(runnable, name);
+            setDaemon(true);
+        }
+    }
+
+    /**
+     * 작업들을 최대 parallelism개까지 동시에 실행하고, 모든 작업이 끝나면 작업 순서대로 결과를 반환합니다.
+     * 작업 중 발생한 예외는 해당 Future의 get()에서 ExecutionException으로 전달됩니다.
+     *
+     * 기다리는 중 인터럽트되면 아직 시작하지 않은 작업은 실행하지 않고, 인터럽트 상태를 유지한 채 반환합니다.
+     *
+     * @param tasks 실행할 작업 목록
+     * @param parallelism 동시에 실행할 최대 작업 수 (호출한 스레드 포함, 1 이하이면 순서대로 실행)
+     * @return 작업 순서대로의 Future 목록
+     */
+    public static <T> List<Future<T>> invokeAll(List<? extends Callable<T>> tasks, int parallelism) {
+        List<FutureTask<T>> futures = new ArrayList<>(tasks.size());
+        for (Callable<T> task : tasks) {
+            futures.add(new FutureTask<>(task));
+        }
+
+        int helpers = Math.min(Math.min(parallelism, POOL_SIZE + 1), futures.size()) - 1;
+        if (helpers <= 0 || Thread.currentThread() instanceof WorkerThread) {
+            for (FutureTask<T> future : futures) {
+                future.run();
+            }
+            return new ArrayList<>(futures);
+        }
+
+        AtomicInteger next = new AtomicInteger();
+        CountDownLatch finished = new CountDownLatch(futures.size());
+        Runnable worker = () -> {
+            int index;
+            while ((index = next.getAndIncrement()) < futures.size()) {
+                try {
+                    futures.get(index).run();
+                } finally {
+                    finished.countDown();
+                }
+            }
+        };
+        for (int i = 0; i < helpers; i++) {
+            Holder.POOL.execute(worker);
+        }
+        worker.run();
+
+        try {
+            finished.await();
+        } catch (InterruptedException e) {
+            // 시작하지 않은 작업은 더 이상 가져가지 않음 (끝나지 않은 작업의 Future.get()은 인터럽트 상태 때문에 바로 예외 발생)
+            next.set(futures.size());
+            Thread.currentThread().interrupt();
+        }
+        return new ArrayList<>(futures);
+    }
+}
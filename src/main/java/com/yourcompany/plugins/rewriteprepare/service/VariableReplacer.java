@@ -2,11 +2,9 @@ package com.yourcompany.plugins.rewriteprepare.service;
 
 import java.io.File;
 import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.OutputStreamWriter;
-import java.io.Writer;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -15,8 +13,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.function.IntPredicate;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -26,22 +23,23 @@ import org.slf4j.LoggerFactory;
  * 
  * recipe 파일에서 ${variable} 또는 $variable 형식의 변수를
  * var-map.properties 파일에서 찾아서 값을 치환합니다.
+ * 
+ * 파일 내용은 한 번만 훑으며, 변수 이름은 trie로 조회하므로 변수가 많아도 조회 시간은 이름 길이에 비례합니다.
+ * - 치환된 값 안의 $variable은 다시 치환하지 않습니다.
+ * - $variable은 단어 경계에서 끝나는 가장 긴 변수로 치환합니다.
+ *   예: app만 정의되어 있으면 $app.version은 (app의 값).version이 됩니다.
  */
 public class VariableReplacer {
     private static final Logger logger = LoggerFactory.getLogger(VariableReplacer.class);
 
-    // ${variable} 패턴: ${로 시작하고 }로 끝나는 단어 (점 포함 가능)
-    // 예: ${app.name}, ${database.url}
-    private static final Pattern BRACE_VARIABLE_PATTERN = Pattern.compile("\\$\\{([a-zA-Z_][a-zA-Z0-9_.]*)\\}");
-    
-    // $variable 패턴: $로 시작하고 단어 경계까지 (점 포함 가능)
-    // 예: $app.name, $database.url
-    private static final Pattern SIMPLE_VARIABLE_PATTERN = Pattern.compile("\\$([a-zA-Z_][a-zA-Z0-9_.]*)\\b");
-
     private Map<String, String> variableMap;
 
+    // 변수 이름 조회용 trie (loadVariableMap에서 생성)
+    private VariableTrie variables;
+
     public VariableReplacer() {
         this.variableMap = new HashMap<>();
+        this.variables = new VariableTrie(variableMap);
     }
 
     /**
@@ -70,6 +68,8 @@ public class VariableReplacer {
             }
         }
 
+        variables = new VariableTrie(variableMap);
+
         logger.debug("변수 맵 로드 완료: {} 개의 변수", variableMap.size());
         if (logger.isDebugEnabled() && !variableMap.isEmpty()) {
             logger.debug("로드된 변수 목록: {}", variableMap.keySet());
@@ -138,22 +138,14 @@ public class VariableReplacer {
 
         // 파일 내용 읽기
         String content = new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
-        String originalContent = content;
 
-        // ${variable} 패턴 치환
-        content = replaceBraceVariables(content);
-        
-        // $variable 패턴 치환 (${variable}로 치환되지 않은 것만)
-        content = replaceSimpleVariables(content);
+        // ${variable}, $variable 패턴을 한 번에 치환
+        StringBuilder result = new StringBuilder(content.length());
+        int replacedCount = replaceVariables(content, result);
 
         // 변경사항이 있으면 파일에 쓰기
-        if (!content.equals(originalContent)) {
-            try (Writer writer = new OutputStreamWriter(
-                    new FileOutputStream(file), StandardCharsets.UTF_8)) {
-                writer.write(content);
-            }
-            
-            int replacedCount = countReplacements(originalContent, content);
+        if (replacedCount > 0) {
+            AtomicFileWriter.writeIfChanged(file, ByteBuffer.wrap(result.toString().getBytes(StandardCharsets.UTF_8)));
             logger.debug("파일 변수 치환 완료: {} ({} 개의 변수 치환)", file.getName(), replacedCount);
             return replacedCount;
         }
@@ -163,103 +155,104 @@ public class VariableReplacer {
     }
 
     /**
-     * ${variable} 형식의 변수를 치환합니다.
-     * 
+     * 내용을 한 번 훑으면서 ${variable}과 $variable 형식의 변수를 치환합니다.
+     *
+     * '$' 위치로만 이동하며, 사이의 내용은 그대로 복사합니다. 치환된 값은 다시 검사하지 않습니다.
+     * - ${variable}: 이름이 정확히 같은 변수로 치환합니다.
+     * - $variable: 이어지는 이름 문자([a-zA-Z0-9_.]) 중 단어 경계에서 끝나는 가장 긴 변수로 치환합니다.
+     *
      * @param content 원본 내용
-     * @return 치환된 내용
+     * @param result 치환된 내용을 담을 버퍼
+     * @return 치환된 변수의 개수
      */
-    private String replaceBraceVariables(String content) {
-        Matcher matcher = BRACE_VARIABLE_PATTERN.matcher(content);
-        StringBuffer result = new StringBuffer();
-
-        while (matcher.find()) {
-            String variableName = matcher.group(1);
-            String replacement = variableMap.get(variableName);
-            
-            if (replacement != null) {
-                // $와 \를 이스케이프 처리
-                String escapedReplacement = Matcher.quoteReplacement(replacement);
-                matcher.appendReplacement(result, escapedReplacement);
-                logger.debug("변수 치환: ${} -> {}", variableName, replacement);
+    private int replaceVariables(String content, StringBuilder result) {
+        int length = content.length();
+        IntPredicate wordBoundary = position -> isWordBoundary(content, position);
+        int count = 0;
+        int copied = 0;
+        int dollar = content.indexOf('$');
+        while (dollar >= 0) {
+            int next = dollar + 1;
+            if (next < length && content.charAt(next) == '{') {
+                int nameStart = next + 1;
+                int nameEnd = scanName(content, nameStart);
+                if (nameEnd > nameStart && nameEnd < length && content.charAt(nameEnd) == '}') {
+                    String replacement = variables.get(content, nameStart, nameEnd);
+                    if (replacement != null) {
+                        result.append(content, copied, dollar).append(replacement);
+                        copied = nameEnd + 1;
+                        count++;
+                        logger.debug("변수 치환: ${} -> {}", content.substring(nameStart, nameEnd), replacement);
+                    } else {
+                        // 변수를 찾을 수 없으면 원본 유지
+                        logger.warn("변수를 찾을 수 없습니다: ${}", content.substring(nameStart, nameEnd));
+                    }
+                    next = nameEnd + 1;
+                }
             } else {
-                logger.warn("변수를 찾을 수 없습니다: ${}", variableName);
-                // 변수를 찾을 수 없으면 원본 유지
-                String originalMatch = matcher.group(0);
-                matcher.appendReplacement(result, Matcher.quoteReplacement(originalMatch));
+                int nameEnd = scanName(content, next);
+                if (nameEnd > next) {
+                    int end = variables.longestPrefix(content, next, nameEnd, wordBoundary);
+                    if (end >= 0) {
+                        String replacement = variables.get(content, next, end);
+                        result.append(content, copied, dollar).append(replacement);
+                        copied = end;
+                        count++;
+                        logger.debug("변수 치환: ${} -> {}", content.substring(next, end), replacement);
+                        next = end;
+                    } else {
+                        // 변수를 찾을 수 없으면 원본 유지 (단어 경계까지를 변수명으로 출력)
+                        for (int boundary = nameEnd; boundary > next; boundary--) {
+                            if (isWordBoundary(content, boundary)) {
+                                logger.warn("변수를 찾을 수 없습니다: ${}", content.substring(next, boundary));
+                                break;
+                            }
+                        }
+                        next = nameEnd;
+                    }
+                }
             }
+            dollar = content.indexOf('$', next);
         }
-        matcher.appendTail(result);
-
-        return result.toString();
+        result.append(content, copied, length);
+        return count;
     }
 
     /**
-     * $variable 형식의 변수를 치환합니다.
-     * 
-     * @param content 원본 내용
-     * @return 치환된 내용
+     * start부터 변수명([a-zA-Z_][a-zA-Z0-9_.]*)이 끝나는 위치를 반환합니다.
+     *
+     * @return 변수명의 끝 위치(exclusive), 변수명이 없으면 start
      */
-    private String replaceSimpleVariables(String content) {
-        Matcher matcher = SIMPLE_VARIABLE_PATTERN.matcher(content);
-        StringBuffer result = new StringBuffer();
-
-        while (matcher.find()) {
-            String variableName = matcher.group(1);
-            String replacement = variableMap.get(variableName);
-            
-            if (replacement != null) {
-                // $와 \를 이스케이프 처리
-                String escapedReplacement = Matcher.quoteReplacement(replacement);
-                matcher.appendReplacement(result, escapedReplacement);
-                logger.debug("변수 치환: ${} -> {}", variableName, replacement);
-            } else {
-                logger.warn("변수를 찾을 수 없습니다: ${}", variableName);
-                // 변수를 찾을 수 없으면 원본 유지
-                String originalMatch = matcher.group(0);
-                matcher.appendReplacement(result, Matcher.quoteReplacement(originalMatch));
-            }
+    private static int scanName(String content, int start) {
+        int length = content.length();
+        if (start >= length || !isNameStart(content.charAt(start))) {
+            return start;
         }
-        matcher.appendTail(result);
+        int end = start + 1;
+        while (end < length && isNamePart(content.charAt(end))) {
+            end++;
+        }
+        return end;
+    }
 
-        return result.toString();
+    private static boolean isNameStart(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '_';
+    }
+
+    private static boolean isNamePart(char c) {
+        return isNameStart(c) || (c >= '0' && c <= '9') || c == '.';
     }
 
     /**
-     * 치환된 변수의 개수를 계산합니다.
-     * 
-     * @param original 원본 내용
-     * @param replaced 치환된 내용
-     * @return 치환된 변수의 개수
+     * position이 정규식 \b와 같은 단어 경계인지 확인합니다 (position - 1은 항상 내용 안에 있음).
      */
-    private int countReplacements(String original, String replaced) {
-        if (original.equals(replaced)) {
-            return 0;
-        }
-
-        // 정확한 개수를 세기 위해 원본에서 치환 가능한 변수 개수 계산
-        int count = 0;
-        
-        // ${variable} 패턴 개수
-        Matcher braceMatcher = BRACE_VARIABLE_PATTERN.matcher(original);
-        while (braceMatcher.find()) {
-            String variableName = braceMatcher.group(1);
-            if (variableMap.containsKey(variableName)) {
-                count++;
-            }
-        }
-        
-        // $variable 패턴 개수 (${variable} 패턴과 겹치지 않는 것만)
-        // 원본에서 ${variable} 패턴을 임시로 마킹한 후 $variable 패턴 찾기
-        String marked = original.replaceAll("\\$\\{[^}]+\\}", "___BRACE_PATTERN___");
-        Matcher simpleMatcher = SIMPLE_VARIABLE_PATTERN.matcher(marked);
-        while (simpleMatcher.find()) {
-            String variableName = simpleMatcher.group(1);
-            if (variableMap.containsKey(variableName)) {
-                count++;
-            }
-        }
+    private static boolean isWordBoundary(String content, int position) {
+        boolean before = isWordChar(content.charAt(position - 1));
+        boolean after = position < content.length() && isWordChar(content.charAt(position));
+        return before != after;
+    }
 
-        return count;
+    private static boolean isWordChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '_';
     }
 }
-
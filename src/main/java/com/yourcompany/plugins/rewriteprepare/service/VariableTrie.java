@@ -0,0 +1,115 @@
+package com.yourcompany.plugins.rewriteprepare.service;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.IntPredicate;
+
+/**
+ * 변수 이름 조회용 trie 클래스
+ *
+ * 노드의 자식은 문자 순으로 정렬된 배열에 두고 이진 탐색으로 찾으므로, 조회 시간은 변수 개수와 관계없이
+ * 조회하는 이름의 길이에 비례합니다. 본문의 문자열을 잘라내지 않고 범위로 조회하므로 조회마다
+ * 문자열을 만들지 않습니다.
+ */
+public final class VariableTrie {
+
+    private final Node root = new Node();
+    private int size;
+
+    /**
+     * 변수 맵으로 trie를 생성합니다.
+     *
+     * @param variables 변수 이름 → 값
+     */
+    public VariableTrie(Map<String, String> variables) {
+        for (Map.Entry<String, String> entry : variables.entrySet()) {
+            put(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * 등록된 변수 개수를 반환합니다.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * text[start, end) 범위와 정확히 같은 이름의 값을 반환합니다.
+     *
+     * @return 값, 없으면 null
+     */
+    public String get(CharSequence text, int start, int end) {
+        Node node = root;
+        for (int i = start; i < end && node != null; i++) {
+            node = node.child(text.charAt(i));
+        }
+        return node != null ? node.value : null;
+    }
+
+    /**
+     * text[start, end) 범위의 접두사 중 등록된 가장 긴 이름을 찾습니다.
+     *
+     * @param accept 이름의 끝 위치(exclusive)를 받아 허용 여부를 반환 (예: 단어 경계 확인)
+     * @return 가장 긴 이름의 끝 위치(exclusive), 없으면 -1
+     */
+    public int longestPrefix(CharSequence text, int start, int end, IntPredicate accept) {
+        int longest = -1;
+        Node node = root;
+        for (int i = start; i < end; i++) {
+            node = node.child(text.charAt(i));
+            if (node == null) {
+                break;
+            }
+            if (node.value != null && accept.test(i + 1)) {
+                longest = i + 1;
+            }
+        }
+        return longest;
+    }
+
+    private void put(String name, String value) {
+        Node node = root;
+        for (int i = 0; i < name.length(); i++) {
+            node = node.addChild(name.charAt(i));
+        }
+        if (node.value == null) {
+            size++;
+        }
+        node.value = value;
+    }
+
+    private static final class Node {
+        private static final char[] NO_KEYS = new char[0];
+        private static final Node[] NO_CHILDREN = new Node[0];
+
+        private char[] keys = NO_KEYS;
+        private Node[] children = NO_CHILDREN;
+        private String value;
+
+        Node child(char c) {
+            int index = Arrays.binarySearch(keys, c);
+            return index >= 0 ? children[index] : null;
+        }
+
+        Node addChild(char c) {
+            int index = Arrays.binarySearch(keys, c);
+            if (index >= 0) {
+                return children[index];
+            }
+            int insertAt = -index - 1;
+            char[] newKeys = new char[keys.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, insertAt);
+            System.arraycopy(children, 0, newChildren, 0, insertAt);
+            System.arraycopy(keys, insertAt, newKeys, insertAt + 1, keys.length - insertAt);
+            System.arraycopy(children, insertAt, newChildren, insertAt + 1, children.length - insertAt);
+            Node child = new Node();
+            newKeys[insertAt] = c;
+            newChildren[insertAt] = child;
+            keys = newKeys;
+            children = newChildren;
+            return child;
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package com.yourcompany.plugins.rewriteprepare.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 여러 문서로 구성된 YAML 파일의 문서 경계('---')를 바이트 단위로 찾는 클래스
+ *
+ * YAML 명세상 0열에서 시작하고 공백, 탭 또는 줄바꿈이 뒤따르는 "---"는 항상 문서 시작 표시이므로
+ * (블록 스칼라나 여러 줄의 따옴표 문자열 안에서도 문서를 끝냄) YAML을 파싱하지 않고도 안전하게 경계를 찾을 수 있습니다.
+ * 찾은 경계를 기준으로 파일을 비슷한 크기의 구간(Chunk)으로 나누어 각 구간을 독립적으로 파싱하거나,
+ * 문서 하나의 원본 바이트를 그대로 잘라낼 수 있습니다.
+ *
+ * 줄 번호는 SnakeYAML과 같은 규칙으로 셉니다 (\n, \r\n, 단독 \r, U+0085, U+2028, U+2029가 줄바꿈).
+ *
+ * 다음 경우에는 분할하지 않습니다 (null 반환):
+ * - 지시자("%YAML", "%TAG")가 있는 경우: 지시자는 다음 문서에 속하므로 구간을 나누면 의미가 달라집니다.
+ * - UTF-16/UTF-32로 인코딩된 경우
+ */
+public final class YamlDocumentScanner {
+
+    private YamlDocumentScanner() {
+    }
+
+    /**
+     * 파일 내용에서 문서 시작 위치를 찾습니다.
+     *
+     * @param content 파일 내용
+     * @return 문서 경계 정보, 지시자가 있거나 UTF-8이 아니면 null
+     */
+    public static DocumentBoundaries scan(byte[] content) {
+        if (isWideEncoding(content)) {
+            return null;
+        }
+
+        int length = content.length;
+        int contentStart = hasUtf8Bom(content) ? 3 : 0;
+        int[] offsets = new int[16];
+        int[] lines = new int[16];
+        int count = 0;
+        boolean documentEndMarker = false;
+
+        int line = 0;
+        int i = contentStart;
+        while (i < length) {
+            byte first = content[i];
+            if (first == '%') {
+                return null;
+            }
+            if (first == '-' && isMarker(content, i, (byte) '-')) {
+                if (count == offsets.length) {
+                    offsets = Arrays.copyOf(offsets, count * 2);
+                    lines = Arrays.copyOf(lines, count * 2);
+                }
+                offsets[count] = i;
+                lines[count] = line;
+                count++;
+            } else if (first == '.' && isMarker(content, i, (byte) '.')) {
+                documentEndMarker = true;
+            }
+            // 다음 줄의 시작으로 이동
+            int lineBreak = 0;
+            while (i < length && (lineBreak = lineBreakLength(content, i)) == 0) {
+                i++;
+            }
+            i += lineBreak;
+            line++;
+        }
+        return new DocumentBoundaries(Arrays.copyOf(offsets, count), Arrays.copyOf(lines, count),
+                contentStart, length, documentEndMarker);
+    }
+
+    /**
+     * 파일 내용을 문서 경계에서 최대 maxChunks 개의 구간으로 나눕니다.
+     *
+     * @param content 파일 내용
+     * @param maxChunks 최대 구간 수
+     * @return 파일 순서대로 정렬된 구간 목록, 분할할 수 없으면 null
+     */
+    public static List<Chunk> split(byte[] content, int maxChunks) {
+        DocumentBoundaries boundaries = scan(content);
+        return boundaries != null ? boundaries.split(maxChunks) : null;
+    }
+
+    /**
+     * lineStart 위치에 "---" 또는 "..." 표시가 있고 뒤에 공백, 탭, 줄바꿈 또는 파일 끝이 오는지 확인합니다.
+     */
+    private static boolean isMarker(byte[] content, int lineStart, byte marker) {
+        if (lineStart + 3 > content.length
+                || content[lineStart + 1] != marker || content[lineStart + 2] != marker) {
+            return false;
+        }
+        if (lineStart + 3 == content.length) {
+            return true;
+        }
+        byte next = content[lineStart + 3];
+        return next == ' ' || next == '\t' || lineBreakLength(content, lineStart + 3) > 0;
+    }
+
+    /**
+     * position 위치의 줄바꿈 길이(bytes)를 반환합니다. 줄바꿈이 아니면 0을 반환합니다.
+     */
+    private static int lineBreakLength(byte[] content, int position) {
+        byte b = content[position];
+        if (b == '\n') {
+            return 1;
+        }
+        if (b == '\r') {
+            return position + 1 < content.length && content[position + 1] == '\n' ? 2 : 1;
+        }
+        if (b == (byte) 0xc2 && position + 1 < content.length && content[position + 1] == (byte) 0x85) {
+            // U+0085 (NEL)
+            return 2;
+        }
+        if (b == (byte) 0xe2 && position + 2 < content.length && content[position + 1] == (byte) 0x80
+                && (content[position + 2] == (byte) 0xa8 || content[position + 2] == (byte) 0xa9)) {
+            // U+2028, U+2029
+            return 3;
+        }
+        return 0;
+    }
+
+    private static boolean hasUtf8Bom(byte[] content) {
+        return content.length >= 3 && content[0] == (byte) 0xef && content[1] == (byte) 0xbb && content[2] == (byte) 0xbf;
+    }
+
+    private static boolean isWideEncoding(byte[] content) {
+        if (content.length >= 2) {
+            int b0 = content[0] & 0xff;
+            int b1 = content[1] & 0xff;
+            if ((b0 == 0xfe && b1 == 0xff) || (b0 == 0xff && b1 == 0xfe)) {
+                return true;
+            }
+        }
+        for (int i = 0; i < Math.min(4, content.length); i++) {
+            if (content[i] == 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 파일 내 문서 시작 표시('---')의 위치와 줄 번호(0부터 시작)
+     */
+    public static final class DocumentBoundaries {
+        private final int[] offsets;
+        private final int[] lines;
+        private final int contentStart;
+        private final int length;
+        private final boolean documentEndMarker;
+
+        DocumentBoundaries(int[] offsets, int[] lines, int contentStart, int length, boolean documentEndMarker) {
+            this.offsets = offsets;
+            this.lines = lines;
+            this.contentStart = contentStart;
+            this.length = length;
+            this.documentEndMarker = documentEndMarker;
+        }
+
+        /**
+         * 문서 시작 표시의 개수를 반환합니다.
+         */
+        public int size() {
+            return offsets.length;
+        }
+
+        /**
+         * 문서 종료 표시('...')가 있는지 반환합니다.
+         * 종료 표시 뒤에는 '---' 없이 새 문서가 시작될 수 있으므로 문서와 '---'가 일대일로 대응하지 않을 수 있습니다.
+         */
+        public boolean hasDocumentEndMarker() {
+            return documentEndMarker;
+        }
+
+        /**
+         * 지정한 줄(0부터 시작)이 속한 문서의 번호를 반환합니다.
+         *
+         * @param line 문서 내용이 시작되는 줄 번호
+         * @return 그 줄 이전의 마지막 '---' 번호, '---' 이전의 암시적 문서이면 -1
+         */
+        public int documentIndexOfLine(int line) {
+            int index = Arrays.binarySearch(lines, line);
+            if (index < 0) {
+                return -index - 2;
+            }
+            // 같은 줄의 '---'는 하나뿐이므로 그대로 사용
+            return index;
+        }
+
+        /**
+         * 문서의 시작 위치를 반환합니다 (암시적 문서이면 BOM 이후 파일 처음).
+         */
+        public int documentStart(int index) {
+            return index < 0 ? contentStart : offsets[index];
+        }
+
+        /**
+         * 문서의 끝 위치(다음 '---' 또는 파일 끝)를 반환합니다.
+         */
+        public int documentEnd(int index) {
+            return index + 1 < offsets.length ? offsets[index + 1] : length;
+        }
+
+        /**
+         * 파일을 문서 경계에서 최대 maxChunks 개의 비슷한 크기의 구간으로 나눕니다.
+         * 첫 번째 구간은 파일 처음부터 시작하며, 경계가 2개 미만이면 구간 하나를 반환합니다.
+         */
+        List<Chunk> split(int maxChunks) {
+            List<Chunk> chunks = new ArrayList<>();
+            if (offsets.length < 2 || maxChunks < 2) {
+                chunks.add(new Chunk(0, length, 0));
+                return chunks;
+            }
+
+            // 바이트 크기가 비슷하도록 경계를 선택
+            long targetSize = Math.max(1, length / maxChunks);
+            int chunkStart = 0;
+            int chunkStartLine = 0;
+            for (int i = 0; i < offsets.length; i++) {
+                if (offsets[i] - chunkStart >= targetSize && chunks.size() < maxChunks - 1) {
+                    chunks.add(new Chunk(chunkStart, offsets[i], chunkStartLine));
+                    chunkStart = offsets[i];
+                    chunkStartLine = lines[i];
+                }
+            }
+            chunks.add(new Chunk(chunkStart, length, chunkStartLine));
+            return chunks;
+        }
+    }
+
+    /**
+     * 파일 내의 구간 [start, end)와 구간이 시작되는 줄 번호(0부터 시작)
+     */
+    public static final class Chunk {
+        private final int start;
+        private final int end;
+        private final int startLine;
+
+        Chunk(int start, int end, int startLine) {
+            this.start = start;
+            this.end = end;
+            this.startLine = startLine;
+        }
+
+        public int getStart() {
+            return start;
+        }
+
+        public int getEnd() {
+            return end;
+        }
+
+        public int getStartLine() {
+            return startLine;
+        }
+    }
+}
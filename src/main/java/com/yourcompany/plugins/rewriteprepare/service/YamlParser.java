@@ -1,18 +1,27 @@
 package com.yourcompany.plugins.rewriteprepare.service;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SequenceWriter;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import com.fasterxml.jackson.dataformat.yaml.YAMLGenerator;
-import com.fasterxml.jackson.dataformat.yaml.YAMLParser;
 import com.yourcompany.plugins.rewriteprepare.model.MergeRecipeDefinition;
 import com.yourcompany.plugins.rewriteprepare.model.MergeRules;
 import com.yourcompany.plugins.rewriteprepare.model.RecipeDefinition;
@@ -20,12 +29,41 @@ import com.yourcompany.plugins.rewriteprepare.model.RecipeDefinition;
 /**
  * YAML 파일을 파싱하는 서비스 클래스
  * merge-rules.yml과 recipe YAML 파일들을 파싱합니다.
+ *
+ * parallelism이 2 이상이면 크기가 큰 recipe 파일은 문서 경계('---')에서 여러 구간으로 나누어
+ * 공유 스레드 풀(SharedWorkerPool)에서 동시에 파싱한 뒤 파일 순서대로 합칩니다 (YamlDocumentScanner 참고).
  */
 public class YamlParser {
     private static final Logger logger = LoggerFactory.getLogger(YamlParser.class);
+
+    /**
+     * 파일 내부 병렬 파싱을 적용할 최소 파일 크기 (bytes)
+     */
+    static final int DEFAULT_PARALLEL_THRESHOLD = 512 * 1024;
+
+    private static final byte[] DOCUMENT_START = "---\n".getBytes(StandardCharsets.UTF_8);
+
     private final ObjectMapper yamlMapper;
+    private final RecipeDocumentBinder documentBinder;
+    private final int parallelism;
+    private final int parallelThreshold;
 
     public YamlParser() {
+        this(1);
+    }
+
+    /**
+     * 파일 내부 병렬 파싱을 사용하는 YamlParser를 생성합니다.
+     *
+     * @param parallelism 하나의 파일을 동시에 파싱할 최대 스레드 수 (1 이하이면 순차 파싱)
+     */
+    public YamlParser(int parallelism) {
+        this(parallelism, DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    YamlParser(int parallelism, int parallelThreshold) {
+        this.parallelism = Math.max(1, parallelism);
+        this.parallelThreshold = parallelThreshold;
         // YAMLFactory 설정: 문자열을 따옴표로 감싸지 않도록 설정
         // MINIMIZE_QUOTES: 가능한 경우 따옴표를 최소화
         YAMLFactory yamlFactory = new YAMLFactory();
@@ -33,6 +71,7 @@ public class YamlParser {
         this.yamlMapper = new ObjectMapper(yamlFactory);
         // @JsonProperty(required = true) 필드가 없을 때 예외 발생하도록 설정
         this.yamlMapper.configure(com.fasterxml.jackson.databind.DeserializationFeature.FAIL_ON_MISSING_CREATOR_PROPERTIES, true);
+        this.documentBinder = new RecipeDocumentBinder(yamlMapper);
     }
 
     /**
@@ -63,59 +102,18 @@ public class YamlParser {
      * @throws IOException 파일 읽기 오류
      */
     public List<RecipeDefinition> parseRecipeFile(File recipeFile) throws IOException {
-        logger.debug("Recipe 파일 파싱 시작: {}", recipeFile.getAbsolutePath());
-        List<RecipeDefinition> recipes = new ArrayList<>();
-        List<MergeRecipeDefinition> mergeDefinitions = new ArrayList<>();
-
-        YAMLFactory yamlFactory = new YAMLFactory();
-        
-        try (YAMLParser parser = yamlFactory.createParser(recipeFile)) {
-            // YAML 파일의 각 문서를 순회
-            while (parser.nextToken() != null) {
-                try {
-                    // 먼저 타입을 확인하기 위해 Map으로 파싱
-                    @SuppressWarnings("unchecked")
-                    java.util.Map<String, Object> rawDoc = yamlMapper.readValue(parser, java.util.Map.class);
-                    
-                    if (rawDoc != null) {
-                        String type = (String) rawDoc.get("type");
-                        
-                        // org.yourcompany.openrewrite/v1/merge 타입인지 확인
-                        if ("org.yourcompany.openrewrite/v1/merge".equals(type)) {
-                            // MergeRecipeDefinition으로 파싱
-                            MergeRecipeDefinition mergeDef = yamlMapper.convertValue(rawDoc, MergeRecipeDefinition.class);
-                            if (mergeDef != null) {
-                                mergeDefinitions.add(mergeDef);
-                                logger.debug("MergeRecipeDefinition 파싱 완료: {}", mergeDef.getName());
-                            }
-                        } else {
-                            // RecipeDefinition으로 파싱
-                            RecipeDefinition recipe = yamlMapper.convertValue(rawDoc, RecipeDefinition.class);
-                            if (recipe != null && recipe.getName() != null) {
-                                recipes.add(recipe);
-                                logger.debug("Recipe 파싱 완료: {}", recipe.getName());
-                            }
-                        }
-                    }
-                } catch (Exception e) {
-                    logger.warn("Recipe 파싱 중 오류 발생, 다음 문서로 진행: {}", e.getMessage());
-                    // 오류가 발생해도 다음 문서로 계속 진행
-                }
-            }
-        }
-
-        logger.debug("Recipe 파일 파싱 완료: {} 개의 recipe, {} 개의 merge definition 발견", 
-                     recipes.size(), mergeDefinitions.size());
-        
         // MergeRecipeDefinition은 별도로 관리되므로 반환하지 않음
         // (나중에 RecipeMerger나 RewritePrepareMojo에서 처리)
-        return recipes;
+        return parseRecipeFileWithMerge(recipeFile).getRecipes();
     }
     
     /**
      * 여러 개의 recipe definition이 포함된 YAML 파일을 파싱하고,
      * MergeRecipeDefinition과 RecipeDefinition을 분리하여 반환합니다.
      *
+     * 각 문서는 중간 Map 없이 토큰 스트림에서 바로 모델 객체로 변환됩니다 (RecipeDocumentBinder 참고).
+     * 변환 중 오류가 발생한 문서는 경고를 남기고 건너뜁니다.
+     *
      * @param recipeFile recipe YAML 파일
      * @return 파싱 결과를 담은 RecipeParseResult 객체
      * @throws IOException 파일 읽기 오류
@@ -125,40 +123,21 @@ public class YamlParser {
         List<RecipeDefinition> recipes = new ArrayList<>();
         List<MergeRecipeDefinition> mergeDefinitions = new ArrayList<>();
 
-        YAMLFactory yamlFactory = new YAMLFactory();
-        
-        try (YAMLParser parser = yamlFactory.createParser(recipeFile)) {
-            // YAML 파일의 각 문서를 순회
-            while (parser.nextToken() != null) {
-                try {
-                    // 먼저 타입을 확인하기 위해 Map으로 파싱
-                    @SuppressWarnings("unchecked")
-                    java.util.Map<String, Object> rawDoc = yamlMapper.readValue(parser, java.util.Map.class);
-                    
-                    if (rawDoc != null) {
-                        String type = (String) rawDoc.get("type");
-                        
-                        // org.yourcompany.openrewrite/v1/merge 타입인지 확인
-                        if ("org.yourcompany.openrewrite/v1/merge".equals(type)) {
-                            // MergeRecipeDefinition으로 파싱
-                            MergeRecipeDefinition mergeDef = yamlMapper.convertValue(rawDoc, MergeRecipeDefinition.class);
-                            if (mergeDef != null) {
-                                mergeDefinitions.add(mergeDef);
-                                logger.debug("MergeRecipeDefinition 파싱 완료: {}", mergeDef.getName());
-                            }
-                        } else {
-                            // RecipeDefinition으로 파싱
-                            RecipeDefinition recipe = yamlMapper.convertValue(rawDoc, RecipeDefinition.class);
-                            if (recipe != null && recipe.getName() != null) {
-                                recipes.add(recipe);
-                                logger.debug("Recipe 파싱 완료: {}", recipe.getName());
-                            }
-                        }
-                    }
-                } catch (Exception e) {
-                    logger.warn("Recipe 파싱 중 오류 발생, 다음 문서로 진행: {}", e.getMessage());
-                    // 오류가 발생해도 다음 문서로 계속 진행
-                }
+        byte[] content = Files.readAllBytes(recipeFile.toPath());
+        YamlDocumentScanner.DocumentBoundaries boundaries = YamlDocumentScanner.scan(content);
+        // 문서와 '---'가 일대일로 대응하는 경우에만 원본 문서를 보관
+        YamlDocumentScanner.DocumentBoundaries sourceBoundaries =
+                boundaries != null && !boundaries.hasDocumentEndMarker() ? boundaries : null;
+
+        List<YamlDocumentScanner.Chunk> chunks = null;
+        if (parallelism > 1 && content.length >= parallelThreshold && boundaries != null) {
+            chunks = boundaries.split(parallelism * 4);
+        }
+        if (chunks != null && chunks.size() > 1) {
+            parseInParallel(recipeFile, content, sourceBoundaries, chunks, recipes, mergeDefinitions);
+        } else {
+            try (JsonParser parser = yamlMapper.getFactory().createParser(content)) {
+                parseDocuments(parser, content, sourceBoundaries, recipes, mergeDefinitions, null);
             }
         }
 
@@ -168,6 +147,128 @@ public class YamlParser {
         return new RecipeParseResult(recipes, mergeDefinitions);
     }
     
+    /**
+     * parser의 모든 YAML 문서를 읽습니다.
+     * 변환 중 오류가 발생한 문서는 경고를 남기고 건너뜁니다.
+     *
+     * @param content 파일 내용 (원본 문서를 잘라낼 때 사용)
+     * @param boundaries 파일의 문서 경계 (null이면 원본 문서를 보관하지 않음)
+     * @param warnings 경고 메시지를 모을 리스트 (null이면 바로 로그로 출력)
+     */
+    private void parseDocuments(JsonParser parser, byte[] content, YamlDocumentScanner.DocumentBoundaries boundaries,
+            List<RecipeDefinition> recipes, List<MergeRecipeDefinition> mergeDefinitions, List<String> warnings)
+            throws IOException {
+        // YAML 파일의 각 문서를 순회
+        while (parser.nextToken() != null) {
+            int recipeCount = recipes.size();
+            // 문서의 첫 토큰이 있는 줄 (parser 줄 번호는 1부터 시작)
+            int line = parser.getTokenLocation().getLineNr() - 1;
+            try {
+                documentBinder.readDocument(parser, recipes, mergeDefinitions);
+            } catch (Exception e) {
+                if (warnings != null) {
+                    warnings.add(e.getMessage());
+                } else {
+                    logger.warn("Recipe 파싱 중 오류 발생, 다음 문서로 진행: {}", e.getMessage());
+                }
+                // 오류가 발생해도 다음 문서로 계속 진행
+                documentBinder.skipToDocumentEnd(parser);
+                continue;
+            }
+
+            if (boundaries != null && recipes.size() > recipeCount) {
+                RecipeDefinition recipe = recipes.get(recipeCount);
+                if (!recipe.isModified()) {
+                    recipe.setSource(documentSource(content, boundaries, line));
+                }
+            }
+        }
+    }
+
+    /**
+     * 지정한 줄이 속한 문서의 원본 바이트를 잘라냅니다.
+     * 결과는 항상 '---'로 시작하고 줄바꿈으로 끝나므로 다른 문서와 그대로 이어 쓸 수 있습니다.
+     */
+    private static byte[] documentSource(byte[] content, YamlDocumentScanner.DocumentBoundaries boundaries, int line) {
+        int index = boundaries.documentIndexOfLine(line);
+        int start = boundaries.documentStart(index);
+        int end = boundaries.documentEnd(index);
+
+        byte[] prefix = index < 0 ? DOCUMENT_START : new byte[0];
+        boolean needsLineBreak = end == start || (content[end - 1] != '\n' && content[end - 1] != '\r');
+        byte[] source = new byte[prefix.length + (end - start) + (needsLineBreak ? 1 : 0)];
+        System.arraycopy(prefix, 0, source, 0, prefix.length);
+        System.arraycopy(content, start, source, prefix.length, end - start);
+        if (needsLineBreak) {
+            source[source.length - 1] = '\n';
+        }
+        return source;
+    }
+
+    /**
+     * 파일을 문서 경계에서 여러 구간으로 나누어 동시에 파싱하고, 결과와 경고를 파일 순서대로 합칩니다.
+     * 구간 앞에 그 구간의 시작 줄 수만큼 빈 줄을 붙여 파싱하므로 오류 메시지의 줄 번호는 파일 기준과 같습니다.
+     */
+    private void parseInParallel(File recipeFile, byte[] content, YamlDocumentScanner.DocumentBoundaries boundaries,
+            List<YamlDocumentScanner.Chunk> chunks, List<RecipeDefinition> recipes,
+            List<MergeRecipeDefinition> mergeDefinitions) throws IOException {
+        int threads = Math.min(parallelism, chunks.size());
+        logger.debug("파일 내부 병렬 파싱: {} ({} 개의 구간, 최대 {} 개의 스레드)", recipeFile.getName(), chunks.size(), threads);
+        List<Callable<ChunkResult>> tasks = new ArrayList<>();
+        for (YamlDocumentScanner.Chunk chunk : chunks) {
+            tasks.add(() -> parseChunk(content, boundaries, chunk));
+        }
+        for (Future<ChunkResult> future : SharedWorkerPool.invokeAll(tasks, threads)) {
+            ChunkResult result = awaitChunk(future);
+            recipes.addAll(result.recipes);
+            mergeDefinitions.addAll(result.mergeDefinitions);
+            for (String warning : result.warnings) {
+                logger.warn("Recipe 파싱 중 오류 발생, 다음 문서로 진행: {}", warning);
+            }
+        }
+    }
+
+    private ChunkResult parseChunk(byte[] content, YamlDocumentScanner.DocumentBoundaries boundaries,
+            YamlDocumentScanner.Chunk chunk) throws IOException {
+        byte[] padding = new byte[chunk.getStartLine()];
+        Arrays.fill(padding, (byte) '\n');
+        InputStream input = new SequenceInputStream(new ByteArrayInputStream(padding),
+                new ByteArrayInputStream(content, chunk.getStart(), chunk.getEnd() - chunk.getStart()));
+
+        ChunkResult result = new ChunkResult();
+        try (JsonParser parser = yamlMapper.getFactory().createParser(input)) {
+            parseDocuments(parser, content, boundaries, result.recipes, result.mergeDefinitions, result.warnings);
+        }
+        return result;
+    }
+
+    private static ChunkResult awaitChunk(Future<ChunkResult> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("파일 파싱 대기 중 인터럽트 발생");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException("파싱 실패", cause);
+        }
+    }
+
+    /**
+     * 구간 하나의 파싱 결과
+     */
+    private static final class ChunkResult {
+        private final List<RecipeDefinition> recipes = new ArrayList<>();
+        private final List<MergeRecipeDefinition> mergeDefinitions = new ArrayList<>();
+        private final List<String> warnings = new ArrayList<>();
+    }
+
     /**
      * Recipe 파일 파싱 결과를 담는 클래스
      */
@@ -187,38 +288,134 @@ public class YamlParser {
         public List<MergeRecipeDefinition> getMergeDefinitions() {
             return mergeDefinitions;
         }
+
+        /**
+         * 파싱 결과의 복사본을 생성합니다.
+         * RecipeDefinition은 RecipeListUpdater가 recipeList를 직접 수정하므로 각각 복사하고,
+         * MergeRecipeDefinition은 읽기 전용으로만 사용되므로 객체를 공유합니다.
+         *
+         * @return 복사된 RecipeParseResult
+         */
+        public RecipeParseResult copy() {
+            List<RecipeDefinition> copiedRecipes = new ArrayList<>(recipes.size());
+            for (RecipeDefinition recipe : recipes) {
+                copiedRecipes.add(recipe.copy());
+            }
+            return new RecipeParseResult(copiedRecipes, mergeDefinitions);
+        }
     }
 
     /**
      * RecipeDefinition 리스트를 YAML 파일로 저장합니다.
-     * Jackson의 SequenceWriter를 사용하여 각 recipe를 '---' 구분자로 자동 분리하여 작성합니다.
+     * 각 recipe는 '---' 구분자로 시작하는 문서로 작성합니다.
+     * 파싱 이후 변경되지 않은 recipe는 원본 문서(주석, 따옴표 형식 포함)를 문서 끝의 빈 줄만 빼고 그대로 복사하고,
+     * 변경되었거나 원본이 없는 recipe는 RecipeYamlEmitter로 작성합니다
+     * (emitter가 지원하지 않는 값이 있으면 Jackson으로 serialize).
+     * 모든 문서를 하나의 버퍼에 작성한 뒤, 기존 파일과 내용이 다를 때만 임시 파일과 rename으로 원자적으로 교체합니다.
+     * 내용이 같으면 파일을 건드리지 않으므로 수정 시각이 유지됩니다.
      *
      * @param recipes 저장할 RecipeDefinition 리스트
      * @param outputFile 출력 파일
+     * @return 파일을 썼으면 true, 기존 파일과 내용이 같아서 쓰지 않았으면 false
      * @throws IOException 파일 쓰기 오류
      */
-    public void writeRecipes(List<RecipeDefinition> recipes, File outputFile) throws IOException {
+    public boolean writeRecipes(List<RecipeDefinition> recipes, File outputFile) throws IOException {
         logger.debug("Recipe 파일 쓰기 시작: {} 개의 recipe", recipes.size());
         
-        // 출력 디렉토리 생성
-        if (outputFile.getParentFile() != null) {
-            outputFile.getParentFile().mkdirs();
+        RecipeYamlEmitter emitter = new RecipeYamlEmitter(estimateOutputSize(recipes));
+        int verbatimCount = 0;
+        int jacksonCount = 0;
+        for (RecipeDefinition recipe : recipes) {
+            if (recipe.getSource() != null && !recipe.isModified()) {
+                emitter.append(recipe.getSource(), verbatimLength(recipe.getSource()));
+                verbatimCount++;
+            } else if (!emitter.emit(recipe)) {
+                emitter.append(toYamlDocument(recipe));
+                jacksonCount++;
+            }
+            logger.debug("Recipe 작성 완료: {}", recipe.getName());
         }
+        logger.debug("원본 그대로 복사한 recipe: {} 개, Jackson으로 작성한 recipe: {} 개 (전체 {} 개)",
+                verbatimCount, jacksonCount, recipes.size());
 
-        // 파일이 존재하면 삭제
-        if (outputFile.exists()) {
-            outputFile.delete();
+        if (AtomicFileWriter.writeIfChanged(outputFile, emitter.toByteBuffer())) {
+            logger.info("Recipe 파일 쓰기 완료: {}", outputFile.getAbsolutePath());
+            return true;
         }
+        logger.info("Recipe 파일 변경 없음 (기존 파일 유지): {}", outputFile.getAbsolutePath());
+        return false;
+    }
 
-        // SequenceWriter를 사용하여 여러 문서를 자동으로 '---' 구분자와 함께 작성
-        try (SequenceWriter writer = yamlMapper.writer().writeValues(outputFile)) {
-            for (RecipeDefinition recipe : recipes) {
-                writer.write(recipe);
-                logger.debug("Recipe 작성 완료: {}", recipe.getName());
+    /**
+     * 원본 문서에서 출력할 길이를 반환합니다.
+     * 문서 사이의 빈 줄(공백만 있는 줄 포함)은 원본 파일의 문서 구분용이므로, 문서 끝의 빈 줄은 출력하지 않습니다.
+     * 단, 끝의 줄바꿈을 유지하는 block scalar(|+, >+)가 있으면 빈 줄도 값의 일부일 수 있으므로 그대로 출력합니다.
+     *
+     * @param document 줄바꿈으로 끝나는 원본 문서
+     * @return 마지막 빈 줄이 아닌 줄의 줄바꿈까지의 길이
+     */
+    static int verbatimLength(byte[] document) {
+        if (hasKeepChomping(document)) {
+            return document.length;
+        }
+        int end = document.length;
+        while (end > 0) {
+            // 마지막 줄의 줄바꿈을 제외한 끝 위치
+            int lineEnd = end - (end >= 2 && document[end - 2] == '\r' && document[end - 1] == '\n' ? 2 : 1);
+            int lineStart = lineEnd;
+            while (lineStart > 0 && (document[lineStart - 1] == ' ' || document[lineStart - 1] == '\t')) {
+                lineStart--;
+            }
+            if (lineStart == 0 || (document[lineStart - 1] != '\n' && document[lineStart - 1] != '\r')) {
+                break;
             }
+            // 공백만 있는 줄: 앞 줄의 줄바꿈까지만 남김
+            end = lineStart;
         }
+        return end;
+    }
 
-        logger.info("Recipe 파일 쓰기 완료: {}", outputFile.getAbsolutePath());
+    /**
+     * 문서에 끝의 줄바꿈을 유지하는 block scalar 표시(|+, >+, |2+ 등)가 있는지 확인합니다.
+     */
+    private static boolean hasKeepChomping(byte[] document) {
+        for (int i = 0; i < document.length; i++) {
+            if (document[i] == '|' || document[i] == '>') {
+                int j = i + 1;
+                while (j < document.length && document[j] >= '1' && document[j] <= '9') {
+                    j++;
+                }
+                if (j < document.length && document[j] == '+') {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Jackson으로 recipe 하나를 '---'로 시작하는 YAML 문서로 serialize합니다.
+     *
+     * @param recipe serialize할 recipe
+     * @return UTF-8 YAML 문서
+     */
+    byte[] toYamlDocument(RecipeDefinition recipe) throws IOException {
+        return yamlMapper.writeValueAsBytes(recipe);
+    }
+
+    /**
+     * 출력 버퍼의 초기 크기를 추정합니다 (원본 문서 크기 + 변경된 recipe당 recipeList 항목 수에 비례한 크기).
+     */
+    private static int estimateOutputSize(List<RecipeDefinition> recipes) {
+        long estimate = 0;
+        for (RecipeDefinition recipe : recipes) {
+            if (recipe.getSource() != null && !recipe.isModified()) {
+                estimate += recipe.getSource().length;
+            } else {
+                estimate += 256 + (recipe.getRecipeList() != null ? recipe.getRecipeList().size() * 64L : 0);
+            }
+        }
+        return (int) Math.min(estimate, Integer.MAX_VALUE - 8);
     }
 }
 
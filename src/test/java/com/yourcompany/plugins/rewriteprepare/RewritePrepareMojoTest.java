@@ -1,12 +1,33 @@
 package com.yourcompany.plugins.rewriteprepare;
 
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.model.Plugin;
+import org.apache.maven.model.PluginExecution;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.project.MavenProject;
+import org.codehaus.plexus.util.xml.Xpp3Dom;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import com.yourcompany.plugins.RewritePrepareMojo;
+import com.yourcompany.plugins.RewriteResolveMojo;
+import com.yourcompany.plugins.rewriteprepare.service.TestSessions;
+
 import java.io.File;
 import java.io.FileWriter;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -14,10 +35,51 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
  * 전체 플러그인 실행 흐름을 테스트합니다.
  * 
  * 참고: 실제 Mojo 실행 테스트는 Maven 플러그인 테스트 하네스를 사용해야 하지만,
- * 여기서는 기본적인 파일 구조 검증만 수행합니다.
+ * 여기서는 Mojo의 파라미터 필드를 직접 설정하여 실행합니다.
  */
 class RewritePrepareMojoTest {
 
+    private static final String PREPARE_STAMP_FILE = "prepare.stamp";
+
+    private static final String MERGE_RULES = "rules:\n" +
+            "  - artifactId: my-service\n" +
+            "    groupId: com.example\n" +
+            "    mergeFiles:\n" +
+            "      - base.yml\n";
+
+    private static final String BASE_RECIPE = "---\n" +
+            "type: specs.openrewrite.org/v1beta/recipe\n" +
+            "name: com.example.Main\n" +
+            "displayName: Main recipe for ${app.name}\n" +
+            "recipeList:\n" +
+            "  - org.openrewrite.java.format.AutoFormat\n";
+
+    // com.example.Main → com.example.Helper, com.example.Unused는 어디에서도 참조하지 않음
+    private static final String PRUNE_RECIPES = "---\n" +
+            "type: specs.openrewrite.org/v1beta/recipe\n" +
+            "name: com.example.Main\n" +
+            "recipeList:\n" +
+            "  - com.example.Helper\n" +
+            "---\n" +
+            "type: specs.openrewrite.org/v1beta/recipe\n" +
+            "name: com.example.Helper\n" +
+            "recipeList:\n" +
+            "  - org.openrewrite.java.format.AutoFormat\n" +
+            "---\n" +
+            "type: specs.openrewrite.org/v1beta/recipe\n" +
+            "name: com.example.Unused\n" +
+            "recipeList:\n" +
+            "  - org.openrewrite.java.format.AutoFormat\n";
+
+    // com.example.Missing은 정의되지 않았고, com.external.Thing은 외부 recipe 패턴으로만 허용됨
+    private static final String GRAPH_RECIPES = "---\n" +
+            "type: specs.openrewrite.org/v1beta/recipe\n" +
+            "name: com.example.Main\n" +
+            "recipeList:\n" +
+            "  - org.openrewrite.java.format.AutoFormat\n" +
+            "  - com.external.Thing\n" +
+            "  - com.example.Missing\n";
+
     @Test
     void testMojoExecution(@TempDir Path tempDir) throws Exception {
         File projectDir = tempDir.toFile();
@@ -84,5 +146,331 @@ class RewritePrepareMojoTest {
         assertTrue(mergeRulesFile.exists());
         assertTrue(baseYml.exists());
     }
-}
 
+    @Test
+    void testSecondRunIsSkipped(@TempDir Path tempDir) throws Exception {
+        createProject(tempDir);
+        prepareMojo(tempDir).execute();
+        File stampFile = markStamp(tempDir);
+
+        prepareMojo(tempDir).execute();
+
+        // 건너뛰면 stamp 파일을 다시 작성하지 않음
+        assertEquals(1000L, stampFile.lastModified());
+        assertTrue(read(outputFile(tempDir)).contains("name: com.example.Main"));
+    }
+
+    @Test
+    void testRunsAgainWhenMergeFileChanges(@TempDir Path tempDir) throws Exception {
+        createProject(tempDir);
+        prepareMojo(tempDir).execute();
+        File stampFile = markStamp(tempDir);
+
+        write(tempDir.resolve("recipes/base.yml"), BASE_RECIPE.replace("com.example.Main", "com.example.Changed"));
+        prepareMojo(tempDir).execute();
+
+        assertNotEquals(1000L, stampFile.lastModified());
+        assertTrue(read(outputFile(tempDir)).contains("name: com.example.Changed"));
+    }
+
+    @Test
+    void testRunsAgainWhenParameterChanges(@TempDir Path tempDir) throws Exception {
+        createProject(tempDir);
+        prepareMojo(tempDir).execute();
+        File stampFile = markStamp(tempDir);
+
+        RewritePrepareMojo mojo = prepareMojo(tempDir);
+        setField(mojo, "orderingMode", "constraint");
+        mojo.execute();
+
+        assertNotEquals(1000L, stampFile.lastModified());
+    }
+
+    @Test
+    void testSkipsWhenResolveSubstitutedOutput(@TempDir Path tempDir) throws Exception {
+        createProject(tempDir);
+        prepareMojo(tempDir).execute();
+        resolveMojo(tempDir).execute();
+        assertTrue(read(outputFile(tempDir)).contains("Main recipe for MyApplication"));
+        File stampFile = markStamp(tempDir);
+
+        prepareMojo(tempDir).execute();
+
+        // resolve goal이 치환한 출력 파일은 prepare 결과로 인정
+        assertEquals(1000L, stampFile.lastModified());
+        assertTrue(read(outputFile(tempDir)).contains("Main recipe for MyApplication"));
+    }
+
+    @Test
+    void testRunsAgainWhenVarMapChangesAfterResolve(@TempDir Path tempDir) throws Exception {
+        createProject(tempDir);
+        prepareMojo(tempDir).execute();
+        resolveMojo(tempDir).execute();
+        File stampFile = markStamp(tempDir);
+
+        write(tempDir.resolve("var-map.properties"), "app.name=OtherApplication\n");
+        prepareMojo(tempDir).execute();
+
+        // 이미 치환된 파일은 다시 치환할 수 없으므로 placeholder가 있는 출력 파일을 다시 작성해야 함
+        assertNotEquals(1000L, stampFile.lastModified());
+        assertTrue(read(outputFile(tempDir)).contains("Main recipe for ${app.name}"));
+
+        resolveMojo(tempDir).execute();
+        assertTrue(read(outputFile(tempDir)).contains("Main recipe for OtherApplication"));
+    }
+
+    @Test
+    void testFailedRunLeavesNoStamp(@TempDir Path tempDir) throws Exception {
+        createProject(tempDir);
+        prepareMojo(tempDir).execute();
+        File stampFile = new File(tempDir.toFile(), "target/rewrite-prepare/" + PREPARE_STAMP_FILE);
+        assertTrue(stampFile.isFile());
+
+        write(tempDir.resolve("recipes/base.yml"), "---\nname: [unclosed\n");
+        assertThrows(MojoExecutionException.class, () -> prepareMojo(tempDir).execute());
+
+        assertFalse(stampFile.exists(), "실패한 실행 후에는 stamp 파일이 없어야 합니다.");
+    }
+
+    @Test
+    void testPruneRootsFromRecipeRoots(@TempDir Path tempDir) throws Exception {
+        RewritePrepareMojo mojo = pruneMojo(tempDir);
+        setField(mojo, "recipeRoots", Collections.singletonList("com.example.Main"));
+        // recipeRoots가 있으면 activeRecipes 속성은 사용하지 않음
+        projectOf(mojo).getProperties().setProperty("rewrite.activeRecipes", "com.example.Unused");
+        mojo.execute();
+
+        assertOutputRecipes(tempDir, "com.example.Main", "com.example.Helper");
+    }
+
+    @Test
+    void testPruneRootsSkipUnresolvedExpressions(@TempDir Path tempDir) throws Exception {
+        RewritePrepareMojo mojo = pruneMojo(tempDir);
+        // 해석되지 않은 ${...}만 있으면 recipeRoots가 없는 것으로 보고 프로젝트 속성을 사용
+        setField(mojo, "recipeRoots", Collections.singletonList("${rewrite.roots}"));
+        projectOf(mojo).getProperties().setProperty("rewrite.activeRecipes", "com.example.Unused, ${missing}");
+        mojo.execute();
+
+        assertOutputRecipes(tempDir, "com.example.Unused");
+    }
+
+    @Test
+    void testPruneRootsPreferUserProperty(@TempDir Path tempDir) throws Exception {
+        RewritePrepareMojo mojo = pruneMojo(tempDir);
+        MavenSession session = TestSessions.newSession();
+        session.getUserProperties().setProperty("rewrite.activeRecipes", "com.example.Main");
+        setField(mojo, "session", session);
+        projectOf(mojo).getProperties().setProperty("rewrite.activeRecipes", "com.example.Unused");
+        mojo.execute();
+
+        assertOutputRecipes(tempDir, "com.example.Main", "com.example.Helper");
+    }
+
+    @Test
+    void testPruneRootsFromRewritePluginConfiguration(@TempDir Path tempDir) throws Exception {
+        RewritePrepareMojo mojo = pruneMojo(tempDir);
+        Plugin rewritePlugin = rewritePlugin();
+        // <activeRecipes><recipe>...</recipe></activeRecipes> 형식
+        Xpp3Dom activeRecipes = new Xpp3Dom("activeRecipes");
+        Xpp3Dom recipe = new Xpp3Dom("recipe");
+        recipe.setValue("com.example.Main");
+        activeRecipes.addChild(recipe);
+        rewritePlugin.setConfiguration(configuration(activeRecipes));
+        projectOf(mojo).getBuild().addPlugin(rewritePlugin);
+        mojo.execute();
+
+        assertOutputRecipes(tempDir, "com.example.Main", "com.example.Helper");
+    }
+
+    @Test
+    void testPruneRootsFromRewritePluginExecution(@TempDir Path tempDir) throws Exception {
+        RewritePrepareMojo mojo = pruneMojo(tempDir);
+        Plugin rewritePlugin = rewritePlugin();
+        // <activeRecipes>a, b</activeRecipes> 형식 (execution configuration)
+        Xpp3Dom activeRecipes = new Xpp3Dom("activeRecipes");
+        activeRecipes.setValue("com.example.Unused, ${missing}");
+        PluginExecution execution = new PluginExecution();
+        execution.setId("dry-run");
+        execution.setConfiguration(configuration(activeRecipes));
+        rewritePlugin.addExecution(execution);
+        projectOf(mojo).getBuild().addPlugin(rewritePlugin);
+        mojo.execute();
+
+        assertOutputRecipes(tempDir, "com.example.Unused");
+    }
+
+    @Test
+    void testNoPruneRootsKeepsAllRecipes(@TempDir Path tempDir) throws Exception {
+        // 루트를 찾지 못하면 경고만 출력하고 모든 recipe를 출력
+        RewritePrepareMojo mojo = pruneMojo(tempDir);
+        mojo.execute();
+
+        assertOutputRecipes(tempDir, "com.example.Main", "com.example.Helper", "com.example.Unused");
+    }
+
+    @Test
+    void testRecipeGraphCheckFailThrows(@TempDir Path tempDir) throws Exception {
+        RewritePrepareMojo mojo = graphCheckMojo(tempDir, "fail", Arrays.asList("org.openrewrite.*", "com.external.*"));
+
+        MojoExecutionException error = assertThrows(MojoExecutionException.class, mojo::execute);
+
+        assertTrue(causeMessages(error).contains("정의되지 않은 recipe 1 개"), causeMessages(error));
+        assertFalse(outputFile(tempDir).exists(), "검사에 실패하면 출력 파일을 작성하지 않아야 합니다.");
+        assertFalse(new File(tempDir.toFile(), "target/rewrite-prepare/" + PREPARE_STAMP_FILE).exists());
+    }
+
+    @Test
+    void testRecipeGraphCheckWarnDoesNotThrow(@TempDir Path tempDir) throws Exception {
+        RewritePrepareMojo mojo = graphCheckMojo(tempDir, "warn", Collections.singletonList("org.openrewrite.*"));
+
+        mojo.execute();
+
+        assertOutputRecipes(tempDir, "com.example.Main");
+    }
+
+    @Test
+    void testRecipeGraphCheckUsesKnownExternalRecipes(@TempDir Path tempDir) throws Exception {
+        // com.external.*이 없으면 com.external.Thing도 정의되지 않은 recipe로 보고됨
+        MojoExecutionException error = assertThrows(MojoExecutionException.class,
+                graphCheckMojo(tempDir, "fail", Collections.singletonList("org.openrewrite.*"))::execute);
+        assertTrue(causeMessages(error).contains("정의되지 않은 recipe 2 개"), causeMessages(error));
+
+        // com.example.Missing도 외부 recipe 패턴에 포함되면 검사를 통과
+        graphCheckMojo(tempDir, "fail", Arrays.asList("org.openrewrite.*", "com.external.*", "com.example.Missing"))
+                .execute();
+        assertOutputRecipes(tempDir, "com.example.Main");
+    }
+
+    private static void createProject(Path projectDir) throws Exception {
+        Files.createDirectories(projectDir.resolve("recipes"));
+        write(projectDir.resolve("merge-rules.yml"), MERGE_RULES);
+        write(projectDir.resolve("recipes/base.yml"), BASE_RECIPE);
+        write(projectDir.resolve("var-map.properties"), "app.name=MyApplication\n");
+    }
+
+    private static RewritePrepareMojo prepareMojo(Path projectDir) throws Exception {
+        MavenProject project = new MavenProject();
+        project.setGroupId("com.example");
+        project.setArtifactId("my-service");
+        project.setFile(projectDir.resolve("pom.xml").toFile());
+
+        RewritePrepareMojo mojo = new RewritePrepareMojo();
+        setField(mojo, "project", project);
+        setField(mojo, "recipeDirectory", projectDir.resolve("recipes").toFile());
+        setField(mojo, "mergeRuleFile", projectDir.resolve("merge-rules.yml").toFile());
+        setField(mojo, "outputFile", outputFile(projectDir));
+        setField(mojo, "stampDirectory", projectDir.resolve("target/rewrite-prepare").toFile());
+        setField(mojo, "skipIfUpToDate", true);
+        setField(mojo, "orderingMode", "sequential");
+        setField(mojo, "duplicateStrategy", "keep");
+        setField(mojo, "recipeGraphCheck", "off");
+        setField(mojo, "knownExternalRecipes", Collections.singletonList("org.openrewrite.*"));
+        setField(mojo, "pluginVersion", "test");
+        return mojo;
+    }
+
+    /**
+     * pruneUnreachable을 설정한 Mojo를 반환합니다. 루트는 각 테스트에서 설정합니다.
+     */
+    private static RewritePrepareMojo pruneMojo(Path projectDir) throws Exception {
+        createProject(projectDir);
+        write(projectDir.resolve("recipes/base.yml"), PRUNE_RECIPES);
+        RewritePrepareMojo mojo = prepareMojo(projectDir);
+        setField(mojo, "pruneUnreachable", true);
+        return mojo;
+    }
+
+    /**
+     * recipeGraphCheck와 knownExternalRecipes를 설정한 Mojo를 반환합니다.
+     */
+    private static RewritePrepareMojo graphCheckMojo(Path projectDir, String checkMode, List<String> knownExternalRecipes)
+            throws Exception {
+        createProject(projectDir);
+        write(projectDir.resolve("recipes/base.yml"), GRAPH_RECIPES);
+        RewritePrepareMojo mojo = prepareMojo(projectDir);
+        setField(mojo, "recipeGraphCheck", checkMode);
+        setField(mojo, "knownExternalRecipes", knownExternalRecipes);
+        return mojo;
+    }
+
+    /**
+     * 예외와 원인 예외의 메시지를 모두 이어 붙여 반환합니다 (execute()는 원인 예외를 감싸서 다시 던짐).
+     */
+    private static String causeMessages(Throwable error) {
+        StringBuilder messages = new StringBuilder();
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            messages.append(cause.getMessage()).append('\n');
+        }
+        return messages.toString();
+    }
+
+    private static MavenProject projectOf(RewritePrepareMojo mojo) throws Exception {
+        Field field = RewritePrepareMojo.class.getDeclaredField("project");
+        field.setAccessible(true);
+        return (MavenProject) field.get(mojo);
+    }
+
+    private static Plugin rewritePlugin() {
+        Plugin plugin = new Plugin();
+        plugin.setGroupId("org.openrewrite.maven");
+        plugin.setArtifactId("rewrite-maven-plugin");
+        return plugin;
+    }
+
+    private static Xpp3Dom configuration(Xpp3Dom child) {
+        Xpp3Dom configuration = new Xpp3Dom("configuration");
+        configuration.addChild(child);
+        return configuration;
+    }
+
+    /**
+     * 출력 파일에 정의된 recipe 이름이 expected와 같은지 확인합니다 (정의 순서 유지).
+     */
+    private static void assertOutputRecipes(Path projectDir, String... expected) throws Exception {
+        List<String> names = new ArrayList<>();
+        for (String line : read(outputFile(projectDir)).split("\n")) {
+            if (line.startsWith("name: ")) {
+                names.add(line.substring("name: ".length()));
+            }
+        }
+        assertEquals(Arrays.asList(expected), names);
+    }
+
+    private static RewriteResolveMojo resolveMojo(Path projectDir) throws Exception {
+        RewriteResolveMojo mojo = new RewriteResolveMojo();
+        setField(mojo, "outputFile", outputFile(projectDir));
+        setField(mojo, "varMapFile", projectDir.resolve("var-map.properties").toFile());
+        setField(mojo, "stampDirectory", projectDir.resolve("target/rewrite-prepare").toFile());
+        setField(mojo, "skipIfUpToDate", true);
+        setField(mojo, "pluginVersion", "test");
+        return mojo;
+    }
+
+    private static File outputFile(Path projectDir) {
+        return projectDir.resolve("openrewrite/rewrite.yml").toFile();
+    }
+
+    /**
+     * prepare stamp 파일의 수정 시각을 고정하여, 다음 실행에서 stamp를 다시 작성했는지 확인할 수 있게 합니다.
+     */
+    private static File markStamp(Path projectDir) {
+        File stampFile = projectDir.resolve("target/rewrite-prepare/" + PREPARE_STAMP_FILE).toFile();
+        assertTrue(stampFile.setLastModified(1000L));
+        return stampFile;
+    }
+
+    private static void setField(Object target, String name, Object value) throws Exception {
+        Field field = target.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+
+    private static File write(Path path, String content) throws Exception {
+        Files.write(path, content.getBytes(StandardCharsets.UTF_8));
+        return path.toFile();
+    }
+
+    private static String read(File file) throws Exception {
+        return new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+    }
+}
@@ -1,16 +1,22 @@
 package com.yourcompany.plugins.rewriteprepare;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
 import java.io.FileWriter;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import com.yourcompany.plugins.RewriteResolveMojo;
+import com.yourcompany.plugins.rewriteprepare.service.BuildStamp;
 import com.yourcompany.plugins.rewriteprepare.service.VariableReplacer;
 
 /**
@@ -22,6 +28,11 @@ import com.yourcompany.plugins.rewriteprepare.service.VariableReplacer;
  */
 class RewriteResolveMojoTest {
 
+    // RewriteResolveMojo의 stamp 파일 이름과 키 (prepare goal도 같은 값을 읽음)
+    private static final String RESOLVE_STAMP_FILE = "resolve.stamp";
+    private static final String INPUT_HASH_KEY = "inputHash";
+    private static final String OUTPUT_HASH_KEY = "outputHash";
+
     @Test
     void testMojoExecution(@TempDir Path tempDir) throws Exception {
         File projectDir = tempDir.toFile();
@@ -161,5 +172,89 @@ class RewriteResolveMojoTest {
         assertTrue(result.contains("MyApplication"), "MyApplication이 포함되어야 합니다. result: " + result);
         assertFalse(result.contains("${app.name}"), "${app.name}가 제거되어야 합니다. result: " + result);
     }
-}
 
+    @Test
+    void testSkipsWhenVarMapAndOutputUnchanged(@TempDir Path tempDir) throws Exception {
+        File varMapFile = write(tempDir.resolve("var-map.properties"), "app.name=MyApplication\n");
+        File outputFile = write(tempDir.resolve("rewrite.yml"), "name: ${app.name}\n");
+        File stampDirectory = tempDir.resolve("stamp").toFile();
+
+        resolveMojo(outputFile, varMapFile, stampDirectory).execute();
+        File stampFile = new File(stampDirectory, RESOLVE_STAMP_FILE);
+        assertTrue(stampFile.setLastModified(1000L));
+
+        resolveMojo(outputFile, varMapFile, stampDirectory).execute();
+
+        // 건너뛰면 stamp 파일을 다시 작성하지 않음
+        assertEquals(1000L, stampFile.lastModified());
+        assertEquals("name: MyApplication\n", read(outputFile));
+    }
+
+    @Test
+    void testRunsAgainWhenVarMapChanges(@TempDir Path tempDir) throws Exception {
+        File varMapFile = write(tempDir.resolve("var-map.properties"), "app.name=MyApplication\n");
+        File outputFile = write(tempDir.resolve("rewrite.yml"), "name: ${app.name}\n");
+        File stampDirectory = tempDir.resolve("stamp").toFile();
+
+        resolveMojo(outputFile, varMapFile, stampDirectory).execute();
+        File stampFile = new File(stampDirectory, RESOLVE_STAMP_FILE);
+        assertTrue(stampFile.setLastModified(1000L));
+
+        write(tempDir.resolve("var-map.properties"), "app.name=OtherApplication\n");
+        // prepare goal은 resolve stamp의 var-map 해시로 치환된 출력 파일을 판단하므로, prepare도 다시 실행되어야 함
+        assertFalse(BuildStamp.read(stampFile).inputsUnchanged());
+
+        resolveMojo(outputFile, varMapFile, stampDirectory).execute();
+
+        assertNotEquals(1000L, stampFile.lastModified());
+        assertTrue(BuildStamp.read(stampFile).inputsUnchanged());
+    }
+
+    @Test
+    void testRunsAgainAfterPrepareRewritesOutput(@TempDir Path tempDir) throws Exception {
+        File varMapFile = write(tempDir.resolve("var-map.properties"), "app.name=MyApplication\n");
+        File outputFile = write(tempDir.resolve("rewrite.yml"), "name: ${app.name}\n");
+        File stampDirectory = tempDir.resolve("stamp").toFile();
+
+        resolveMojo(outputFile, varMapFile, stampDirectory).execute();
+        BuildStamp firstStamp = BuildStamp.read(new File(stampDirectory, RESOLVE_STAMP_FILE));
+        // prepare goal이 치환된 출력 파일을 자신의 결과로 인정하는 데 사용하는 값
+        assertEquals(BuildStamp.hashFile(outputFile), firstStamp.get(OUTPUT_HASH_KEY));
+
+        // prepare goal이 outputFile을 다시 생성
+        write(tempDir.resolve("rewrite.yml"), "name: ${app.name}\nversion: 2\n");
+        String preparedHash = BuildStamp.hashFile(outputFile);
+
+        resolveMojo(outputFile, varMapFile, stampDirectory).execute();
+
+        assertEquals("name: MyApplication\nversion: 2\n", read(outputFile));
+        BuildStamp stamp = BuildStamp.read(new File(stampDirectory, RESOLVE_STAMP_FILE));
+        assertEquals(preparedHash, stamp.get(INPUT_HASH_KEY));
+        assertEquals(BuildStamp.hashFile(outputFile), stamp.get(OUTPUT_HASH_KEY));
+    }
+
+    private static RewriteResolveMojo resolveMojo(File outputFile, File varMapFile, File stampDirectory) throws Exception {
+        RewriteResolveMojo mojo = new RewriteResolveMojo();
+        setField(mojo, "outputFile", outputFile);
+        setField(mojo, "varMapFile", varMapFile);
+        setField(mojo, "stampDirectory", stampDirectory);
+        setField(mojo, "skipIfUpToDate", true);
+        setField(mojo, "pluginVersion", "test");
+        return mojo;
+    }
+
+    private static void setField(Object target, String name, Object value) throws Exception {
+        Field field = target.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+
+    private static File write(Path path, String content) throws Exception {
+        Files.write(path, content.getBytes(StandardCharsets.UTF_8));
+        return path.toFile();
+    }
+
+    private static String read(File file) throws Exception {
+        return new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+    }
+}
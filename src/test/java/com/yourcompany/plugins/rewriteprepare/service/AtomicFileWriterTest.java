@@ -0,0 +1,78 @@
+package com.yourcompany.plugins.rewriteprepare.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * AtomicFileWriter 클래스의 테스트
+ * 내용이 바뀐 경우에만 파일을 교체하는지 테스트합니다.
+ */
+class AtomicFileWriterTest {
+
+    private static final FileTime OLD_TIME = FileTime.fromMillis(1_000_000_000_000L);
+
+    @Test
+    void testWritesNewFile(@TempDir Path tempDir) throws IOException {
+        File file = tempDir.resolve("out/rewrite.yml").toFile();
+
+        assertTrue(AtomicFileWriter.writeIfChanged(file, buffer("name: a\n")));
+        assertEquals("name: a\n", read(file));
+        assertNoTempFiles(file.getParentFile());
+    }
+
+    @Test
+    void testSkipsIdenticalContent(@TempDir Path tempDir) throws IOException {
+        File file = tempDir.resolve("rewrite.yml").toFile();
+        Files.write(file.toPath(), "name: a\n".getBytes(StandardCharsets.UTF_8));
+        Files.setLastModifiedTime(file.toPath(), OLD_TIME);
+
+        ByteBuffer content = buffer("name: a\n");
+        assertFalse(AtomicFileWriter.writeIfChanged(file, content));
+        assertEquals(OLD_TIME, Files.getLastModifiedTime(file.toPath()));
+        // 전달한 buffer의 position은 변경되지 않아야 함
+        assertEquals(0, content.position());
+    }
+
+    @Test
+    void testReplacesChangedContent(@TempDir Path tempDir) throws IOException {
+        File file = tempDir.resolve("rewrite.yml").toFile();
+        Files.write(file.toPath(), "name: a\n".getBytes(StandardCharsets.UTF_8));
+        Files.setLastModifiedTime(file.toPath(), OLD_TIME);
+
+        // 크기가 같고 내용만 다른 경우
+        assertTrue(AtomicFileWriter.writeIfChanged(file, buffer("name: b\n")));
+        assertEquals("name: b\n", read(file));
+        assertFalse(OLD_TIME.equals(Files.getLastModifiedTime(file.toPath())));
+
+        // 크기가 다른 경우
+        assertTrue(AtomicFileWriter.writeIfChanged(file, buffer("name: 한글\n")));
+        assertArrayEquals("name: 한글\n".getBytes(StandardCharsets.UTF_8), Files.readAllBytes(file.toPath()));
+        assertNoTempFiles(tempDir.toFile());
+    }
+
+    private static ByteBuffer buffer(String content) {
+        return ByteBuffer.wrap(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String read(File file) throws IOException {
+        return new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+    }
+
+    private static void assertNoTempFiles(File directory) {
+        String[] names = directory.list((dir, name) -> name.endsWith(".tmp"));
+        assertEquals(0, names.length);
+    }
+}
@@ -0,0 +1,92 @@
+package com.yourcompany.plugins.rewriteprepare.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * BuildStamp 클래스의 테스트
+ * stamp 파일 저장/읽기와 입력 변경 감지를 테스트합니다.
+ */
+class BuildStampTest {
+
+    @Test
+    void testWriteAndRead(@TempDir Path tempDir) throws IOException {
+        File input = writeFile(tempDir.resolve("merge-rules.yml").toFile(), "rules: []\n");
+        File stampFile = tempDir.resolve("target/prepare.stamp").toFile();
+
+        BuildStamp stamp = new BuildStamp();
+        stamp.setParametersHash("params");
+        stamp.addInputFile(input);
+        stamp.put("outputHash", "abc");
+        stamp.write(stampFile);
+
+        BuildStamp read = BuildStamp.read(stampFile);
+        assertNotNull(read);
+        assertEquals("params", read.getParametersHash());
+        assertEquals("abc", read.get("outputHash"));
+        assertEquals(stamp.getInputHashes(), read.getInputHashes());
+        assertTrue(read.inputsUnchanged());
+    }
+
+    @Test
+    void testInputChangeIsDetected(@TempDir Path tempDir) throws IOException {
+        File input = writeFile(tempDir.resolve("base.yml").toFile(), "name: a\n");
+
+        BuildStamp stamp = new BuildStamp();
+        stamp.addInputFile(input);
+        assertTrue(stamp.inputsUnchanged());
+
+        writeFile(input, "name: b\n");
+        assertFalse(stamp.inputsUnchanged());
+    }
+
+    @Test
+    void testMissingInputThatAppearsIsDetected(@TempDir Path tempDir) throws IOException {
+        File input = tempDir.resolve("later.yml").toFile();
+
+        BuildStamp stamp = new BuildStamp();
+        stamp.addInputFile(input);
+        assertEquals(BuildStamp.MISSING, stamp.getInputHashes().get(input.getAbsolutePath()));
+        assertTrue(stamp.inputsUnchanged());
+
+        writeFile(input, "name: a\n");
+        assertFalse(stamp.inputsUnchanged());
+    }
+
+    @Test
+    void testHashParameters() {
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        parameters.put("groupId", "com.example");
+        parameters.put("artifactId", "my-service");
+        String hash = BuildStamp.hashParameters(parameters);
+
+        parameters.put("artifactId", "other-service");
+        assertNotEquals(hash, BuildStamp.hashParameters(parameters));
+    }
+
+    @Test
+    void testReadMissingStamp(@TempDir Path tempDir) {
+        assertNull(BuildStamp.read(tempDir.resolve("none.stamp").toFile()));
+    }
+
+    private File writeFile(File file, String content) throws IOException {
+        try (FileWriter writer = new FileWriter(file)) {
+            writer.write(content);
+        }
+        return file;
+    }
+}
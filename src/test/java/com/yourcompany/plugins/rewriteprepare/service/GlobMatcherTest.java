@@ -0,0 +1,53 @@
+package com.yourcompany.plugins.rewriteprepare.service;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * GlobMatcher 클래스의 테스트
+ * 컴파일된 Glob 매처의 매칭과 캐시를 테스트합니다.
+ */
+class GlobMatcherTest {
+
+    @Test
+    void testCompiledMatcherIsCached() {
+        assertSame(GlobMatcher.compile("my-*,other"), GlobMatcher.compile("my-*,other"));
+        assertSame(GlobMatcher.compile(null), GlobMatcher.compile("*"));
+    }
+
+    @Test
+    void testMatchAll() {
+        assertTrue(GlobMatcher.compile(null).isMatchAll());
+        assertTrue(GlobMatcher.compile("*").matches(null));
+        assertFalse(GlobMatcher.compile("**").isMatchAll());
+        assertTrue(GlobMatcher.compile("**").matches(""));
+        assertFalse(GlobMatcher.compile("**").matches(null));
+    }
+
+    @Test
+    void testMultipleStars() {
+        GlobMatcher matcher = GlobMatcher.compile("*-core-*-svc");
+        assertTrue(matcher.matches("a-core-b-svc"));
+        assertTrue(matcher.matches("a-core-core-b-svc"));
+        assertTrue(matcher.matches("-core--svc"));
+        assertFalse(matcher.matches("a-core-b-svc2"));
+        assertFalse(matcher.matches("a-cor-b-svc"));
+    }
+
+    @Test
+    void testStarAndQuestionMark() {
+        GlobMatcher matcher = GlobMatcher.compile("*?x");
+        assertTrue(matcher.matches("ax"));
+        assertTrue(matcher.matches("abcx"));
+        assertFalse(matcher.matches("x"));
+    }
+
+    @Test
+    void testEmptyPatternMatchesNothing() {
+        assertFalse(GlobMatcher.compile("").matches(""));
+        assertFalse(GlobMatcher.compile(" , ").matches("any"));
+    }
+}
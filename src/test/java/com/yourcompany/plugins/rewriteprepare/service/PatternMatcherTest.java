@@ -81,5 +81,24 @@ class PatternMatcherTest {
         assertTrue(PatternMatcher.matches("my-service,,other-service", "my-service"));
         assertTrue(PatternMatcher.matches("my-service, ,other-service", "other-service"));
     }
-}
 
+    @Test
+    void testRegexMetacharactersAreLiteral() {
+        // "*", "?" 이외의 문자는 정규표현식 메타문자도 문자 그대로 비교
+        assertTrue(PatternMatcher.matches("c++-lib", "c++-lib"));
+        assertFalse(PatternMatcher.matches("c++-lib", "cc-lib"));
+        assertTrue(PatternMatcher.matches("svc(legacy)", "svc(legacy)"));
+        assertFalse(PatternMatcher.matches("svc(legacy)", "svclegacy"));
+        assertTrue(PatternMatcher.matches("price$", "price$"));
+        assertFalse(PatternMatcher.matches("price$", "price"));
+        assertTrue(PatternMatcher.matches("[a]-*", "[a]-svc"));
+        assertFalse(PatternMatcher.matches("[a]-*", "a-svc"));
+    }
+
+    @Test
+    void testQuestionMarkPattern() {
+        assertTrue(PatternMatcher.matches("svc-?", "svc-1"));
+        assertFalse(PatternMatcher.matches("svc-?", "svc-"));
+        assertFalse(PatternMatcher.matches("svc-?", "svc-12"));
+    }
+}
@@ -0,0 +1,185 @@
+package com.yourcompany.plugins.rewriteprepare.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.yourcompany.plugins.rewriteprepare.model.MergeRecipeDefinition;
+import com.yourcompany.plugins.rewriteprepare.model.Recipe;
+import com.yourcompany.plugins.rewriteprepare.model.RecipeDefinition;
+import com.yourcompany.plugins.rewriteprepare.model.UpdateRecipeList;
+
+/**
+ * RecipeDiskCache 클래스의 테스트
+ * 파싱 결과의 디스크 저장 및 복원을 테스트합니다.
+ */
+class RecipeDiskCacheTest {
+
+    private static final String RECIPE_YAML = "---\n" +
+            "type: specs.openrewrite.org/v1beta/recipe\n" +
+            "name: com.example.Main\n" +
+            "displayName: 메인 레시피\n" +
+            "description: Main recipe for ${app.name}\n" +
+            "tags:\n" +
+            "  - migration\n" +
+            "estimatedEffortPerOccurrence: PT15M\n" +
+            "causesAnotherCycle: true\n" +
+            "preconditions:\n" +
+            "  - org.openrewrite.text.Find:\n" +
+            "      find: 1\n" +
+            "recipeList:\n" +
+            "  - org.openrewrite.text.ChangeText:\n" +
+            "      toText: 2\n" +
+            "      nested:\n" +
+            "        - a\n" +
+            "        - 1.5\n" +
+            "  - com.example.Recipe2\n" +
+            "---\n" +
+            "type: org.yourcompany.openrewrite/v1/merge\n" +
+            "name: 머지 규칙\n" +
+            "rules:\n" +
+            "  - updateRecipeList:\n" +
+            "      name: com.example.Main\n" +
+            "      updateOrder:\n" +
+            "        - first:\n" +
+            "          - com.example.Recipe1\n" +
+            "        - before:\n" +
+            "          - com.example.Recipe2:\n" +
+            "              - com.example.Recipe5\n";
+
+    @Test
+    void testStoreAndLoadRoundTrip(@TempDir Path tempDir) throws IOException {
+        File recipeFile = writeFile(tempDir.resolve("base.yml"), RECIPE_YAML);
+        YamlParser.RecipeParseResult parsed = new YamlParser().parseRecipeFileWithMerge(recipeFile);
+
+        RecipeDiskCache diskCache = new RecipeDiskCache(tempDir.resolve("cache").toFile());
+        diskCache.store("abc", parsed);
+        YamlParser.RecipeParseResult loaded = diskCache.load("abc");
+
+        assertNotNull(loaded);
+        assertEquals(1, loaded.getRecipes().size());
+        RecipeDefinition recipe = loaded.getRecipes().get(0);
+        assertEquals("com.example.Main", recipe.getName());
+        assertEquals("메인 레시피", recipe.getDisplayName());
+        assertEquals("Main recipe for ${app.name}", recipe.getDescription());
+        assertEquals("migration", recipe.getTags().get(0));
+        assertEquals("PT15M", recipe.getEstimatedEffortPerOccurrence());
+        assertEquals(true, recipe.getCausesAnotherCycle());
+        assertEquals(parsed.getRecipes().get(0).getPreconditions(), recipe.getPreconditions());
+
+        Recipe changeText = recipe.getRecipeList().get(0);
+        assertEquals("org.openrewrite.text.ChangeText", changeText.getName());
+        assertEquals(2, changeText.getAttributes().get("toText"));
+        assertEquals(parsed.getRecipes().get(0).getRecipeList().get(0).getAttributes(), changeText.getAttributes());
+        assertEquals("com.example.Recipe2", recipe.getRecipeList().get(1).getName());
+        // 원본 문서도 함께 복원되어야 함
+        assertArrayEquals(parsed.getRecipes().get(0).getSource(), recipe.getSource());
+        assertFalse(recipe.isModified());
+
+        assertEquals(1, loaded.getMergeDefinitions().size());
+        MergeRecipeDefinition mergeDef = loaded.getMergeDefinitions().get(0);
+        assertEquals("머지 규칙", mergeDef.getName());
+        UpdateRecipeList updateRecipeList = mergeDef.getRules().get(0);
+        assertEquals("com.example.Main", updateRecipeList.getName());
+        assertEquals("com.example.Recipe1", updateRecipeList.getUpdateOrder().getFirst().get(0).getValues().get(0));
+        assertEquals("com.example.Recipe2", updateRecipeList.getUpdateOrder().getBefore().get(0).getKey());
+        assertNull(updateRecipeList.getUpdateOrder().getLast());
+    }
+
+    @Test
+    void testLoadMissingEntry(@TempDir Path tempDir) {
+        RecipeDiskCache diskCache = new RecipeDiskCache(tempDir.toFile());
+        assertNull(diskCache.load("missing"));
+    }
+
+    @Test
+    void testCorruptEntryIsIgnoredAndDeleted(@TempDir Path tempDir) throws IOException {
+        File corrupt = writeFile(tempDir.resolve("broken.bin"), "not a cache file");
+
+        RecipeDiskCache diskCache = new RecipeDiskCache(tempDir.toFile());
+        assertNull(diskCache.load("broken"));
+        assertFalse(corrupt.exists(), "손상된 캐시 파일은 삭제되어야 합니다.");
+    }
+
+    @Test
+    void testEntryWithInvalidLengthIsIgnoredAndDeleted(@TempDir Path tempDir) throws IOException {
+        File recipeFile = writeFile(tempDir.resolve("base.yml"), RECIPE_YAML);
+        YamlParser.RecipeParseResult parsed = new YamlParser().parseRecipeFileWithMerge(recipeFile);
+        RecipeDiskCache diskCache = new RecipeDiskCache(tempDir.resolve("cache").toFile());
+        File cacheFile = tempDir.resolve("cache").resolve("abc.bin").toFile();
+
+        // offset 8: recipe 개수, offset 12: 첫 번째 문자열(type) 길이
+        for (int offset : new int[] {8, 12}) {
+            diskCache.store("abc", parsed);
+            try (RandomAccessFile file = new RandomAccessFile(cacheFile, "rw")) {
+                file.seek(offset);
+                file.writeInt(Integer.MAX_VALUE);
+            }
+
+            // 큰 배열을 할당하지 않고 손상된 파일로 처리해야 함
+            assertNull(diskCache.load("abc"));
+            assertFalse(cacheFile.exists(), "손상된 캐시 파일은 삭제되어야 합니다.");
+        }
+    }
+
+    @Test
+    void testEntriesAreSeparatedByPluginVersion(@TempDir Path tempDir) throws IOException {
+        File recipeFile = writeFile(tempDir.resolve("base.yml"), RECIPE_YAML);
+        YamlParser.RecipeParseResult parsed = new YamlParser().parseRecipeFileWithMerge(recipeFile);
+        File cacheDir = tempDir.resolve("cache").toFile();
+
+        new RecipeDiskCache(cacheDir, "1.0.0").store("abc", parsed);
+
+        assertTrue(new File(cacheDir, "1.0.0/abc.bin").isFile());
+        assertNotNull(new RecipeDiskCache(cacheDir, "1.0.0").load("abc"));
+        // 다른 플러그인 버전이 만든 캐시는 사용하지 않음
+        assertNull(new RecipeDiskCache(cacheDir, "1.1.0").load("abc"));
+        assertEquals("1.0_SNAPSHOT_x", RecipeDiskCache.versionDirectoryName("1.0/SNAPSHOT x"));
+        assertEquals("unknown", RecipeDiskCache.versionDirectoryName(null));
+    }
+
+    @Test
+    void testParseCacheUsesDiskCacheAcrossBuilds(@TempDir Path tempDir) throws IOException {
+        File recipeFile = writeFile(tempDir.resolve("base.yml"), RECIPE_YAML);
+        File cacheDir = tempDir.resolve("cache").toFile();
+        AtomicInteger parseCount = new AtomicInteger();
+        YamlParser countingParser = new YamlParser() {
+            @Override
+            public RecipeParseResult parseRecipeFileWithMerge(File file) throws IOException {
+                parseCount.incrementAndGet();
+                return super.parseRecipeFileWithMerge(file);
+            }
+        };
+
+        // 첫 번째 빌드: 파싱 후 디스크 캐시에 저장
+        new RecipeParseCache(countingParser, new RecipeDiskCache(cacheDir)).parse(recipeFile);
+        // 두 번째 빌드: 새 메모리 캐시지만 디스크 캐시에서 읽음
+        YamlParser.RecipeParseResult result = new RecipeParseCache(countingParser, new RecipeDiskCache(cacheDir)).parse(recipeFile);
+
+        assertEquals(1, parseCount.get());
+        assertEquals("com.example.Main", result.getRecipes().get(0).getName());
+        Map<String, Object> attributes = result.getRecipes().get(0).getRecipeList().get(0).getAttributes();
+        assertEquals(2, attributes.get("toText"));
+    }
+
+    private File writeFile(Path path, String content) throws IOException {
+        Files.createDirectories(path.getParent());
+        Files.write(path, content.getBytes(StandardCharsets.UTF_8));
+        return path.toFile();
+    }
+}
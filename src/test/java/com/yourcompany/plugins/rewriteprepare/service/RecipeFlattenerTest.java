@@ -0,0 +1,149 @@
+package com.yourcompany.plugins.rewriteprepare.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.yourcompany.plugins.rewriteprepare.model.Recipe;
+import com.yourcompany.plugins.rewriteprepare.model.RecipeCatalog;
+import com.yourcompany.plugins.rewriteprepare.model.RecipeDefinition;
+
+/**
+ * RecipeFlattener 클래스의 테스트
+ * 로컬 composite recipe를 leaf recipe 목록으로 펼치는지 테스트합니다.
+ */
+class RecipeFlattenerTest {
+
+    private final RecipeFlattener flattener = new RecipeFlattener();
+
+    @Test
+    void testFlattensNestedComposites() {
+        RecipeDefinition main = definition("com.example.Main",
+                new Recipe("com.example.Recipe1"),
+                leaf("org.openrewrite.text.ChangeText", "toText", "Initial text"),
+                new Recipe("com.example.Recipe2"));
+        RecipeDefinition recipe1 = definition("com.example.Recipe1",
+                new Recipe("com.example.ServiceRecipe"),
+                leaf("org.openrewrite.text.ChangeText", "toText", "one"));
+        RecipeDefinition serviceRecipe = definition("com.example.ServiceRecipe",
+                new Recipe("com.example.ServiceRecipe1"),
+                new Recipe("com.example.ServiceRecipe2"));
+        RecipeDefinition recipe2 = definition("com.example.Recipe2",
+                new Recipe("com.example.ServiceRecipe1"),
+                leaf("org.openrewrite.text.ChangeText", "toText", "one"),
+                leaf("org.openrewrite.text.ChangeText", "toText", "two"));
+        RecipeCatalog catalog = new RecipeCatalog(Arrays.asList(main, recipe1, serviceRecipe, recipe2));
+
+        assertEquals(2, flattener.flatten(catalog));
+
+        // 이름과 attributes가 같은 항목은 처음 항목만 유지
+        assertEquals(Arrays.asList(
+                "com.example.ServiceRecipe1",
+                "com.example.ServiceRecipe2",
+                "org.openrewrite.text.ChangeText{toText=one}",
+                "org.openrewrite.text.ChangeText{toText=Initial text}",
+                "org.openrewrite.text.ChangeText{toText=two}"), entries(main));
+        assertEquals(Arrays.asList(
+                "com.example.ServiceRecipe1",
+                "com.example.ServiceRecipe2",
+                "org.openrewrite.text.ChangeText{toText=one}"), entries(recipe1));
+        assertTrue(main.isModified());
+        assertTrue(recipe1.isModified());
+        // 로컬 composite를 참조하지 않는 정의는 변경하지 않음
+        assertFalse(serviceRecipe.isModified());
+        assertFalse(recipe2.isModified());
+    }
+
+    @Test
+    void testKeepsReferencesThatCannotBeInlined() {
+        RecipeDefinition main = definition("com.example.Main",
+                new Recipe("com.example.WithPrecondition"),
+                leaf("com.example.Configured", "option", "value"),
+                new Recipe("com.example.Empty"),
+                new Recipe("com.example.CycleA"));
+        RecipeDefinition withPrecondition = definition("com.example.WithPrecondition", new Recipe("com.example.Leaf"));
+        withPrecondition.setPreconditions(new ArrayList<>(Collections.singletonList("com.example.Check")));
+        RecipeCatalog catalog = new RecipeCatalog(Arrays.asList(
+                main,
+                withPrecondition,
+                definition("com.example.Configured", new Recipe("com.example.Leaf")),
+                definition("com.example.Empty"),
+                definition("com.example.CycleA", new Recipe("com.example.CycleB")),
+                definition("com.example.CycleB", new Recipe("com.example.CycleA"))));
+
+        flattener.flatten(catalog);
+
+        assertEquals(Arrays.asList(
+                "com.example.WithPrecondition",
+                "com.example.Configured{option=value}",
+                "com.example.Empty",
+                "com.example.CycleA"), entries(main));
+        assertFalse(withPrecondition.isModified());
+    }
+
+    @Test
+    void testLeavesTwoNodeCycleUnflattened() {
+        RecipeDefinition cycleA = definition("com.example.CycleA",
+                new Recipe("com.example.CycleB"), new Recipe("com.example.Composite"));
+        RecipeDefinition cycleB = definition("com.example.CycleB",
+                new Recipe("com.example.CycleA"), new Recipe("com.example.LeafB"));
+        RecipeDefinition main = definition("com.example.Main",
+                new Recipe("com.example.CycleA"), new Recipe("com.example.Composite"));
+        RecipeCatalog catalog = new RecipeCatalog(Arrays.asList(
+                cycleA,
+                cycleB,
+                main,
+                definition("com.example.Composite", new Recipe("com.example.Leaf"))));
+
+        assertEquals(1, flattener.flatten(catalog));
+
+        // 순환에 포함된 정의는 그대로 두고 (자기 자신을 참조하도록 바뀌지 않음), 다른 정의에 펼쳐 넣지도 않음
+        assertEquals(Arrays.asList("com.example.CycleB", "com.example.Composite"), entries(cycleA));
+        assertEquals(Arrays.asList("com.example.CycleA", "com.example.LeafB"), entries(cycleB));
+        assertFalse(cycleA.isModified());
+        assertFalse(cycleB.isModified());
+        assertEquals(Arrays.asList("com.example.CycleA", "com.example.Leaf"), entries(main));
+    }
+
+    @Test
+    void testUnchangedWithoutLocalComposites() {
+        RecipeDefinition main = definition("com.example.Main",
+                new Recipe("org.openrewrite.java.format.AutoFormat"),
+                new Recipe("com.example.Leaf"));
+        RecipeCatalog catalog = new RecipeCatalog(Arrays.asList(main, definition("com.example.Leaf")));
+
+        assertEquals(0, flattener.flatten(catalog));
+        assertFalse(main.isModified());
+    }
+
+    private static Recipe leaf(String name, String key, Object value) {
+        return new Recipe(name, Collections.singletonMap(key, value));
+    }
+
+    private static RecipeDefinition definition(String name, Recipe... recipeList) {
+        RecipeDefinition definition = new RecipeDefinition();
+        definition.setType("specs.openrewrite.org/v1beta/recipe");
+        definition.setName(name);
+        if (recipeList.length > 0) {
+            definition.setRecipeList(new ArrayList<>(Arrays.asList(recipeList)));
+        }
+        return definition;
+    }
+
+    private static List<String> entries(RecipeDefinition definition) {
+        List<String> entries = new ArrayList<>();
+        for (Recipe recipe : definition.getRecipeList()) {
+            Map<String, Object> attributes = recipe.getAttributes();
+            entries.add(attributes.isEmpty() ? recipe.getName() : recipe.getName() + attributes);
+        }
+        return entries;
+    }
+}
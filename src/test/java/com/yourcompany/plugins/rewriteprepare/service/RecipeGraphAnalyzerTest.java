@@ -0,0 +1,99 @@
+package com.yourcompany.plugins.rewriteprepare.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.yourcompany.plugins.rewriteprepare.model.Recipe;
+import com.yourcompany.plugins.rewriteprepare.model.RecipeCatalog;
+import com.yourcompany.plugins.rewriteprepare.model.RecipeDefinition;
+
+/**
+ * RecipeGraphAnalyzer 클래스의 테스트
+ * recipeList 참조 그래프의 순환 참조와 정의되지 않은 참조 검사를 테스트합니다.
+ */
+class RecipeGraphAnalyzerTest {
+
+    @Test
+    void testNoProblems() {
+        RecipeCatalog catalog = new RecipeCatalog(Arrays.asList(
+                definition("com.example.Main", "com.example.Recipe1", "org.openrewrite.java.format.AutoFormat"),
+                definition("com.example.Recipe1", "com.example.Leaf"),
+                definition("com.example.Leaf")));
+
+        RecipeGraphAnalyzer.GraphReport report =
+                new RecipeGraphAnalyzer(Collections.singletonList("org.openrewrite.*")).analyze(catalog);
+
+        assertFalse(report.hasProblems());
+    }
+
+    @Test
+    void testFindsCycles() {
+        RecipeCatalog catalog = new RecipeCatalog(Arrays.asList(
+                definition("com.example.Main", "com.example.A", "com.example.Self"),
+                definition("com.example.A", "com.example.B"),
+                definition("com.example.B", "com.example.C"),
+                definition("com.example.C", "com.example.A"),
+                definition("com.example.Self", "com.example.Self")));
+
+        RecipeGraphAnalyzer.GraphReport report = new RecipeGraphAnalyzer().analyze(catalog);
+
+        assertEquals(2, report.getCycles().size());
+        assertTrue(report.getCycles().contains(Arrays.asList("com.example.A", "com.example.B", "com.example.C")));
+        assertTrue(report.getCycles().contains(Collections.singletonList("com.example.Self")));
+        assertTrue(report.getDanglingReferences().isEmpty());
+    }
+
+    @Test
+    void testFindsDanglingReferences() {
+        RecipeCatalog catalog = new RecipeCatalog(Arrays.asList(
+                definition("com.example.Main", "com.example.Missing", "org.openrewrite.java.format.AutoFormat"),
+                definition("com.example.Other", "com.example.Missing", "com.shared.Known")));
+
+        RecipeGraphAnalyzer.GraphReport report =
+                new RecipeGraphAnalyzer(Arrays.asList("org.openrewrite.*", "com.shared.*")).analyze(catalog);
+
+        assertTrue(report.getCycles().isEmpty());
+        assertEquals(Collections.singleton("com.example.Missing"), report.getDanglingReferences().keySet());
+        assertEquals(new LinkedHashSet<>(Arrays.asList("com.example.Main", "com.example.Other")),
+                report.getDanglingReferences().get("com.example.Missing"));
+    }
+
+    @Test
+    void testDeepChainDoesNotOverflow() {
+        // 재귀 구현이라면 스택이 넘치는 깊이의 체인
+        int depth = 50_000;
+        List<RecipeDefinition> definitions = new ArrayList<>(depth);
+        for (int i = 0; i < depth; i++) {
+            definitions.add(i + 1 < depth ? definition("com.example.R" + i, "com.example.R" + (i + 1))
+                    : definition("com.example.R" + i, "com.example.R0"));
+        }
+
+        RecipeGraphAnalyzer.GraphReport report = new RecipeGraphAnalyzer().analyze(new RecipeCatalog(definitions));
+
+        assertEquals(1, report.getCycles().size());
+        assertEquals(depth, report.getCycles().get(0).size());
+    }
+
+    private static RecipeDefinition definition(String name, String... recipeList) {
+        RecipeDefinition definition = new RecipeDefinition();
+        definition.setType("specs.openrewrite.org/v1beta/recipe");
+        definition.setName(name);
+        if (recipeList.length > 0) {
+            List<Recipe> recipes = new ArrayList<>();
+            for (String recipe : recipeList) {
+                recipes.add(new Recipe(recipe));
+            }
+            definition.setRecipeList(recipes);
+        }
+        return definition;
+    }
+}
@@ -0,0 +1,82 @@
+package com.yourcompany.plugins.rewriteprepare.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.yourcompany.plugins.rewriteprepare.model.Recipe;
+import com.yourcompany.plugins.rewriteprepare.model.RecipeCatalog;
+import com.yourcompany.plugins.rewriteprepare.model.RecipeDefinition;
+
+/**
+ * RecipeListDeduplicator 클래스의 테스트
+ * 이름과 attributes가 같은 recipeList 항목을 제거하는지 테스트합니다.
+ */
+class RecipeListDeduplicatorTest {
+
+    @Test
+    void testRemovesIdenticalInvocations() {
+        Map<String, Object> ab = new LinkedHashMap<>();
+        ab.put("a", 1);
+        ab.put("b", Arrays.asList("x", "y"));
+        Map<String, Object> ba = new LinkedHashMap<>();
+        ba.put("b", Arrays.asList("x", "y"));
+        ba.put("a", 1L);
+
+        RecipeDefinition main = definition("com.example.Main",
+                new Recipe("com.example.RecipeA"),
+                new Recipe("org.openrewrite.text.ChangeText", ab),
+                new Recipe("com.example.RecipeA"),
+                new Recipe("org.openrewrite.text.ChangeText", ba),
+                new Recipe("org.openrewrite.text.ChangeText", Collections.singletonMap("a", 2)));
+        RecipeDefinition other = definition("com.example.Other",
+                new Recipe("com.example.RecipeA"),
+                new Recipe("com.example.RecipeB"));
+        Recipe first = main.getRecipeList().get(1);
+
+        int removed = new RecipeListDeduplicator().dedupe(new RecipeCatalog(Arrays.asList(main, other)));
+
+        assertEquals(2, removed);
+        assertEquals(3, main.getRecipeList().size());
+        assertEquals("com.example.RecipeA", main.getRecipeList().get(0).getName());
+        // 처음 등장한 항목 유지, attributes가 다른 항목은 유지
+        assertSame(first, main.getRecipeList().get(1));
+        assertEquals(Collections.singletonMap("a", 2), main.getRecipeList().get(2).getAttributes());
+        assertTrue(main.isModified());
+        assertFalse(other.isModified());
+    }
+
+    @Test
+    void testInvocationKey() {
+        Map<String, Object> nested = new LinkedHashMap<>();
+        nested.put("y", "1");
+        nested.put("x", null);
+
+        assertEquals(RecipeListDeduplicator.invocationKey(new Recipe("A")),
+                RecipeListDeduplicator.invocationKey(new Recipe("A", new LinkedHashMap<>())));
+        assertNotEquals(RecipeListDeduplicator.invocationKey(new Recipe("A", Collections.singletonMap("v", 1))),
+                RecipeListDeduplicator.invocationKey(new Recipe("A", Collections.singletonMap("v", "1"))));
+        assertNotEquals(RecipeListDeduplicator.invocationKey(new Recipe("A", Collections.singletonMap("v", nested))),
+                RecipeListDeduplicator.invocationKey(new Recipe("A", Collections.singletonMap("v", "{y:1}"))));
+        assertNotEquals(RecipeListDeduplicator.invocationKey(new Recipe("A", Collections.singletonMap("v", 1))),
+                RecipeListDeduplicator.invocationKey(new Recipe("B", Collections.singletonMap("v", 1))));
+    }
+
+    private static RecipeDefinition definition(String name, Recipe... recipeList) {
+        RecipeDefinition definition = new RecipeDefinition();
+        definition.setType("specs.openrewrite.org/v1beta/recipe");
+        definition.setName(name);
+        definition.setRecipeList(new ArrayList<>(Arrays.asList(recipeList)));
+        return definition;
+    }
+}
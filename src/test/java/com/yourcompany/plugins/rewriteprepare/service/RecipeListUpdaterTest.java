@@ -2,17 +2,23 @@ package com.yourcompany.plugins.rewriteprepare.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import com.yourcompany.plugins.rewriteprepare.model.Recipe;
+import com.yourcompany.plugins.rewriteprepare.model.RecipeCatalog;
 import com.yourcompany.plugins.rewriteprepare.model.RecipeDefinition;
 import com.yourcompany.plugins.rewriteprepare.model.UpdateEntry;
 import com.yourcompany.plugins.rewriteprepare.model.UpdateRecipeList;
@@ -193,6 +199,341 @@ class RecipeListUpdaterTest {
         assertEquals(1, updated.get(0).getRecipeList().size());
     }
 
+    @Test
+    void testUpdateRecipeListWithCatalog() {
+        RecipeDefinition first = createTestRecipe("com.example.Main");
+        first.setRecipeList(createRecipeListFromStrings("com.example.Recipe1"));
+        RecipeDefinition duplicate = createTestRecipe("com.example.Main");
+        duplicate.setRecipeList(createRecipeListFromStrings("com.example.Recipe1"));
+        RecipeCatalog catalog = new RecipeCatalog(Arrays.asList(createTestRecipe("com.example.Other"), first, duplicate));
+
+        // 같은 이름이 여러 개이면 먼저 추가된 정의를 찾음 (출력 순서는 추가 순서 유지)
+        assertSame(first, catalog.findByName("com.example.Main"));
+        assertNull(catalog.findByName("com.example.Missing"));
+        assertEquals(3, catalog.size());
+
+        UpdateRecipeList updateRecipeList = new UpdateRecipeList();
+        updateRecipeList.setName("com.example.Main");
+        UpdateRecipeList.UpdateOrder updateOrder = new UpdateRecipeList.UpdateOrder();
+        UpdateEntry lastEntry = new UpdateEntry();
+        lastEntry.setValue("com.example.Recipe2");
+        updateOrder.setLast(Arrays.asList(lastEntry));
+        updateRecipeList.setUpdateOrder(updateOrder);
+
+        assertSame(catalog, recipeListUpdater.updateRecipeList(catalog, updateRecipeList));
+        assertEquals(2, first.getRecipeList().size());
+        assertEquals(1, duplicate.getRecipeList().size());
+
+        // 중간 삽입/삭제 후에도 이름 인덱스가 유지됨
+        catalog.remove(1);
+        assertSame(duplicate, catalog.findByName("com.example.Main"));
+        catalog.add(0, first);
+        assertSame(first, catalog.findByName("com.example.Main"));
+        assertEquals("com.example.Main", catalog.get(0).getName());
+    }
+
+    @Test
+    void testLargeRecipeListMatchesListSemantics() {
+        // 중복 이름이 있는 큰 recipeList에 여러 종류의 추가를 적용하고, List 기반 동작과 같은 순서인지 비교
+        Random random = new Random(42);
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            names.add("com.example.Recipe" + i);
+        }
+        names.add("com.example.Recipe10");
+        RecipeDefinition targetRecipe = createTestRecipe("com.example.Main");
+        targetRecipe.setRecipeList(createRecipeListFromStrings(names.toArray(new String[0])));
+        List<String> expected = new ArrayList<>(names);
+
+        UpdateRecipeList.UpdateOrder updateOrder = new UpdateRecipeList.UpdateOrder();
+        List<UpdateEntry> first = new ArrayList<>();
+        List<UpdateEntry> last = new ArrayList<>();
+        List<UpdateEntry> before = new ArrayList<>();
+        List<UpdateEntry> after = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            // 새 이름, 기존 이름, 같은 항목 안의 중복 이름을 섞음
+            List<String> values = Arrays.asList("com.example.New" + i, "com.example.Recipe" + random.nextInt(2000),
+                    "com.example.New" + random.nextInt(300), "com.example.New" + i);
+            String key = random.nextInt(10) == 0 ? "com.example.Missing" : "com.example.Recipe" + random.nextInt(2000);
+            switch (i % 4) {
+                case 0: first.add(new UpdateEntry(null, values)); break;
+                case 1: last.add(new UpdateEntry(null, values)); break;
+                case 2: before.add(new UpdateEntry(key, values)); break;
+                default: after.add(new UpdateEntry(key, values)); break;
+            }
+        }
+        updateOrder.setFirst(first);
+        updateOrder.setLast(last);
+        updateOrder.setBefore(before);
+        updateOrder.setAfter(after);
+        UpdateRecipeList updateRecipeList = new UpdateRecipeList();
+        updateRecipeList.setName("com.example.Main");
+        updateRecipeList.setUpdateOrder(updateOrder);
+
+        for (UpdateEntry entry : first) {
+            List<String> added = new ArrayList<>();
+            for (String value : entry.getValues()) {
+                if (!expected.contains(value)) {
+                    added.add(value);
+                }
+            }
+            expected.addAll(0, added);
+        }
+        for (UpdateEntry entry : last) {
+            for (String value : entry.getValues()) {
+                if (!expected.contains(value)) {
+                    expected.add(value);
+                }
+            }
+        }
+        for (UpdateEntry entry : before) {
+            int index = expected.indexOf(entry.getKey());
+            for (int i = entry.getValues().size() - 1; index >= 0 && i >= 0; i--) {
+                if (!expected.contains(entry.getValues().get(i))) {
+                    expected.add(index, entry.getValues().get(i));
+                }
+            }
+        }
+        for (UpdateEntry entry : after) {
+            int index = expected.indexOf(entry.getKey());
+            for (int i = 0, insertIndex = index + 1; index >= 0 && i < entry.getValues().size(); i++) {
+                if (!expected.contains(entry.getValues().get(i))) {
+                    expected.add(insertIndex++, entry.getValues().get(i));
+                }
+            }
+        }
+
+        recipeListUpdater.updateRecipeList(Arrays.asList(targetRecipe), updateRecipeList);
+
+        List<String> actual = new ArrayList<>();
+        for (Recipe recipe : targetRecipe.getRecipeList()) {
+            actual.add(recipe.getName());
+        }
+        assertEquals(expected, actual);
+        assertTrue(targetRecipe.isModified());
+    }
+
+    @Test
+    void testApplyPlanGroupsUpdatesByTarget() {
+        RecipeDefinition main = createTestRecipe("com.example.Main");
+        main.setRecipeList(createRecipeListFromStrings("com.example.Recipe1"));
+        RecipeDefinition other = createTestRecipe("com.example.Other");
+        other.setRecipeList(createRecipeListFromStrings("com.example.Recipe1"));
+        RecipeCatalog catalog = new RecipeCatalog(Arrays.asList(main, other));
+
+        RecipeUpdatePlan plan = new RecipeUpdatePlan();
+        // Main: 첫 번째 업데이트의 after가 두 번째 업데이트의 first보다 먼저 적용되어야 함
+        plan.add(createUpdate("com.example.Main", null, null,
+                new UpdateEntry("com.example.Recipe1", Arrays.asList("com.example.Recipe2", "com.example.Recipe1"))));
+        plan.add(createUpdate("com.example.Other", Arrays.asList("com.example.Recipe0"), null, null));
+        plan.add(createUpdate("com.example.Main", Arrays.asList("com.example.Recipe2", "com.example.Recipe0"), null,
+                new UpdateEntry("com.example.Missing", Arrays.asList("com.example.Recipe3"))));
+        plan.add(createUpdate("com.example.Unknown", Arrays.asList("com.example.Recipe0"), null, null));
+
+        assertEquals(4, plan.getUpdateCount());
+        assertEquals(Arrays.asList("com.example.Main", "com.example.Other", "com.example.Unknown"),
+                new ArrayList<>(plan.getUpdatesByTarget().keySet()));
+
+        List<RecipeListUpdater.UpdateSummary> summaries = recipeListUpdater.applyPlan(catalog, plan);
+        assertEquals(3, summaries.size());
+
+        assertEquals(Arrays.asList("com.example.Recipe0", "com.example.Recipe1", "com.example.Recipe2"),
+                namesOf(main.getRecipeList()));
+        RecipeListUpdater.UpdateSummary mainSummary = summaries.get(0);
+        assertEquals("com.example.Main", mainSummary.getTargetName());
+        assertEquals(Arrays.asList("com.example.Recipe2", "com.example.Recipe0"), mainSummary.getAdded());
+        assertEquals(Arrays.asList("com.example.Recipe1", "com.example.Recipe2"), mainSummary.getSkipped());
+        assertEquals(Arrays.asList("com.example.Missing"), mainSummary.getMissingAnchors());
+
+        assertEquals(Arrays.asList("com.example.Recipe0", "com.example.Recipe1"), namesOf(other.getRecipeList()));
+        assertTrue(summaries.get(1).isTargetFound());
+        assertTrue(!summaries.get(2).isTargetFound());
+        assertTrue(summaries.get(2).getAdded().isEmpty());
+    }
+
+    @Test
+    void testParallelApplyMatchesSequentialApply() {
+        RecipeUpdatePlan plan = new RecipeUpdatePlan();
+        for (int round = 0; round < 3; round++) {
+            for (int target = 0; target < 40; target++) {
+                plan.add(createUpdate("com.example.Target" + target,
+                        Arrays.asList("com.example.First" + round, "com.example.Step1"),
+                        Arrays.asList("com.example.Last" + (round + target % 2)),
+                        new UpdateEntry("com.example.Step" + (target % 3), Arrays.asList("com.example.After" + round))));
+            }
+        }
+        plan.add(createUpdate("com.example.Unknown", Arrays.asList("com.example.First"), null, null));
+
+        RecipeCatalog sequentialCatalog = createTargets(40);
+        RecipeCatalog parallelCatalog = createTargets(40);
+        List<RecipeListUpdater.UpdateSummary> sequential = new RecipeListUpdater(1).applyPlan(sequentialCatalog, plan);
+        List<RecipeListUpdater.UpdateSummary> parallel = new RecipeListUpdater(8).applyPlan(parallelCatalog, plan);
+
+        assertEquals(sequential.size(), parallel.size());
+        for (int i = 0; i < sequential.size(); i++) {
+            assertEquals(sequential.get(i).getTargetName(), parallel.get(i).getTargetName());
+            assertEquals(sequential.get(i).isTargetFound(), parallel.get(i).isTargetFound());
+            assertEquals(sequential.get(i).getAdded(), parallel.get(i).getAdded());
+            assertEquals(sequential.get(i).getSkipped(), parallel.get(i).getSkipped());
+            assertEquals(sequential.get(i).getMissingAnchors(), parallel.get(i).getMissingAnchors());
+        }
+        for (int i = 0; i < sequentialCatalog.size(); i++) {
+            assertEquals(sequentialCatalog.get(i).getRecipeList(), parallelCatalog.get(i).getRecipeList());
+            assertEquals(sequentialCatalog.get(i).isModified(), parallelCatalog.get(i).isModified());
+        }
+    }
+
+    @Test
+    void testConstraintOrderingMatchesSequentialWhenAnchorsExist() {
+        Random random = new Random(7);
+        RecipeUpdatePlan plan = new RecipeUpdatePlan();
+        int added = 0;
+        for (int i = 0; i < 60; i++) {
+            List<String> values = Arrays.asList("com.example.New" + added++, "com.example.New" + added++,
+                    "com.example.Step" + random.nextInt(50));
+            // 기준은 기존 recipe 또는 이전 업데이트에서 이미 추가된 recipe
+            String key = random.nextBoolean() || added < 4
+                    ? "com.example.Step" + random.nextInt(50) : "com.example.New" + random.nextInt(added - 2);
+            switch (i % 4) {
+                case 0: plan.add(createUpdate("com.example.Target0", values, null, null)); break;
+                case 1: plan.add(createUpdate("com.example.Target0", null, values, null)); break;
+                default: plan.add(createUpdate("com.example.Target0", null, null, new UpdateEntry(key, values))); break;
+            }
+        }
+
+        RecipeCatalog sequentialCatalog = createTargets(1);
+        RecipeCatalog constraintCatalog = createTargets(1);
+        for (int i = 2; i < 50; i++) {
+            sequentialCatalog.get(0).getRecipeList().add(new Recipe("com.example.Step" + i));
+            constraintCatalog.get(0).getRecipeList().add(new Recipe("com.example.Step" + i));
+        }
+        RecipeListUpdater.UpdateSummary sequential = new RecipeListUpdater(1).applyPlan(sequentialCatalog, plan).get(0);
+        RecipeListUpdater.UpdateSummary constraint = new RecipeListUpdater(1, RecipeListUpdater.OrderingMode.CONSTRAINT)
+                .applyPlan(constraintCatalog, plan).get(0);
+
+        assertEquals(namesOf(sequentialCatalog.get(0).getRecipeList()), namesOf(constraintCatalog.get(0).getRecipeList()));
+        assertEquals(sequential.getSkipped(), constraint.getSkipped());
+        assertTrue(constraint.getMissingAnchors().isEmpty());
+        assertEquals(120, constraint.getAdded().size());
+    }
+
+    @Test
+    void testConstraintOrderingResolvesAnchorsAddedLater() {
+        RecipeUpdatePlan plan = new RecipeUpdatePlan();
+        // 첫 번째 파일: 아직 없는 Recipe3 앞에 추가
+        plan.add(createUpdate("com.example.Target0", null, null, null));
+        UpdateRecipeList before = createUpdate("com.example.Target0", null, null, null);
+        before.getUpdateOrder().setBefore(Arrays.asList(
+                new UpdateEntry("com.example.Recipe3", Arrays.asList("com.example.Recipe2"))));
+        plan.add(before);
+        // 두 번째 파일: Recipe3 추가
+        plan.add(createUpdate("com.example.Target0", null, Arrays.asList("com.example.Recipe3"), null));
+
+        RecipeCatalog sequentialCatalog = createTargets(1);
+        new RecipeListUpdater().applyPlan(sequentialCatalog, plan);
+        assertEquals(Arrays.asList("com.example.Step0", "com.example.Step1", "com.example.Recipe3"),
+                namesOf(sequentialCatalog.get(0).getRecipeList()));
+
+        RecipeCatalog constraintCatalog = createTargets(1);
+        RecipeListUpdater.UpdateSummary summary = new RecipeListUpdater(1, RecipeListUpdater.OrderingMode.CONSTRAINT)
+                .applyPlan(constraintCatalog, plan).get(0);
+        assertEquals(Arrays.asList("com.example.Step0", "com.example.Step1", "com.example.Recipe2", "com.example.Recipe3"),
+                namesOf(constraintCatalog.get(0).getRecipeList()));
+        assertEquals(Arrays.asList("com.example.Recipe2", "com.example.Recipe3"), summary.getAdded());
+        assertTrue(summary.getMissingAnchors().isEmpty());
+    }
+
+    @Test
+    void testConstraintOrderingReportsCycles() {
+        RecipeUpdatePlan plan = new RecipeUpdatePlan();
+        UpdateRecipeList update = createUpdate("com.example.Target0", null, Arrays.asList("com.example.Last"),
+                new UpdateEntry("com.example.B", Arrays.asList("com.example.A")));
+        update.getUpdateOrder().setBefore(Arrays.asList(
+                new UpdateEntry("com.example.A", Arrays.asList("com.example.B")),
+                new UpdateEntry("com.example.Missing", Arrays.asList("com.example.C"))));
+        plan.add(update);
+
+        RecipeCatalog catalog = createTargets(1);
+        RecipeListUpdater.UpdateSummary summary = new RecipeListUpdater(1, RecipeListUpdater.OrderingMode.CONSTRAINT)
+                .applyPlan(catalog, plan).get(0);
+
+        assertEquals(Arrays.asList("com.example.Step0", "com.example.Step1", "com.example.Last"),
+                namesOf(catalog.get(0).getRecipeList()));
+        assertEquals(Arrays.asList("com.example.Last"), summary.getAdded());
+        assertEquals(1, summary.getCycles().size());
+        assertEquals(new HashSet<>(Arrays.asList("com.example.A", "com.example.B")),
+                new HashSet<>(summary.getCycles().get(0)));
+        assertEquals(Arrays.asList("com.example.Missing"), summary.getMissingAnchors());
+    }
+
+    @Test
+    void testApplyPlanResolvesGlobTargets() {
+        RecipeCatalog catalog = createTargets(12);
+        catalog.add(createTestRecipe("com.example.Other"));
+
+        RecipeUpdatePlan plan = new RecipeUpdatePlan();
+        plan.add(createUpdate("com.example.Target1", null, Arrays.asList("com.example.Exact"), null));
+        // Target1, Target10, Target11
+        plan.add(createUpdate("com.example.Target1*", null, Arrays.asList("com.example.Glob"), null));
+        plan.add(createUpdate("com.example.Target?", Arrays.asList("com.example.Single"), null, null));
+        plan.add(createUpdate("com.example.NoMatch*", Arrays.asList("com.example.Single"), null, null));
+
+        List<RecipeListUpdater.UpdateSummary> summaries = recipeListUpdater.applyPlan(catalog, plan);
+
+        // 대상은 처음 일치한 순서, 같은 대상의 업데이트는 계획에 추가된 순서
+        List<String> targets = new ArrayList<>();
+        for (RecipeListUpdater.UpdateSummary summary : summaries) {
+            targets.add(summary.getTargetName());
+        }
+        assertEquals(Arrays.asList("com.example.Target1", "com.example.Target10", "com.example.Target11",
+                "com.example.Target0", "com.example.Target2", "com.example.Target3", "com.example.Target4",
+                "com.example.Target5", "com.example.Target6", "com.example.Target7", "com.example.Target8",
+                "com.example.Target9", "com.example.NoMatch*"), targets);
+        assertEquals(Arrays.asList("com.example.Single", "com.example.Step0", "com.example.Step1",
+                "com.example.Exact", "com.example.Glob"), namesOf(catalog.get(1).getRecipeList()));
+        assertEquals(Arrays.asList("com.example.Step0", "com.example.Step1", "com.example.Glob"),
+                namesOf(catalog.get(10).getRecipeList()));
+        assertEquals(Arrays.asList("com.example.Single", "com.example.Step0", "com.example.Step1"),
+                namesOf(catalog.get(5).getRecipeList()));
+        assertNull(catalog.get(12).getRecipeList());
+        assertTrue(!summaries.get(12).isTargetFound());
+    }
+
+    private RecipeCatalog createTargets(int count) {
+        RecipeCatalog catalog = new RecipeCatalog();
+        for (int i = 0; i < count; i++) {
+            RecipeDefinition target = createTestRecipe("com.example.Target" + i);
+            target.setRecipeList(createRecipeListFromStrings("com.example.Step0", "com.example.Step1"));
+            catalog.add(target);
+        }
+        return catalog;
+    }
+
+    private UpdateRecipeList createUpdate(String name, List<String> first, List<String> last, UpdateEntry after) {
+        UpdateRecipeList.UpdateOrder updateOrder = new UpdateRecipeList.UpdateOrder();
+        if (first != null) {
+            updateOrder.setFirst(Arrays.asList(new UpdateEntry(null, first)));
+        }
+        if (last != null) {
+            updateOrder.setLast(Arrays.asList(new UpdateEntry(null, last)));
+        }
+        if (after != null) {
+            updateOrder.setAfter(Arrays.asList(after));
+        }
+        UpdateRecipeList updateRecipeList = new UpdateRecipeList();
+        updateRecipeList.setName(name);
+        updateRecipeList.setUpdateOrder(updateOrder);
+        return updateRecipeList;
+    }
+
+    private List<String> namesOf(List<Recipe> recipeList) {
+        List<String> names = new ArrayList<>();
+        for (Recipe recipe : recipeList) {
+            names.add(recipe.getName());
+        }
+        return names;
+    }
+
     private RecipeDefinition createTestRecipe(String name) {
         RecipeDefinition recipe = new RecipeDefinition();
         recipe.setType("specs.openrewrite.org/v1beta/recipe");
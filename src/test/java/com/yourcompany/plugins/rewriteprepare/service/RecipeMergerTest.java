@@ -1,5 +1,7 @@
 package com.yourcompany.plugins.rewriteprepare.service;
 
+import com.yourcompany.plugins.rewriteprepare.model.Recipe;
+import com.yourcompany.plugins.rewriteprepare.model.RecipeCatalog;
 import com.yourcompany.plugins.rewriteprepare.model.RecipeDefinition;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -7,7 +9,9 @@ import org.junit.jupiter.api.io.TempDir;
 
 import java.io.File;
 import java.io.FileWriter;
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -102,5 +106,141 @@ class RecipeMergerTest {
         // 존재하는 파일만 병합되므로 1개
         assertEquals(1, merged.size());
     }
-}
 
+    @Test
+    void testParallelMergeKeepsFileOrder(@TempDir Path tempDir) throws Exception {
+        File recipeDir = tempDir.toFile();
+        List<String> mergeFiles = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            String fileName = "recipe" + i + ".yml";
+            try (FileWriter writer = new FileWriter(new File(recipeDir, fileName))) {
+                writer.write("---\n" +
+                        "type: specs.openrewrite.org/v1beta/recipe\n" +
+                        "name: com.example.Recipe" + i + "\n" +
+                        "---\n" +
+                        "type: org.yourcompany.openrewrite/v1/merge\n" +
+                        "name: merge" + i + "\n");
+            }
+            mergeFiles.add(fileName);
+        }
+        mergeFiles.add("recipe3.yml");
+        mergeFiles.add("missing.yml");
+
+        // 앞쪽 파일일수록 파싱이 늦게 끝나도록 지연
+        YamlParser slowParser = new YamlParser() {
+            @Override
+            public RecipeParseResult parseRecipeFileWithMerge(File file) throws IOException {
+                int index = Integer.parseInt(file.getName().replaceAll("\\D", ""));
+                try {
+                    Thread.sleep((12 - index) * 5L);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.parseRecipeFileWithMerge(file);
+            }
+        };
+
+        RecipeMerger.MergeResult result = new RecipeMerger(slowParser, null, 4).mergeFilesWithMerge(recipeDir, mergeFiles);
+
+        assertEquals(12, result.getRecipes().size());
+        assertEquals(12, result.getMergeDefinitions().size());
+        for (int i = 0; i < 12; i++) {
+            assertEquals("com.example.Recipe" + i, result.getRecipes().get(i).getName());
+            assertEquals("merge" + i, result.getMergeDefinitions().get(i).getName());
+        }
+    }
+
+    @Test
+    void testParallelMergePropagatesFirstFailureInOrder(@TempDir Path tempDir) throws Exception {
+        File recipeDir = tempDir.toFile();
+        for (String fileName : Arrays.asList("a.yml", "b.yml", "c.yml")) {
+            try (FileWriter writer = new FileWriter(new File(recipeDir, fileName))) {
+                writer.write("---\nname: " + fileName + "\n");
+            }
+        }
+        YamlParser failingParser = new YamlParser() {
+            @Override
+            public RecipeParseResult parseRecipeFileWithMerge(File file) throws IOException {
+                if (!file.getName().equals("a.yml")) {
+                    throw new IOException("broken " + file.getName());
+                }
+                return super.parseRecipeFileWithMerge(file);
+            }
+        };
+
+        IOException e = assertThrows(IOException.class, () -> new RecipeMerger(failingParser, null, 3)
+                .mergeFilesWithMerge(recipeDir, Arrays.asList("a.yml", "b.yml", "c.yml")));
+        assertEquals("broken b.yml", e.getMessage());
+    }
+
+    @Test
+    void testDuplicateStrategies(@TempDir Path tempDir) throws Exception {
+        File recipeDir = tempDir.toFile();
+        try (FileWriter writer = new FileWriter(new File(recipeDir, "base.yml"))) {
+            writer.write("---\n" +
+                    "type: specs.openrewrite.org/v1beta/recipe\n" +
+                    "name: com.example.Main\n" +
+                    "displayName: Base Main\n" +
+                    "recipeList:\n" +
+                    "  - com.example.RecipeA\n" +
+                    "  - com.example.RecipeB\n" +
+                    "---\n" +
+                    "type: specs.openrewrite.org/v1beta/recipe\n" +
+                    "name: com.example.Other\n");
+        }
+        try (FileWriter writer = new FileWriter(new File(recipeDir, "service.yml"))) {
+            writer.write("---\n" +
+                    "type: specs.openrewrite.org/v1beta/recipe\n" +
+                    "name: com.example.Main\n" +
+                    "displayName: Service Main\n" +
+                    "recipeList:\n" +
+                    "  - com.example.RecipeB\n" +
+                    "  - com.example.RecipeC\n");
+        }
+        List<String> mergeFiles = Arrays.asList("base.yml", "service.yml");
+
+        // keep: 모두 출력
+        List<RecipeDefinition> kept = recipeMerger.mergeFiles(recipeDir, mergeFiles);
+        assertEquals(Arrays.asList("com.example.Main", "com.example.Other", "com.example.Main"), namesOf(kept));
+
+        // first: 먼저 정의된 것 사용
+        RecipeCatalog first = new RecipeMerger(yamlParser, null, 1, RecipeMerger.DuplicateStrategy.FIRST)
+                .mergeFilesWithMerge(recipeDir, mergeFiles).getRecipes();
+        assertEquals(Arrays.asList("com.example.Main", "com.example.Other"), namesOf(first));
+        assertEquals("Base Main", first.findByName("com.example.Main").getDisplayName());
+        assertFalse(first.get(0).isModified());
+
+        // last: 나중에 정의된 것으로 대체 (위치는 유지)
+        RecipeCatalog last = new RecipeMerger(yamlParser, null, 1, RecipeMerger.DuplicateStrategy.LAST)
+                .mergeFilesWithMerge(recipeDir, mergeFiles).getRecipes();
+        assertEquals(Arrays.asList("com.example.Main", "com.example.Other"), namesOf(last));
+        assertEquals("Service Main", last.findByName("com.example.Main").getDisplayName());
+        assertSame(last.get(0), last.findByName("com.example.Main"));
+
+        // union: recipeList 합침
+        RecipeCatalog union = new RecipeMerger(yamlParser, null, 1, RecipeMerger.DuplicateStrategy.UNION)
+                .mergeFilesWithMerge(recipeDir, mergeFiles).getRecipes();
+        assertEquals(Arrays.asList("com.example.Main", "com.example.Other"), namesOf(union));
+        RecipeDefinition main = union.findByName("com.example.Main");
+        assertEquals("Base Main", main.getDisplayName());
+        assertEquals(Arrays.asList("com.example.RecipeA", "com.example.RecipeB", "com.example.RecipeC"),
+                recipeNamesOf(main));
+        assertTrue(main.isModified());
+    }
+
+    private static List<String> namesOf(List<RecipeDefinition> recipes) {
+        List<String> names = new ArrayList<>();
+        for (RecipeDefinition recipe : recipes) {
+            names.add(recipe.getName());
+        }
+        return names;
+    }
+
+    private static List<String> recipeNamesOf(RecipeDefinition definition) {
+        List<String> names = new ArrayList<>();
+        for (Recipe recipe : definition.getRecipeList()) {
+            names.add(recipe.getName());
+        }
+        return names;
+    }
+}
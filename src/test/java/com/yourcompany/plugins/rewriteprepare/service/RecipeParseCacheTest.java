@@ -0,0 +1,146 @@
+package com.yourcompany.plugins.rewriteprepare.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.maven.execution.MavenSession;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.yourcompany.plugins.RewritePrepareMojo;
+import com.yourcompany.plugins.rewriteprepare.model.Recipe;
+
+/**
+ * RecipeParseCache 클래스의 테스트
+ * 파싱 결과 캐시와 복사본 격리를 테스트합니다.
+ */
+class RecipeParseCacheTest {
+
+    private CountingYamlParser yamlParser;
+    private RecipeParseCache parseCache;
+
+    @BeforeEach
+    void setUp() {
+        yamlParser = new CountingYamlParser();
+        parseCache = new RecipeParseCache(yamlParser);
+    }
+
+    @Test
+    void testSameFileIsParsedOnce(@TempDir Path tempDir) throws Exception {
+        File recipeFile = writeRecipeFile(tempDir, "com.example.Main");
+
+        YamlParser.RecipeParseResult first = parseCache.parse(recipeFile);
+        YamlParser.RecipeParseResult second = parseCache.parse(recipeFile);
+
+        assertEquals(1, yamlParser.parseCount.get());
+        assertEquals("com.example.Main", first.getRecipes().get(0).getName());
+        assertEquals("com.example.Main", second.getRecipes().get(0).getName());
+    }
+
+    @Test
+    void testReturnedResultsAreIsolated(@TempDir Path tempDir) throws Exception {
+        File recipeFile = writeRecipeFile(tempDir, "com.example.Main");
+
+        YamlParser.RecipeParseResult first = parseCache.parse(recipeFile);
+        first.getRecipes().get(0).getRecipeList().add(new Recipe("com.example.Added"));
+
+        YamlParser.RecipeParseResult second = parseCache.parse(recipeFile);
+
+        assertNotSame(first.getRecipes().get(0), second.getRecipes().get(0));
+        assertEquals(1, second.getRecipes().get(0).getRecipeList().size());
+    }
+
+    @Test
+    void testModifiedFileIsParsedAgain(@TempDir Path tempDir) throws Exception {
+        File recipeFile = writeRecipeFile(tempDir, "com.example.Main");
+        parseCache.parse(recipeFile);
+
+        writeRecipeFile(tempDir, "com.example.Changed");
+        recipeFile.setLastModified(recipeFile.lastModified() + 2000);
+
+        YamlParser.RecipeParseResult result = parseCache.parse(recipeFile);
+
+        assertEquals(2, yamlParser.parseCount.get());
+        assertEquals("com.example.Changed", result.getRecipes().get(0).getName());
+        assertEquals(1, parseCache.size(), "이전 버전의 캐시 항목은 제거되어야 합니다.");
+    }
+
+    @Test
+    void testConcurrentRequestsParseOnce(@TempDir Path tempDir) throws Exception {
+        File recipeFile = writeRecipeFile(tempDir, "com.example.Main");
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Callable<YamlParser.RecipeParseResult>> tasks = new ArrayList<>();
+            for (int i = 0; i < 32; i++) {
+                tasks.add(() -> parseCache.parse(recipeFile));
+            }
+            for (Future<YamlParser.RecipeParseResult> future : executor.invokeAll(tasks)) {
+                assertEquals("com.example.Main", future.get().getRecipes().get(0).getName());
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(1, yamlParser.parseCount.get());
+    }
+
+    @Test
+    void testForSessionReturnsSameCache() {
+        Object session = new Object();
+
+        assertSame(RecipeParseCache.forSession(session, yamlParser), RecipeParseCache.forSession(session, yamlParser));
+        assertNotSame(RecipeParseCache.forSession(null, yamlParser), RecipeParseCache.forSession(null, yamlParser));
+    }
+
+    @Test
+    void testForSessionIsSharedAcrossClonedSessions() {
+        // Maven은 모듈마다 세션을 clone()하므로 세션 객체가 달라도 같은 캐시를 사용해야 함
+        MavenSession session = TestSessions.newSession();
+        MavenSession moduleSession = session.clone();
+        assertNotSame(session, moduleSession);
+
+        assertSame(RecipeParseCache.forSession(RewritePrepareMojo.sessionKey(session), yamlParser),
+                RecipeParseCache.forSession(RewritePrepareMojo.sessionKey(moduleSession), yamlParser));
+    }
+
+    private File writeRecipeFile(Path tempDir, String recipeName) throws IOException {
+        File recipeFile = tempDir.resolve("base.yml").toFile();
+        String yaml = "---\n" +
+                "type: specs.openrewrite.org/v1beta/recipe\n" +
+                "name: " + recipeName + "\n" +
+                "recipeList:\n" +
+                "  - com.example.Recipe1\n";
+        try (FileWriter writer = new FileWriter(recipeFile)) {
+            writer.write(yaml);
+        }
+        return recipeFile;
+    }
+
+    /**
+     * 실제 파싱 횟수를 세는 YamlParser
+     */
+    private static class CountingYamlParser extends YamlParser {
+        private final AtomicInteger parseCount = new AtomicInteger();
+
+        @Override
+        public RecipeParseResult parseRecipeFileWithMerge(File recipeFile) throws IOException {
+            parseCount.incrementAndGet();
+            return super.parseRecipeFileWithMerge(recipeFile);
+        }
+    }
+}
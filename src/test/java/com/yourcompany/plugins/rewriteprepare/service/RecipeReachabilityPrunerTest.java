@@ -0,0 +1,103 @@
+package com.yourcompany.plugins.rewriteprepare.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.yourcompany.plugins.rewriteprepare.model.Recipe;
+import com.yourcompany.plugins.rewriteprepare.model.RecipeCatalog;
+import com.yourcompany.plugins.rewriteprepare.model.RecipeDefinition;
+
+/**
+ * RecipeReachabilityPruner 클래스의 테스트
+ * 루트 recipe에서 도달할 수 있는 정의만 남기는지 테스트합니다.
+ */
+class RecipeReachabilityPrunerTest {
+
+    private final RecipeReachabilityPruner pruner = new RecipeReachabilityPruner();
+
+    @Test
+    void testKeepsRecipesReachableFromRoots() {
+        RecipeCatalog catalog = new RecipeCatalog(Arrays.asList(
+                definition("com.example.Unused", "com.example.UnusedChild"),
+                definition("com.example.Root", "com.example.Child", "org.openrewrite.java.format.AutoFormat"),
+                definition("com.example.UnusedChild"),
+                definition("com.example.Child", "com.example.GrandChild"),
+                definition("com.example.GrandChild")));
+
+        RecipeReachabilityPruner.PruneResult result = pruner.prune(catalog, Collections.singletonList("com.example.Root"));
+
+        assertEquals(Arrays.asList("com.example.Root", "com.example.Child", "com.example.GrandChild"),
+                names(result.getRecipes()));
+        assertEquals(Arrays.asList("com.example.Unused", "com.example.UnusedChild"), result.getRemoved());
+        assertEquals(Collections.emptyList(), result.getMissingRoots());
+        // 남은 정의는 같은 객체 (원본 문서를 그대로 출력)
+        assertSame(catalog.get(1), result.getRecipes().get(0));
+    }
+
+    @Test
+    void testFollowsPreconditionsAndCycles() {
+        RecipeDefinition root = definition("com.example.Root", "com.example.A");
+        Map<String, Object> precondition = new LinkedHashMap<>();
+        precondition.put("com.example.Precondition", Collections.singletonMap("version", "1.0"));
+        root.setPreconditions(new ArrayList<>(Collections.singletonList(precondition)));
+
+        RecipeCatalog catalog = new RecipeCatalog(Arrays.asList(
+                root,
+                definition("com.example.A", "com.example.B"),
+                definition("com.example.B", "com.example.A"),
+                definition("com.example.Precondition"),
+                definition("com.example.Other")));
+
+        RecipeReachabilityPruner.PruneResult result = pruner.prune(catalog,
+                Arrays.asList("com.example.Root", "com.example.Missing"));
+
+        assertEquals(Arrays.asList("com.example.Root", "com.example.A", "com.example.B", "com.example.Precondition"),
+                names(result.getRecipes()));
+        assertEquals(Collections.singletonList("com.example.Other"), result.getRemoved());
+        assertEquals(Collections.singletonList("com.example.Missing"), result.getMissingRoots());
+    }
+
+    @Test
+    void testKeepsAllDefinitionsWithReachableName() {
+        RecipeCatalog catalog = new RecipeCatalog(Arrays.asList(
+                definition("com.example.Root"),
+                definition("com.example.Root", "com.example.Child"),
+                definition("com.example.Child")));
+
+        RecipeReachabilityPruner.PruneResult result = pruner.prune(catalog, Collections.singletonList("com.example.Root"));
+
+        assertEquals(3, result.getRecipes().size());
+        assertEquals(Collections.emptyList(), result.getRemoved());
+    }
+
+    private static RecipeDefinition definition(String name, String... recipeList) {
+        RecipeDefinition definition = new RecipeDefinition();
+        definition.setType("specs.openrewrite.org/v1beta/recipe");
+        definition.setName(name);
+        if (recipeList.length > 0) {
+            List<Recipe> recipes = new ArrayList<>();
+            for (String recipe : recipeList) {
+                recipes.add(new Recipe(recipe));
+            }
+            definition.setRecipeList(recipes);
+        }
+        return definition;
+    }
+
+    private static List<String> names(List<RecipeDefinition> recipes) {
+        List<String> names = new ArrayList<>();
+        for (RecipeDefinition recipe : recipes) {
+            names.add(recipe.getName());
+        }
+        return names;
+    }
+}
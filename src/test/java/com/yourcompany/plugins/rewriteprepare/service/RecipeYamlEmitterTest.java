@@ -0,0 +1,294 @@
+package com.yourcompany.plugins.rewriteprepare.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.yourcompany.plugins.rewriteprepare.model.Recipe;
+import com.yourcompany.plugins.rewriteprepare.model.RecipeDefinition;
+
+/**
+ * RecipeYamlEmitter 클래스의 테스트
+ * emitter의 출력을 src/test/resources/yaml-emitter의 기대 결과 파일과 비교하고,
+ * Jackson(YamlParser.toYamlDocument)의 출력과도 바이트 단위로 같은지 비교합니다.
+ */
+class RecipeYamlEmitterTest {
+
+    private static final File GOLDEN_DIRECTORY = new File("src/test/resources/yaml-emitter");
+
+    private YamlParser yamlParser;
+
+    @BeforeEach
+    void setUp() {
+        yamlParser = new YamlParser();
+    }
+
+    @Test
+    void testSimpleRecipe() throws IOException {
+        RecipeDefinition recipe = recipe("com.example.RecipeA");
+        recipe.setDisplayName("Recipe A");
+        recipe.setDescription("Simple description.");
+        recipe.setTags(Arrays.asList("java", "migration"));
+        recipe.setRecipeList(new ArrayList<>(Arrays.asList(
+                new Recipe("org.openrewrite.java.format.AutoFormat"),
+                new Recipe("org.openrewrite.java.RemoveUnusedImports"))));
+
+        assertGolden("simple-recipe.yml", recipe);
+    }
+
+    @Test
+    void testRecipeAttributes() throws IOException {
+        Map<String, Object> attributes = new LinkedHashMap<>();
+        attributes.put("oldGroupId", "javax.servlet");
+        attributes.put("newVersion", "6.0.x");
+        attributes.put("count", 3);
+        attributes.put("size", 10_000_000_000L);
+        attributes.put("overrideManagedVersion", true);
+        attributes.put("addIfMissing", false);
+        attributes.put("empty", "");
+
+        RecipeDefinition recipe = recipe("com.example.Attributes");
+        recipe.setRecipeList(new ArrayList<>(Arrays.asList(
+                new Recipe("org.openrewrite.maven.ChangeDependencyGroupIdAndArtifactId", attributes),
+                new Recipe("org.openrewrite.java.format.AutoFormat"))));
+
+        assertGolden("recipe-attributes.yml", recipe);
+    }
+
+    @Test
+    void testQuotedValues() throws IOException {
+        Map<String, Object> attributes = new LinkedHashMap<>();
+        for (String value : Arrays.asList("true", "No", "null", "~", "123", "1.5", "0x1F", "-", "a: b", "a #b",
+                "a,b", "[x]", "{x}", "@Annotation", "`tick`", "%percent", "!tag", "&anchor", "|pipe", ">fold",
+                "?question", "'single'", "\"double\"", "trailing ", "tab\there", "bell\u0007", "nbsp here",
+                "java.util.List<String>", "*.java", "**/*.xml", "$ {var}", "${var}", "a:b", "key:", "- item")) {
+            attributes.put("k" + attributes.size(), value);
+        }
+
+        RecipeDefinition recipe = recipe("com.example.Quoted");
+        List<Recipe> recipeList = new ArrayList<>();
+        recipeList.add(new Recipe("org.openrewrite.text.FindAndReplace", attributes));
+        recipe.setRecipeList(recipeList);
+
+        assertGolden("quoted-values.yml", recipe);
+        assertEachValue(recipe);
+    }
+
+    @Test
+    void testQuotedKeys() throws IOException {
+        Map<String, Object> attributes = new LinkedHashMap<>();
+        for (String key : Arrays.asList("yes", "1st", "-dash", "+plus", ".dot", "with space", "a: b", "tab\tkey",
+                "@key", "*.java", "한글키")) {
+            attributes.put(key, "value");
+        }
+
+        RecipeDefinition recipe = recipe("com.example.QuotedKeys");
+        List<Recipe> recipeList = new ArrayList<>();
+        recipeList.add(new Recipe("org.openrewrite.Recipe", attributes));
+        recipe.setRecipeList(recipeList);
+
+        assertGolden("quoted-keys.yml", recipe);
+        assertEachValue(recipe);
+    }
+
+    @Test
+    void testLongTextWraps() throws IOException {
+        StringBuilder plain = new StringBuilder();
+        StringBuilder quoted = new StringBuilder("true:");
+        for (int i = 0; i < 40; i++) {
+            plain.append("word").append(i).append(' ');
+            quoted.append(" quoted\tword").append(i);
+        }
+        StringBuilder singleQuoted = new StringBuilder("*.java");
+        for (int i = 0; i < 40; i++) {
+            singleQuoted.append(" it's").append(i);
+        }
+
+        RecipeDefinition recipe = recipe("com.example.LongText");
+        recipe.setDisplayName(plain.toString().trim());
+        recipe.setDescription(quoted.toString());
+        recipe.setTags(Arrays.asList(plain.toString().trim(), "no-space-" + repeat('x', 120)));
+
+        Map<String, Object> attributes = new LinkedHashMap<>();
+        attributes.put("plain", plain.toString().trim());
+        attributes.put("quoted", quoted.toString());
+        attributes.put("doubleSpace", "first  second " + plain);
+        attributes.put("singleQuoted", singleQuoted.toString());
+        recipe.setRecipeList(new ArrayList<>(Collections.singletonList(
+                new Recipe("org.openrewrite.Recipe", attributes))));
+
+        assertGolden("long-text.yml", recipe);
+        assertEachValue(recipe);
+    }
+
+    @Test
+    void testUnicodeText() throws IOException {
+        RecipeDefinition recipe = recipe("com.example.한글Recipe");
+        recipe.setDisplayName("한글 표시 이름");
+        recipe.setDescription("이모지 🚀 와 한글 설명, 그리고 줄 나눔 확인을 위한 긴 문장입니다. "
+                + "긴 문장은 80열을 넘으면 공백에서 나뉘어야 합니다.");
+        recipe.setTags(Arrays.asList("태그", "🚀", "bom﻿"));
+
+        assertGolden("unicode-text.yml", recipe);
+        assertEachValue(recipe);
+    }
+
+    @Test
+    void testOptionalFields() throws IOException {
+        RecipeDefinition first = recipe("com.example.Optional");
+        first.setEstimatedEffortPerOccurrence("PT5M");
+        first.setCausesAnotherCycle(false);
+
+        RecipeDefinition second = recipe("com.example.Optional");
+        second.setEstimatedEffortPerOccurrence("PT5M");
+        second.setCausesAnotherCycle(true);
+        second.setDisplayName("");
+        second.setTags(Arrays.asList("", "tag"));
+
+        assertGolden("optional-fields.yml", first, second);
+    }
+
+    @Test
+    void testTestProjectRecipes() throws IOException {
+        File recipeDir = new File("src/test/resources/test-project/migration-ci/recipes");
+        File[] recipeFiles = recipeDir.listFiles((dir, name) -> name.endsWith(".yml"));
+        assertTrue(recipeFiles != null && recipeFiles.length > 0);
+
+        for (File recipeFile : recipeFiles) {
+            List<RecipeDefinition> recipes = yamlParser.parseRecipeFile(recipeFile);
+            assertGolden("test-project/" + recipeFile.getName(), recipes.toArray(new RecipeDefinition[0]));
+        }
+    }
+
+    @Test
+    void testUnsupportedValuesFallBack() throws IOException {
+        List<RecipeDefinition> unsupported = new ArrayList<>();
+
+        RecipeDefinition withPreconditions = recipe("com.example.Preconditions");
+        withPreconditions.setPreconditions(new ArrayList<>(Collections.singletonList("org.openrewrite.FindSourceFiles")));
+        unsupported.add(withPreconditions);
+
+        RecipeDefinition multiline = recipe("com.example.Multiline");
+        multiline.setDescription("first line\nsecond line");
+        unsupported.add(multiline);
+
+        RecipeDefinition lineSeparator = recipe("com.example.LineSeparator");
+        lineSeparator.setTags(Collections.singletonList("line separator"));
+        unsupported.add(lineSeparator);
+
+        Map<String, Object> nested = new LinkedHashMap<>();
+        nested.put("filePattern", Arrays.asList("*.java", "*.kt"));
+        RecipeDefinition nestedAttributes = recipe("com.example.Nested");
+        nestedAttributes.setRecipeList(new ArrayList<>(Collections.singletonList(
+                new Recipe("org.openrewrite.Recipe", nested))));
+        unsupported.add(nestedAttributes);
+
+        RecipeYamlEmitter emitter = new RecipeYamlEmitter(16);
+        byte[] head = "---\nname: head\n".getBytes(StandardCharsets.UTF_8);
+        emitter.append(head);
+        for (RecipeDefinition recipe : unsupported) {
+            assertFalse(emitter.emit(recipe), recipe.getName());
+            // 실패한 recipe의 일부가 버퍼에 남지 않아야 함
+            assertEquals(new String(head, StandardCharsets.UTF_8), contentOf(emitter));
+        }
+    }
+
+    @Test
+    void testWriteRecipesUsesEmitterOutput(@TempDir Path tempDir) throws IOException {
+        RecipeDefinition fast = recipe("com.example.Fast");
+        fast.setRecipeList(new ArrayList<>(Collections.singletonList(new Recipe("org.openrewrite.Recipe"))));
+        RecipeDefinition fallback = recipe("com.example.Fallback");
+        fallback.setDescription("first line\nsecond line");
+
+        File outputFile = tempDir.resolve("out/rewrite.yml").toFile();
+        yamlParser.writeRecipes(Arrays.asList(fast, fallback), outputFile);
+
+        String expected = new String(yamlParser.toYamlDocument(fast), StandardCharsets.UTF_8)
+                + new String(yamlParser.toYamlDocument(fallback), StandardCharsets.UTF_8);
+        assertEquals(expected, new String(Files.readAllBytes(outputFile.toPath()), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * emitter가 recipe들을 모두 작성할 수 있어야 하며, 결과가 기대 결과 파일 및 Jackson의 출력과 같아야 합니다.
+     */
+    private void assertGolden(String goldenFile, RecipeDefinition... recipes) throws IOException {
+        RecipeYamlEmitter emitter = new RecipeYamlEmitter(64);
+        StringBuilder jackson = new StringBuilder();
+        for (RecipeDefinition recipe : recipes) {
+            assertTrue(emitter.emit(recipe), "emitter가 작성하지 못함: " + recipe.getName());
+            jackson.append(new String(yamlParser.toYamlDocument(recipe), StandardCharsets.UTF_8));
+        }
+
+        String expected = new String(Files.readAllBytes(new File(GOLDEN_DIRECTORY, goldenFile).toPath()),
+                StandardCharsets.UTF_8);
+        assertEquals(expected, contentOf(emitter), goldenFile);
+        assertEquals(jackson.toString(), contentOf(emitter), goldenFile);
+    }
+
+    /**
+     * attribute 값과 tag를 하나씩 따로 작성해도 emitter가 작성할 수 있어야 하며, 결과가 Jackson의 출력과 같아야 합니다.
+     * 값마다 따옴표 형식과 줄 나눔 위치가 달라지므로, 한 값의 오류가 다른 값에 가려지지 않도록 따로 비교합니다.
+     */
+    private void assertEachValue(RecipeDefinition recipe) throws IOException {
+        for (Recipe item : recipe.getRecipeList() != null ? recipe.getRecipeList() : Collections.<Recipe>emptyList()) {
+            if (item.getAttributes() == null) {
+                continue;
+            }
+            for (Map.Entry<String, Object> attribute : item.getAttributes().entrySet()) {
+                Map<String, Object> single = new LinkedHashMap<>();
+                single.put(attribute.getKey(), attribute.getValue());
+                RecipeDefinition singleRecipe = recipe(recipe.getName());
+                singleRecipe.setRecipeList(new ArrayList<>(Collections.singletonList(new Recipe(item.getName(), single))));
+                assertSameAsJackson(singleRecipe, attribute.getKey() + " = " + attribute.getValue());
+            }
+        }
+        for (String tag : recipe.getTags() != null ? recipe.getTags() : Collections.<String>emptyList()) {
+            RecipeDefinition singleRecipe = recipe(recipe.getName());
+            singleRecipe.setTags(Collections.singletonList(tag));
+            assertSameAsJackson(singleRecipe, "tag " + tag);
+        }
+    }
+
+    private void assertSameAsJackson(RecipeDefinition recipe, String message) throws IOException {
+        RecipeYamlEmitter emitter = new RecipeYamlEmitter(64);
+        assertTrue(emitter.emit(recipe), "emitter가 작성하지 못함: " + message);
+        assertEquals(new String(yamlParser.toYamlDocument(recipe), StandardCharsets.UTF_8), contentOf(emitter), message);
+    }
+
+    private static RecipeDefinition recipe(String name) {
+        RecipeDefinition recipe = new RecipeDefinition();
+        recipe.setType("specs.openrewrite.org/v1beta/recipe");
+        recipe.setName(name);
+        return recipe;
+    }
+
+    private static String contentOf(RecipeYamlEmitter emitter) {
+        ByteBuffer buffer = emitter.toByteBuffer();
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static String repeat(char c, int count) {
+        char[] chars = new char[count];
+        Arrays.fill(chars, c);
+        return new String(chars);
+    }
+}
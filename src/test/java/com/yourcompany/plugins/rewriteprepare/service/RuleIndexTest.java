@@ -0,0 +1,133 @@
+package com.yourcompany.plugins.rewriteprepare.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import com.yourcompany.plugins.rewriteprepare.model.ProjectCoordinate;
+import com.yourcompany.plugins.rewriteprepare.model.Rule;
+
+/**
+ * RuleIndex 클래스의 테스트
+ * 인덱스 조회 결과가 전체 규칙을 PatternMatcher로 검사한 결과와 같은지 테스트합니다.
+ */
+class RuleIndexTest {
+
+    private Rule rule(String groupId, String artifactId) {
+        Rule rule = new Rule();
+        rule.setGroupId(groupId);
+        rule.setArtifactId(artifactId);
+        return rule;
+    }
+
+    private List<Rule> bruteForce(List<Rule> rules, String groupId, String artifactId) {
+        return rules.stream()
+                .filter(rule -> PatternMatcher.matches(rule.getGroupId(), groupId)
+                        && PatternMatcher.matches(rule.getArtifactId(), artifactId))
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    void testMatchPreservesRuleOrder() {
+        List<Rule> rules = Arrays.asList(
+                rule(null, "*-service"),
+                rule("com.example", "my-service"),
+                rule("com.example.*", "*"),
+                rule(null, "my-*"),
+                rule("*", "*"),
+                rule("com.other", "my-service"));
+
+        List<Rule> matched = new RuleIndex(rules).match("com.example", "my-service");
+
+        assertEquals(Arrays.asList(rules.get(0), rules.get(1), rules.get(3), rules.get(4)), matched);
+    }
+
+    @Test
+    void testPatternKinds() {
+        List<Rule> rules = Arrays.asList(
+                rule(null, "my-service"),
+                rule(null, "com.example.*"),
+                rule(null, "*-api"),
+                rule(null, "my-*-svc"),
+                rule(null, "svc-?"),
+                rule(null, "a, b ,*-web"),
+                rule(null, "c++-lib"),
+                rule("com.example.*", null),
+                rule("*.legacy", "*"),
+                rule(null, "other,*"),
+                rule(null, "**"));
+        List<String> groupIds = Arrays.asList("com.example", "com.example.core", "org.legacy", "org.other", null);
+        List<String> artifactIds = Arrays.asList("my-service", "com.example.core", "user-api", "my-app-svc",
+                "svc-1", "svc-12", "a", "b", "shop-web", "c++-lib", "cc-lib", "", "-api", null);
+
+        RuleIndex index = new RuleIndex(rules);
+        for (String groupId : groupIds) {
+            for (String artifactId : artifactIds) {
+                assertEquals(bruteForce(rules, groupId, artifactId), index.match(groupId, artifactId),
+                        "groupId=" + groupId + ", artifactId=" + artifactId);
+            }
+        }
+    }
+
+    @Test
+    void testLargeRuleSet() {
+        List<Rule> rules = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            switch (i % 4) {
+                case 0:
+                    rules.add(rule(null, "service-" + i));
+                    break;
+                case 1:
+                    rules.add(rule("com.team" + i + ".*", "*"));
+                    break;
+                case 2:
+                    rules.add(rule(null, "*-module-" + i));
+                    break;
+                default:
+                    rules.add(rule(null, "app-" + i + "-*-svc"));
+                    break;
+            }
+        }
+
+        RuleIndex index = new RuleIndex(rules);
+        assertEquals(5000, index.size());
+        assertEquals(bruteForce(rules, "com.team1.core", "service-4"), index.match("com.team1.core", "service-4"));
+        assertEquals(bruteForce(rules, "org.x", "x-module-2"), index.match("org.x", "x-module-2"));
+        assertEquals(bruteForce(rules, "org.x", "app-3-core-svc"), index.match("org.x", "app-3-core-svc"));
+        assertTrue(index.match("org.x", "unknown").isEmpty());
+    }
+
+    @Test
+    void testMatchAllAndGroupByRuleSet() {
+        List<Rule> rules = Arrays.asList(
+                rule(null, "*-service"),
+                rule("com.example", "order-*"),
+                rule(null, "*-batch"));
+        ProjectCoordinate orderService = new ProjectCoordinate("com.example", "order-service");
+        ProjectCoordinate userService = new ProjectCoordinate("com.example", "user-service");
+        ProjectCoordinate paymentService = new ProjectCoordinate("com.other", "payment-service");
+        ProjectCoordinate orderBatch = new ProjectCoordinate("com.example", "order-batch");
+        ProjectCoordinate web = new ProjectCoordinate("com.example", "web");
+
+        RuleIndex index = new RuleIndex(rules);
+        Map<ProjectCoordinate, List<Rule>> matches = index.matchAll(
+                Arrays.asList(orderService, userService, paymentService, orderBatch, web, userService));
+
+        assertEquals(5, matches.size());
+        assertEquals(Arrays.asList(rules.get(0), rules.get(1)), matches.get(orderService));
+        assertEquals(Arrays.asList(rules.get(1), rules.get(2)), matches.get(orderBatch));
+        assertTrue(matches.get(web).isEmpty());
+
+        Map<List<Rule>, List<ProjectCoordinate>> groups = RuleIndex.groupByRuleSet(matches);
+        assertEquals(4, groups.size());
+        assertEquals(Arrays.asList(userService, paymentService), groups.get(Arrays.asList(rules.get(0))));
+        assertEquals(Arrays.asList(orderService), groups.get(Arrays.asList(rules.get(0), rules.get(1))));
+    }
+}
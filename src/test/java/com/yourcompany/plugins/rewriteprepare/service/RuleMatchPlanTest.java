@@ -0,0 +1,80 @@
+package com.yourcompany.plugins.rewriteprepare.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.apache.maven.execution.MavenSession;
+import org.junit.jupiter.api.Test;
+
+import com.yourcompany.plugins.RewritePrepareMojo;
+import com.yourcompany.plugins.rewriteprepare.model.ProjectCoordinate;
+import com.yourcompany.plugins.rewriteprepare.model.Rule;
+
+/**
+ * RuleMatchPlan 클래스의 테스트
+ * reactor 전체 매칭 결과의 세션 공유를 테스트합니다.
+ */
+class RuleMatchPlanTest {
+
+    private Rule rule(String artifactId) {
+        Rule rule = new Rule();
+        rule.setArtifactId(artifactId);
+        return rule;
+    }
+
+    @Test
+    void testPlanIsSharedPerSessionAndRulesKey() {
+        Object session = new Object();
+        List<Rule> rules = Arrays.asList(rule("*-service"));
+        List<ProjectCoordinate> projects = Arrays.asList(
+                new ProjectCoordinate("com.example", "order-service"),
+                new ProjectCoordinate("com.example", "user-service"));
+
+        RuleMatchPlan first = RuleMatchPlan.forSession(session, "rules@1", rules, () -> projects);
+        RuleMatchPlan second = RuleMatchPlan.forSession(session, "rules@1", Collections.emptyList(), () -> {
+            throw new AssertionError("계획이 이미 있으면 프로젝트 목록을 구하지 않아야 합니다.");
+        });
+        RuleMatchPlan changed = RuleMatchPlan.forSession(session, "rules@2", rules, () -> projects);
+
+        assertSame(first, second);
+        assertNotSame(first, changed);
+        assertEquals(rules, second.getMatchedRules("com.example", "user-service"));
+        assertEquals(projects, second.getProjectsSharingRules("com.example", "order-service"));
+    }
+
+    @Test
+    void testPlanIsSharedAcrossClonedSessions() {
+        // Maven은 모듈마다 세션을 clone()하므로 세션 객체가 달라도 같은 계획을 사용해야 함
+        MavenSession session = TestSessions.newSession();
+        MavenSession moduleSession = session.clone();
+        List<Rule> rules = Arrays.asList(rule("*-service"));
+        AtomicInteger computed = new AtomicInteger();
+        Supplier<List<ProjectCoordinate>> projects = () -> {
+            computed.incrementAndGet();
+            return Collections.singletonList(new ProjectCoordinate("com.example", "order-service"));
+        };
+
+        RuleMatchPlan first = RuleMatchPlan.forSession(RewritePrepareMojo.sessionKey(session), "rules@1", rules, projects);
+        RuleMatchPlan second = RuleMatchPlan.forSession(RewritePrepareMojo.sessionKey(moduleSession), "rules@1", rules, projects);
+
+        assertSame(first, second);
+        assertEquals(1, computed.get());
+    }
+
+    @Test
+    void testCoordinateOutsidePlanFallsBackToIndex() {
+        List<Rule> rules = Arrays.asList(rule("*-service"));
+        RuleMatchPlan plan = new RuleMatchPlan(rules, Collections.emptyList());
+
+        assertEquals(rules, plan.getMatchedRules("com.example", "cli-service"));
+        assertTrue(plan.getProjectsSharingRules("com.example", "cli-service").isEmpty());
+    }
+}
@@ -0,0 +1,93 @@
+package com.yourcompany.plugins.rewriteprepare.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * SharedWorkerPool 클래스의 테스트
+ * 작업 순서, 동시 실행 수 제한, 중첩 호출을 테스트합니다.
+ */
+class SharedWorkerPoolTest {
+
+    @Test
+    void testResultsAreInTaskOrder() throws Exception {
+        List<Callable<Integer>> tasks = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            int value = i;
+            tasks.add(() -> value);
+        }
+        tasks.add(() -> {
+            throw new IOException("실패");
+        });
+
+        List<Future<Integer>> futures = SharedWorkerPool.invokeAll(tasks, 4);
+
+        for (int i = 0; i < 50; i++) {
+            assertEquals(i, futures.get(i).get());
+        }
+        ExecutionException error = assertThrows(ExecutionException.class, () -> futures.get(50).get());
+        assertTrue(error.getCause() instanceof IOException);
+    }
+
+    @Test
+    void testConcurrencyIsLimitedByParallelism() throws Exception {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            tasks.add(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                Thread.sleep(5);
+                running.decrementAndGet();
+                return null;
+            });
+        }
+
+        for (Future<Void> future : SharedWorkerPool.invokeAll(tasks, 2)) {
+            future.get();
+        }
+
+        assertTrue(maxRunning.get() <= 2, "동시 실행 수: " + maxRunning.get());
+    }
+
+    @Test
+    void testNestedCallsDoNotDeadlock() {
+        assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+            // 풀의 스레드 수보다 많은 작업이 각각 다시 병렬 작업을 요청해도 끝나야 함
+            int outerCount = Runtime.getRuntime().availableProcessors() * 4;
+            List<Callable<Integer>> outer = new ArrayList<>();
+            for (int i = 0; i < outerCount; i++) {
+                outer.add(() -> {
+                    List<Callable<Integer>> inner = new ArrayList<>();
+                    for (int j = 0; j < 8; j++) {
+                        inner.add(() -> 1);
+                    }
+                    int sum = 0;
+                    for (Future<Integer> future : SharedWorkerPool.invokeAll(inner, 8)) {
+                        sum += future.get();
+                    }
+                    return sum;
+                });
+            }
+
+            int total = 0;
+            for (Future<Integer> future : SharedWorkerPool.invokeAll(outer, outerCount)) {
+                total += future.get();
+            }
+            assertEquals(outerCount * 8, total);
+        });
+    }
+}
@@ -0,0 +1,23 @@
+package com.yourcompany.plugins.rewriteprepare.service;
+
+import org.apache.maven.execution.DefaultMavenExecutionRequest;
+import org.apache.maven.execution.DefaultMavenExecutionResult;
+import org.apache.maven.execution.MavenSession;
+
+/**
+ * 테스트용 MavenSession을 생성하는 클래스
+ */
+public final class TestSessions {
+
+    private TestSessions() {
+    }
+
+    /**
+     * 빈 실행 요청을 가진 빌드 세션을 생성합니다.
+     * maven-core의 MavenSession 생성자는 모두 deprecated이므로 경고는 여기에서만 억제합니다.
+     */
+    @SuppressWarnings("deprecation")
+    public static MavenSession newSession() {
+        return new MavenSession(null, null, new DefaultMavenExecutionRequest(), new DefaultMavenExecutionResult());
+    }
+}
@@ -7,6 +7,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
@@ -203,5 +204,103 @@ class VariableReplacerTest {
         assertTrue(result.contains("${unknown.var}"), "${unknown.var}가 원본으로 유지되어야 합니다. result: " + result);
         assertTrue(!result.contains("${app.name}"), "${app.name}가 제거되어야 합니다. result: " + result);
     }
-}
 
+    @Test
+    void testCountsEachReplacement(@TempDir Path tempDir) throws IOException {
+        loadVariables(tempDir, "app.name=MyApplication\n" +
+                "app.version=1.0.0\n");
+
+        File recipeFile = writeRecipe(tempDir, "name: ${app.name}\n" +
+                "version: $app.version\n" +
+                "description: ${app.name} $app.name ${unknown.var} $unknown\n");
+
+        assertEquals(4, variableReplacer.replaceVariablesInFile(recipeFile));
+        assertEquals("name: MyApplication\n" +
+                "version: 1.0.0\n" +
+                "description: MyApplication MyApplication ${unknown.var} $unknown\n", read(recipeFile));
+    }
+
+    @Test
+    void testNoReplacementLeavesFileUnchanged(@TempDir Path tempDir) throws IOException {
+        loadVariables(tempDir, "app.name=MyApplication\n");
+
+        String recipeContent = "price: $$ 100\n" +
+                "invalid: ${app name} ${1app} $1app ${app.name\n" +
+                "end: $\n";
+        File recipeFile = writeRecipe(tempDir, recipeContent);
+
+        assertEquals(0, variableReplacer.replaceVariablesInFile(recipeFile));
+        assertEquals(recipeContent, read(recipeFile));
+    }
+
+    @Test
+    void testLongestVariableAtWordBoundary(@TempDir Path tempDir) throws IOException {
+        loadVariables(tempDir, "app=App\n" +
+                "app.name=MyApplication\n" +
+                "ap=Ap\n");
+
+        File recipeFile = writeRecipe(tempDir, "a: $app.name\n" +
+                "b: $app.version\n" +
+                "c: $apple\n" +
+                "d: $app.name.\n" +
+                "e: $$app\n");
+
+        assertEquals(4, variableReplacer.replaceVariablesInFile(recipeFile));
+        // $apple: app, ap 모두 단어 경계에서 끝나지 않으므로 치환하지 않음
+        assertEquals("a: MyApplication\n" +
+                "b: App.version\n" +
+                "c: $apple\n" +
+                "d: MyApplication.\n" +
+                "e: $App\n", read(recipeFile));
+    }
+
+    @Test
+    void testReplacedValueIsNotScannedAgain(@TempDir Path tempDir) throws IOException {
+        loadVariables(tempDir, "greeting=Hello $user ${user}\n" +
+                "user=admin\n");
+
+        File recipeFile = writeRecipe(tempDir, "message: ${greeting}, $user\n");
+
+        assertEquals(2, variableReplacer.replaceVariablesInFile(recipeFile));
+        assertEquals("message: Hello $user ${user}, admin\n", read(recipeFile));
+    }
+
+    @Test
+    void testLargeVariableMap(@TempDir Path tempDir) throws IOException {
+        StringBuilder properties = new StringBuilder();
+        StringBuilder recipeContent = new StringBuilder();
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            properties.append("module").append(i).append(".name=Module").append(i).append('\n');
+        }
+        for (int i = 0; i < 5000; i += 7) {
+            recipeContent.append("- ${module").append(i).append(".name} $module").append(i).append(".name\n");
+            expected.append("- Module").append(i).append(" Module").append(i).append('\n');
+        }
+        loadVariables(tempDir, properties.toString());
+        assertEquals(5000, variableReplacer.getVariableCount());
+
+        File recipeFile = writeRecipe(tempDir, recipeContent.toString());
+
+        assertEquals(2 * ((5000 + 6) / 7), variableReplacer.replaceVariablesInFile(recipeFile));
+        assertEquals(expected.toString(), read(recipeFile));
+    }
+
+    private void loadVariables(Path tempDir, String propertiesContent) throws IOException {
+        File varMapFile = tempDir.resolve("var-map.properties").toFile();
+        try (FileWriter writer = new FileWriter(varMapFile)) {
+            writer.write(propertiesContent);
+        }
+        variableReplacer.loadVariableMap(varMapFile);
+    }
+
+    private static File writeRecipe(Path tempDir, String recipeContent) throws IOException {
+        File recipeFile = tempDir.resolve("recipe.yml").toFile();
+        Files.write(recipeFile.toPath(), recipeContent.getBytes(StandardCharsets.UTF_8));
+        return recipeFile;
+    }
+
+    private static String read(File file) throws IOException {
+        return new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+    }
+}
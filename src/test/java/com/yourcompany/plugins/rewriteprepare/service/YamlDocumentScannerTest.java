@@ -0,0 +1,114 @@
+package com.yourcompany.plugins.rewriteprepare.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * YamlDocumentScanner 클래스의 테스트
+ * 문서 경계 탐색과 구간 분할을 테스트합니다.
+ */
+class YamlDocumentScannerTest {
+
+    @Test
+    void testSplitAtDocumentStarts() {
+        String content = "---\n" +
+                "name: a\n" +
+                "---\n" +
+                "name: b\n" +
+                "--- \n" +
+                "name: c\n";
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+
+        List<YamlDocumentScanner.Chunk> chunks = YamlDocumentScanner.split(bytes, 3);
+        assertEquals(3, chunks.size());
+        assertEquals(0, chunks.get(0).getStart());
+        assertEquals(0, chunks.get(0).getStartLine());
+        assertEquals(content.indexOf("---\nname: b"), chunks.get(1).getStart());
+        assertEquals(2, chunks.get(1).getStartLine());
+        assertEquals(content.indexOf("--- \n"), chunks.get(2).getStart());
+        assertEquals(4, chunks.get(2).getStartLine());
+        assertEquals(bytes.length, chunks.get(2).getEnd());
+    }
+
+    @Test
+    void testIgnoresDashesThatAreNotDocumentStarts() {
+        String content = "---\n" +
+                "description: \"---\"\n" +
+                "recipeList:\n" +
+                "  ---\n" +
+                "----\n" +
+                "---name\n";
+
+        List<YamlDocumentScanner.Chunk> chunks = YamlDocumentScanner.split(content.getBytes(StandardCharsets.UTF_8), 4);
+        assertEquals(1, chunks.size());
+        assertEquals(0, chunks.get(0).getStart());
+        assertEquals(content.length(), chunks.get(0).getEnd());
+    }
+
+    @Test
+    void testChunkCountIsLimited() {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            content.append("---\nname: recipe").append(i).append('\n');
+        }
+        byte[] bytes = content.toString().getBytes(StandardCharsets.UTF_8);
+
+        List<YamlDocumentScanner.Chunk> chunks = YamlDocumentScanner.split(bytes, 4);
+        assertEquals(4, chunks.size());
+        // 구간은 빈틈없이 이어져야 함
+        int position = 0;
+        for (YamlDocumentScanner.Chunk chunk : chunks) {
+            assertEquals(position, chunk.getStart());
+            position = chunk.getEnd();
+        }
+        assertEquals(bytes.length, position);
+    }
+
+    @Test
+    void testDirectivesAreNotSplit() {
+        String content = "%YAML 1.2\n" +
+                "---\n" +
+                "name: a\n" +
+                "---\n" +
+                "name: b\n";
+
+        assertNull(YamlDocumentScanner.split(content.getBytes(StandardCharsets.UTF_8), 4));
+    }
+
+    @Test
+    void testUtf16IsNotSplit() {
+        byte[] bytes = "---\nname: a\n---\nname: b\n".getBytes(StandardCharsets.UTF_16);
+
+        assertNull(YamlDocumentScanner.split(bytes, 4));
+    }
+
+    @Test
+    void testDocumentIndexOfLine() {
+        // 단독 \r과 U+2028도 줄바꿈으로 셈
+        String content = "# comment\n" +
+                "name: implicit\r" +
+                "---\n" +
+                "name: a\u2028" +
+                "--- {name: b}\r\n" +
+                "...\n";
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+
+        YamlDocumentScanner.DocumentBoundaries boundaries = YamlDocumentScanner.scan(bytes);
+        assertEquals(2, boundaries.size());
+        assertTrue(boundaries.hasDocumentEndMarker());
+        assertEquals(-1, boundaries.documentIndexOfLine(1));
+        assertEquals(0, boundaries.documentIndexOfLine(3));
+        assertEquals(1, boundaries.documentIndexOfLine(4));
+        assertEquals(content.indexOf("---\n"), boundaries.documentStart(0));
+        // U+2028은 UTF-8로 3 bytes
+        assertEquals(content.indexOf("--- {") + 2, boundaries.documentEnd(0));
+        assertEquals(bytes.length, boundaries.documentEnd(1));
+    }
+}
+
@@ -1,5 +1,6 @@
 package com.yourcompany.plugins.rewriteprepare.service;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -7,7 +8,11 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -15,9 +20,12 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import com.yourcompany.plugins.rewriteprepare.model.MergeRecipeDefinition;
 import com.yourcompany.plugins.rewriteprepare.model.MergeRules;
 import com.yourcompany.plugins.rewriteprepare.model.Recipe;
 import com.yourcompany.plugins.rewriteprepare.model.RecipeDefinition;
+import com.yourcompany.plugins.rewriteprepare.model.UpdateEntry;
+import com.yourcompany.plugins.rewriteprepare.model.UpdateRecipeList;
 
 /**
  * YamlParser 클래스의 테스트
@@ -343,5 +351,242 @@ class YamlParserTest {
         assertTrue(!fileContent.contains("recipeList:"), 
                    "recipeList가 empty list이면 출력되지 않아야 합니다.");
     }
-}
 
+    @Test
+    void testParseSkipsInvalidAndNonRecipeDocuments(@TempDir Path tempDir) throws IOException {
+        File recipeFile = tempDir.resolve("mixed.yml").toFile();
+        String yamlContent = "---\n" +
+                "type: specs.openrewrite.org/v1beta/style\n" +
+                "name: com.example.Style\n" +
+                "styleConfigs:\n" +
+                "  - org.openrewrite.java.style.TabsAndIndentsStyle:\n" +
+                "      useTabCharacter: true\n" +
+                "---\n" +
+                "type: specs.openrewrite.org/v1beta/recipe\n" +
+                "name: com.example.Unknown\n" +
+                "unknownField:\n" +
+                "  nested: [1, 2]\n" +
+                "recipeList:\n" +
+                "  - com.example.Skipped\n" +
+                "---\n" +
+                "just a scalar\n" +
+                "---\n" +
+                "name: com.example.TypeLast\n" +
+                "recipeList:\n" +
+                "  - com.example.Step:\n" +
+                "      count: 3\n" +
+                "  - {a: 1, b: 2}\n" +
+                "type: specs.openrewrite.org/v1beta/recipe\n";
+
+        try (FileWriter writer = new FileWriter(recipeFile)) {
+            writer.write(yamlContent);
+        }
+
+        YamlParser.RecipeParseResult result = yamlParser.parseRecipeFileWithMerge(recipeFile);
+        assertEquals(1, result.getRecipes().size());
+        RecipeDefinition recipe = result.getRecipes().get(0);
+        assertEquals("com.example.TypeLast", recipe.getName());
+        assertEquals("specs.openrewrite.org/v1beta/recipe", recipe.getType());
+        // 키가 여러 개인 항목은 무시
+        assertEquals(1, recipe.getRecipeList().size());
+        assertEquals(3, recipe.getRecipeList().get(0).getAttributes().get("count"));
+    }
+
+    @Test
+    void testParseMergeDefinition(@TempDir Path tempDir) throws IOException {
+        File recipeFile = tempDir.resolve("merge.yml").toFile();
+        String yamlContent = "---\n" +
+                "type: org.yourcompany.openrewrite/v1/merge\n" +
+                "name: merge rules\n" +
+                "ignored: true\n" +
+                "rules:\n" +
+                "  - updateRecipeList:\n" +
+                "      name: com.example.Main\n" +
+                "      updateOrder:\n" +
+                "        - first:\n" +
+                "          - com.example.Recipe1\n" +
+                "        - after:\n" +
+                "          - com.example.Recipe3:\n" +
+                "            - com.example.Recipe9\n" +
+                "        - first:\n" +
+                "          - com.example.Recipe11\n";
+
+        try (FileWriter writer = new FileWriter(recipeFile)) {
+            writer.write(yamlContent);
+        }
+
+        YamlParser.RecipeParseResult result = yamlParser.parseRecipeFileWithMerge(recipeFile);
+        assertTrue(result.getRecipes().isEmpty());
+        assertEquals(1, result.getMergeDefinitions().size());
+        MergeRecipeDefinition mergeDef = result.getMergeDefinitions().get(0);
+        assertEquals("merge rules", mergeDef.getName());
+        UpdateRecipeList.UpdateOrder updateOrder = mergeDef.getRules().get(0).getUpdateOrder();
+        // 나중에 나온 first가 우선
+        assertEquals(Arrays.asList("com.example.Recipe11"), updateOrder.getFirst().get(0).getValues());
+        assertEquals("com.example.Recipe3", updateOrder.getAfter().get(0).getKey());
+        assertEquals(Arrays.asList("com.example.Recipe9"), updateOrder.getAfter().get(0).getValues());
+    }
+
+    @Test
+    void testParallelParseMatchesSequentialParse(@TempDir Path tempDir) throws IOException {
+        File recipeFile = tempDir.resolve("large.yml").toFile();
+        StringBuilder yamlContent = new StringBuilder();
+        for (int i = 0; i < 200; i++) {
+            yamlContent.append("---\n")
+                    .append("type: specs.openrewrite.org/v1beta/recipe\n")
+                    .append("name: com.example.Recipe").append(i).append("\n")
+                    .append("description: |\n")
+                    .append("  --- 블록 스칼라 안의 텍스트\n")
+                    .append("recipeList:\n")
+                    .append("  - com.example.Step").append(i).append("\n")
+                    .append("  - com.example.Option:\n")
+                    .append("      value: ").append(i).append("\n");
+            if (i % 50 == 0) {
+                yamlContent.append("---\n")
+                        .append("type: specs.openrewrite.org/v1beta/recipe\n")
+                        .append("name: com.example.Invalid").append(i).append("\n")
+                        .append("unknownField: true\n");
+            }
+            if (i % 70 == 0) {
+                yamlContent.append("---\n")
+                        .append("name: com.example.TypeLast").append(i).append("\n")
+                        .append("recipeList:\n")
+                        .append("  - com.example.Step\n")
+                        .append("type: specs.openrewrite.org/v1beta/recipe\n")
+                        .append("---\n")
+                        .append("type: org.yourcompany.openrewrite/v1/merge\n")
+                        .append("name: merge").append(i).append("\n")
+                        .append("rules:\n")
+                        .append("  - updateRecipeList:\n")
+                        .append("      name: com.example.Recipe").append(i).append("\n")
+                        .append("      updateOrder:\n")
+                        .append("        - first:\n")
+                        .append("          - com.example.First\n");
+            }
+        }
+        Files.write(recipeFile.toPath(), yamlContent.toString().getBytes(StandardCharsets.UTF_8));
+
+        YamlParser.RecipeParseResult sequential = yamlParser.parseRecipeFileWithMerge(recipeFile);
+        // 임계값을 낮춰 작은 파일도 구간을 나누어 파싱
+        YamlParser.RecipeParseResult parallel = new YamlParser(4, 0).parseRecipeFileWithMerge(recipeFile);
+
+        assertEquals(203, sequential.getRecipes().size());
+        assertEquals(sequential.getRecipes().size(), parallel.getRecipes().size());
+        for (int i = 0; i < sequential.getRecipes().size(); i++) {
+            RecipeDefinition expected = sequential.getRecipes().get(i);
+            RecipeDefinition actual = parallel.getRecipes().get(i);
+            assertEquals(expected.getName(), actual.getName());
+            assertEquals(expected.getDescription(), actual.getDescription());
+            assertEquals(expected.getRecipeList(), actual.getRecipeList());
+            assertArrayEquals(expected.getSource(), actual.getSource());
+        }
+        assertEquals(3, parallel.getMergeDefinitions().size());
+        for (int i = 0; i < sequential.getMergeDefinitions().size(); i++) {
+            assertEquals(sequential.getMergeDefinitions().get(i).getName(), parallel.getMergeDefinitions().get(i).getName());
+        }
+    }
+
+    @Test
+    void testWriteCopiesUnmodifiedDocumentsVerbatim(@TempDir Path tempDir) throws IOException {
+        File inputFile = tempDir.resolve("input.yml").toFile();
+        File outputFile = tempDir.resolve("output.yml").toFile();
+        // 첫 번째 문서는 '---' 없이 시작
+        String untouched = "# 변경되지 않는 레시피\n" +
+                "type: specs.openrewrite.org/v1beta/recipe\n" +
+                "name: com.example.Untouched\n" +
+                "description: \"따옴표 유지\"\n" +
+                "preconditions:\n" +
+                "  - org.openrewrite.text.Find: {find: x}\n" +
+                "recipeList:\n" +
+                "  - com.example.Step\n";
+        String updated = "---\n" +
+                "# 업데이트되는 레시피\n" +
+                "type: specs.openrewrite.org/v1beta/recipe\n" +
+                "name: com.example.Updated\n" +
+                "recipeList:\n" +
+                "  - com.example.Step\n";
+        String multiKey = "---\n" +
+                "# 키가 여러 개인 항목이 있는 레시피\n" +
+                "type: specs.openrewrite.org/v1beta/recipe\n" +
+                "name: com.example.MultiKey\n" +
+                "recipeList:\n" +
+                "  - {a: 1, b: 2}\n" +
+                "  - com.example.Step\n";
+        Files.write(inputFile.toPath(), (untouched + updated + multiKey).getBytes(StandardCharsets.UTF_8));
+
+        List<RecipeDefinition> recipes = yamlParser.parseRecipeFile(inputFile);
+        assertEquals("---\n" + untouched, new String(recipes.get(0).getSource(), StandardCharsets.UTF_8));
+        assertEquals(updated, new String(recipes.get(1).getSource(), StandardCharsets.UTF_8));
+        // 무시한 항목이 있는 문서는 원본을 그대로 쓸 수 없음
+        assertTrue(recipes.get(2).isModified());
+
+        UpdateRecipeList updateRecipeList = new UpdateRecipeList();
+        updateRecipeList.setName("com.example.Updated");
+        UpdateRecipeList.UpdateOrder updateOrder = new UpdateRecipeList.UpdateOrder();
+        updateOrder.setLast(Arrays.asList(new UpdateEntry(null, Arrays.asList("com.example.Added"))));
+        updateRecipeList.setUpdateOrder(updateOrder);
+        new RecipeListUpdater().updateRecipeList(recipes, updateRecipeList);
+        assertTrue(recipes.get(1).isModified());
+
+        yamlParser.writeRecipes(recipes, outputFile);
+        String output = new String(Files.readAllBytes(outputFile.toPath()), StandardCharsets.UTF_8);
+        assertTrue(output.startsWith("---\n" + untouched), "변경되지 않은 문서는 원본 그대로 복사되어야 합니다.");
+        assertTrue(!output.contains("# 업데이트되는 레시피"), "변경된 문서는 다시 serialize되어야 합니다.");
+        assertTrue(!output.contains("# 키가 여러 개인 항목이 있는 레시피"));
+
+        List<RecipeDefinition> parsedAgain = yamlParser.parseRecipeFile(outputFile);
+        assertEquals(3, parsedAgain.size());
+        assertEquals("따옴표 유지", parsedAgain.get(0).getDescription());
+        assertEquals(recipes.get(0).getPreconditions(), parsedAgain.get(0).getPreconditions());
+        assertEquals(Arrays.asList(new Recipe("com.example.Step"), new Recipe("com.example.Added")),
+                parsedAgain.get(1).getRecipeList());
+        assertEquals(Arrays.asList(new Recipe("com.example.Step")), parsedAgain.get(2).getRecipeList());
+    }
+
+    @Test
+    void testWriteDropsTrailingBlankLinesOfVerbatimDocuments(@TempDir Path tempDir) throws IOException {
+        File inputFile = tempDir.resolve("input.yml").toFile();
+        File outputFile = tempDir.resolve("output.yml").toFile();
+        String first = "---\n" +
+                "type: specs.openrewrite.org/v1beta/recipe\n" +
+                "name: com.example.First\n" +
+                "recipeList:\n" +
+                "  - com.example.Step\n";
+        String kept = "---\n" +
+                "type: specs.openrewrite.org/v1beta/recipe\n" +
+                "name: com.example.Kept\n" +
+                "description: |+\n" +
+                "  끝의 빈 줄 유지\n" +
+                "\n";
+        Files.write(inputFile.toPath(), (first + "\n  \n" + kept + "\n").getBytes(StandardCharsets.UTF_8));
+
+        List<RecipeDefinition> recipes = yamlParser.parseRecipeFile(inputFile);
+        yamlParser.writeRecipes(recipes, outputFile);
+
+        // 문서 사이의 빈 줄은 출력하지 않고, |+ 값의 빈 줄은 유지
+        String output = new String(Files.readAllBytes(outputFile.toPath()), StandardCharsets.UTF_8);
+        assertEquals(first + kept + "\n", output);
+        assertEquals("끝의 빈 줄 유지\n\n\n", yamlParser.parseRecipeFile(outputFile).get(1).getDescription());
+    }
+
+    @Test
+    void testWriteRecipesSkipsUnchangedOutput(@TempDir Path tempDir) throws IOException {
+        File outputFile = tempDir.resolve("output.yml").toFile();
+        RecipeDefinition recipe = new RecipeDefinition();
+        recipe.setType("specs.openrewrite.org/v1beta/recipe");
+        recipe.setName("com.example.RecipeA");
+        recipe.setRecipeList(new ArrayList<>(Arrays.asList(new Recipe("com.example.Step"))));
+
+        assertTrue(yamlParser.writeRecipes(Arrays.asList(recipe), outputFile));
+        FileTime oldTime = FileTime.fromMillis(1_000_000_000_000L);
+        Files.setLastModifiedTime(outputFile.toPath(), oldTime);
+
+        // 같은 내용이면 파일을 건드리지 않음 (수정 시각 유지)
+        assertTrue(!yamlParser.writeRecipes(Arrays.asList(recipe), outputFile));
+        assertEquals(oldTime, Files.getLastModifiedTime(outputFile.toPath()));
+
+        recipe.getRecipeList().add(new Recipe("com.example.Added"));
+        assertTrue(yamlParser.writeRecipes(Arrays.asList(recipe), outputFile));
+        assertEquals(2, yamlParser.parseRecipeFile(outputFile).get(0).getRecipeList().size());
+    }
+}